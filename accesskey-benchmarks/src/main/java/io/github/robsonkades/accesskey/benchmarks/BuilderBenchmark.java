@@ -0,0 +1,71 @@
+package io.github.robsonkades.accesskey.benchmarks;
+
+import io.github.robsonkades.accesskey.AccessKey;
+import io.github.robsonkades.accesskey.AccessKeyBuilder;
+import io.github.robsonkades.accesskey.IssueMode;
+import io.github.robsonkades.accesskey.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cadeia completa do {@link AccessKeyBuilder}, com e sem a geração da chave ao final.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BuilderBenchmark {
+
+    @Param({"NUMERIC", "ALPHANUMERIC"})
+    public Keys.Cnpj cnpj;
+
+    private final YearMonth yearMonth = YearMonth.of(2024, 10);
+    private String[] cnpjs;
+    private int number;
+
+    @Setup
+    public void setUp() {
+        String[] valid = Keys.valid(cnpj);
+        cnpjs = new String[valid.length];
+        for (int i = 0; i < valid.length; i++) {
+            cnpjs[i] = valid[i].substring(6, 20);
+        }
+    }
+
+    @Benchmark
+    public AccessKey build() {
+        return builder().build();
+    }
+
+    @Benchmark
+    public String buildAndGenerate() {
+        return builder().build().generate();
+    }
+
+    private AccessKeyBuilder builder() {
+        final int n = number++;
+        return new AccessKeyBuilder()
+                .state(io.github.robsonkades.accesskey.State.SP)
+                .yearMonth(yearMonth)
+                .cnpj(cnpjs[n & Keys.MASK])
+                .model(Model.NFE)
+                .series(1)
+                .number(n & 0x3FFF_FFFF)
+                .issueMode(IssueMode.NORMAL)
+                .code(12_345_678);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.robsonkades.accesskey.benchmarks;
+
+import io.github.robsonkades.accesskey.AccessKey;
+import io.github.robsonkades.accesskey.AccessKeyGenerator;
+import io.github.robsonkades.accesskey.CheckDigits;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CheckDigits#verify} sobre {@link Keys#SIZE} chaves contíguas, com a Vector API e com o laço
+ * escalar, comparado a {@link AccessKey#isValid} chave a chave. Os resultados são por chave. Exige
+ * Java 17 ou superior para que a versão vetorial do JAR multi-release seja carregada.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class CheckDigitBenchmark {
+
+    @Param({"NUMERIC", "ALPHANUMERIC"})
+    public Keys.Cnpj cnpj;
+
+    private String[] keys;
+    private byte[] records;
+
+    @Setup
+    public void setUp() {
+        keys = Keys.valid(cnpj);
+        records = new byte[Keys.SIZE * AccessKeyGenerator.LENGTH];
+        for (int i = 0; i < Keys.SIZE; i++) {
+            byte[] key = keys[i].getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(key, 0, records, i * AccessKeyGenerator.LENGTH, key.length);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Keys.SIZE)
+    public int vector() {
+        return CheckDigits.verify(records, 0, Keys.SIZE, null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Keys.SIZE)
+    @Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Dio.github.robsonkades.accesskey.vector=false"})
+    public int scalar() {
+        return CheckDigits.verify(records, 0, Keys.SIZE, null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Keys.SIZE)
+    public int isValid() {
+        int valid = 0;
+        for (String key : keys) {
+            valid += AccessKey.isValid(key) ? 1 : 0;
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.robsonkades.accesskey.benchmarks;
+
+import io.github.robsonkades.accesskey.RandomCodeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RandomCodeGenerator} comparado a um {@link SecureRandom} compartilhado consultado a cada código.
+ * O estado é compartilhado entre as threads para medir a disputa; execute com {@code -t max}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CodeBenchmark {
+
+    private final RandomCodeGenerator generator = new RandomCodeGenerator();
+    private final RandomCodeGenerator recent = new RandomCodeGenerator().recentCodes(100_000);
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Benchmark
+    public int generator() {
+        return generator.next(123);
+    }
+
+    @Benchmark
+    public int generatorRecentCodes() {
+        return recent.next("KSP416L8000109", 123);
+    }
+
+    @Benchmark
+    public int secureRandomPerCall() {
+        int code;
+        do {
+            code = secureRandom.nextInt(100_000_000);
+        } while (code == 123);
+        return code;
+    }
+}
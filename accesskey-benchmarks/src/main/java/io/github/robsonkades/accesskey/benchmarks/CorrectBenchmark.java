@@ -0,0 +1,100 @@
+package io.github.robsonkades.accesskey.benchmarks;
+
+import io.github.robsonkades.accesskey.AccessKey;
+import io.github.robsonkades.accesskey.AccessKeyCorrection;
+import io.github.robsonkades.accesskey.AccessKeyCorrector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AccessKeyCorrector} comparado à força bruta com {@link AccessKey#from(String)} e captura
+ * de exceções, em chaves com um caractere trocado ou dois vizinhos invertidos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class CorrectBenchmark {
+
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    @Param({"NUMERIC", "ALPHANUMERIC"})
+    public Keys.Cnpj cnpj;
+
+    private final AccessKeyCorrector corrector = new AccessKeyCorrector();
+    private String[] typed;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        String[] valid = Keys.valid(cnpj);
+        SplittableRandom random = new SplittableRandom(7);
+        typed = new String[valid.length];
+        for (int i = 0; i < valid.length; i++) {
+            char[] chars = valid[i].toCharArray();
+            int position = random.nextInt(43);
+            if (random.nextBoolean()) {
+                char c = chars[position];
+                chars[position] = chars[position + 1];
+                chars[position + 1] = c;
+            } else {
+                chars[position] = (char) ('0' + (chars[position] - '0' + 1 + random.nextInt(9)) % 10);
+            }
+            typed[i] = new String(chars);
+        }
+    }
+
+    @Benchmark
+    public List<AccessKeyCorrection> corrector() {
+        return corrector.correct(typed[index++ & Keys.MASK]);
+    }
+
+    @Benchmark
+    public List<AccessKey> bruteForce() {
+        String key = typed[index++ & Keys.MASK];
+        List<AccessKey> result = new ArrayList<>();
+        char[] chars = key.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            char original = chars[i];
+            for (int j = 0; j < ALPHABET.length(); j++) {
+                chars[i] = ALPHABET.charAt(j);
+                if (chars[i] != original) {
+                    tryParse(chars, result);
+                }
+            }
+            chars[i] = original;
+            if (i + 1 < chars.length && chars[i] != chars[i + 1]) {
+                chars[i] = chars[i + 1];
+                chars[i + 1] = original;
+                tryParse(chars, result);
+                chars[i + 1] = chars[i];
+                chars[i] = original;
+            }
+        }
+        return result;
+    }
+
+    private static void tryParse(final char[] chars, final List<AccessKey> result) {
+        try {
+            result.add(AccessKey.from(new String(chars)));
+        } catch (RuntimeException e) {
+            // candidata inválida: AccessKeyException ou exceção do CNPJ
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.robsonkades.accesskey.benchmarks;
+
+import io.github.robsonkades.accesskey.AccessKey;
+import io.github.robsonkades.accesskey.AccessKeyGenerator;
+import io.github.robsonkades.accesskey.IssueMode;
+import io.github.robsonkades.accesskey.Model;
+import io.github.robsonkades.accesskey.NumberGapDetector;
+import io.github.robsonkades.accesskey.PackedAccessKey;
+import io.github.robsonkades.cnpj.CNPJ;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NumberGapDetector} comparado a um {@link TreeSet} de {@link Integer} por série, a
+ * implementação anterior. Cada invocação registra um lote de chaves de uma única série, embaralhadas
+ * em blocos de até 1.000 números e com cerca de 1% de números pulados, e percorre as lacunas.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class GapBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private PackedAccessKey[] keys;
+    private String[] strings;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(24);
+        keys = new PackedAccessKey[size];
+        strings = new String[size];
+        int number = 1;
+        for (int i = 0; i < size; i++) {
+            number += random.nextInt(100) == 0 ? 2 : 1;
+            strings[i] = AccessKeyGenerator.generate(AccessKey.of(io.github.robsonkades.accesskey.State.SP, 2410,
+                    CNPJ.of("KSP416L8000109"), Model.NFE, 1, number, IssueMode.NORMAL, 12345678));
+            keys[i] = PackedAccessKey.of(strings[i]);
+        }
+        for (int block = 0; block < size; block += 1_000) {
+            for (int i = Math.min(size, block + 1_000) - 1; i > block; i--) {
+                int j = block + random.nextInt(i - block + 1);
+                PackedAccessKey key = keys[i];
+                keys[i] = keys[j];
+                keys[j] = key;
+                String string = strings[i];
+                strings[i] = strings[j];
+                strings[j] = string;
+            }
+        }
+    }
+
+    @Benchmark
+    public long detector() {
+        NumberGapDetector detector = new NumberGapDetector();
+        for (PackedAccessKey key : keys) {
+            detector.add(key);
+        }
+        long[] missing = new long[1];
+        detector.forEachSeries(series -> series.forEachGap((first, last) -> missing[0] += last - first + 1));
+        return missing[0];
+    }
+
+    @Benchmark
+    public long detectorStrings() {
+        NumberGapDetector detector = new NumberGapDetector();
+        for (String key : strings) {
+            detector.add(key);
+        }
+        long[] missing = new long[1];
+        detector.forEachSeries(series -> series.forEachGap((first, last) -> missing[0] += last - first + 1));
+        return missing[0];
+    }
+
+    @Benchmark
+    public long treeSet() {
+        Map<String, TreeSet<Integer>> series = new HashMap<>();
+        for (PackedAccessKey key : keys) {
+            series.computeIfAbsent(key.getCnpj() + key.getModelCode() + '-' + key.getSeries(), id -> new TreeSet<>())
+                    .add(key.getNumber());
+        }
+        long missing = 0;
+        for (TreeSet<Integer> numbers : series.values()) {
+            int previous = numbers.first() - 1;
+            for (int number : numbers) {
+                missing += number - previous - 1;
+                previous = number;
+            }
+        }
+        return missing;
+    }
+}
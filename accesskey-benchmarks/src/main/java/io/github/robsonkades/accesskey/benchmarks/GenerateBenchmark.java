@@ -0,0 +1,85 @@
+package io.github.robsonkades.accesskey.benchmarks;
+
+import io.github.robsonkades.accesskey.AccessKey;
+import io.github.robsonkades.accesskey.AccessKeyGenerator;
+import io.github.robsonkades.accesskey.AccessKeyTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AccessKeyGenerator#generate} para {@link String} e para buffers fornecidos pelo chamador, e
+ * {@link AccessKeyTemplate} com o prefixo do emitente pré-calculado.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class GenerateBenchmark {
+
+    @Param({"NUMERIC", "ALPHANUMERIC"})
+    public Keys.Cnpj cnpj;
+
+    private AccessKey[] keys;
+    private AccessKeyTemplate template;
+    private final char[] chars = new char[AccessKeyGenerator.LENGTH];
+    private final byte[] bytes = new byte[AccessKeyGenerator.LENGTH];
+    private int index;
+
+    @Setup
+    public void setUp() {
+        String[] valid = Keys.valid(cnpj);
+        keys = new AccessKey[valid.length];
+        for (int i = 0; i < valid.length; i++) {
+            keys[i] = AccessKey.from(valid[i]);
+        }
+        template = AccessKeyTemplate.builder()
+                .state(keys[0].getState())
+                .cnpj(keys[0].getCnpj())
+                .model(keys[0].getModel())
+                .series(keys[0].getSeries().getCode())
+                .build();
+    }
+
+    @Benchmark
+    public String string() {
+        return AccessKeyGenerator.generate(keys[index++ & Keys.MASK]);
+    }
+
+    @Benchmark
+    public char[] charArray() {
+        AccessKeyGenerator.generate(keys[index++ & Keys.MASK], chars, 0);
+        return chars;
+    }
+
+    @Benchmark
+    public byte[] byteArray() {
+        AccessKeyGenerator.generate(keys[index++ & Keys.MASK], bytes, 0);
+        return bytes;
+    }
+
+    @Benchmark
+    public String templateString() {
+        AccessKey key = keys[index++ & Keys.MASK];
+        return template.generate(key.getNumber().getCode(), key.getIssueMode(), key.getCode().getCode());
+    }
+
+    @Benchmark
+    public byte[] templateByteArray() {
+        AccessKey key = keys[index++ & Keys.MASK];
+        template.generate(key.getNumber().getCode(), key.getIssueMode(), key.getCode().getCode(), bytes, 0);
+        return bytes;
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.robsonkades.accesskey.benchmarks;
+
+import io.github.robsonkades.accesskey.AccessKey;
+import io.github.robsonkades.accesskey.AccessKeyIndex;
+import io.github.robsonkades.accesskey.IssueMode;
+import io.github.robsonkades.accesskey.Model;
+import io.github.robsonkades.accesskey.PackedAccessKey;
+import io.github.robsonkades.cnpj.CNPJ;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consulta por CNPJ, ano/mês, modelo, série e faixa de 1.000 números no {@link AccessKeyIndex}
+ * comparada à varredura completa de {@link AccessKey}s. As chaves são distribuídas entre 3 emitentes,
+ * 12 meses e 3 séries, com 2% dos números fora de ordem.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class IndexBenchmark {
+
+    private static final String[] CNPJS = {"11222333000181", "KSP416L8000109", "06546178000119"};
+
+    @Param({"2000000"})
+    public int size;
+
+    private AccessKeyIndex index;
+    private AccessKey[] keys;
+    private final YearMonth yearMonth = YearMonth.of(2024, 10);
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(25);
+        index = new AccessKeyIndex();
+        keys = new AccessKey[size];
+        int[] numbers = new int[CNPJS.length * 12 * 3];
+        for (int i = 0; i < size; i++) {
+            int cnpj = random.nextInt(CNPJS.length);
+            int month = random.nextInt(12);
+            int series = random.nextInt(3);
+            int group = (cnpj * 12 + month) * 3 + series;
+            int number = random.nextInt(50) == 0 ? Math.max(1, numbers[group] - random.nextInt(500)) : ++numbers[group];
+            keys[i] = AccessKey.of(io.github.robsonkades.accesskey.State.SP, 2400 + month + 1, CNPJ.of(CNPJS[cnpj]),
+                    Model.NFE, series, number, IssueMode.NORMAL, random.nextInt(100_000_000));
+            index.add(keys[i]);
+        }
+    }
+
+    @Benchmark
+    public List<PackedAccessKey> index() {
+        return index.query(CNPJS[1]).yearMonth(yearMonth).model(Model.NFE).series(1).numbers(1000, 2000).list();
+    }
+
+    @Benchmark
+    public long indexCount() {
+        return index.query(CNPJS[1]).yearMonth(yearMonth).model(Model.NFE).series(1).numbers(1000, 2000).count();
+    }
+
+    @Benchmark
+    public List<AccessKey> scan() {
+        List<AccessKey> found = new ArrayList<>();
+        for (AccessKey key : keys) {
+            if (key.getCnpj().getValue().equals(CNPJS[1])
+                    && key.getYearMonth().equals(yearMonth)
+                    && key.getModel() == Model.NFE
+                    && key.getSeries().getCode() == 1
+                    && key.getNumber().getCode() >= 1000
+                    && key.getNumber().getCode() <= 2000) {
+                found.add(key);
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.robsonkades.accesskey.benchmarks;
+
+import io.github.robsonkades.accesskey.AccessKeyBuilder;
+import io.github.robsonkades.accesskey.IssueMode;
+import io.github.robsonkades.accesskey.Model;
+import io.github.robsonkades.accesskey.State;
+
+import java.time.YearMonth;
+import java.util.SplittableRandom;
+
+/**
+ * Massa de dados dos benchmarks: chaves válidas com CNPJ numérico ou alfanumérico e chaves com DV
+ * incorreto. Os dados são gerados com semente fixa para que as execuções sejam comparáveis.
+ */
+public final class Keys {
+
+    /**
+     * Quantidade de chaves por conjunto; potência de 2 para que o índice seja obtido com máscara.
+     */
+    static final int SIZE = 1 << 12;
+
+    static final int MASK = SIZE - 1;
+
+    private static final String ALPHANUMERIC = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private Keys() {
+        // empty constructor
+    }
+
+    /**
+     * Tipo de CNPJ usado na geração das chaves.
+     */
+    public enum Cnpj {
+        NUMERIC(10),
+        ALPHANUMERIC(36);
+
+        private final int radix;
+
+        Cnpj(final int radix) {
+            this.radix = radix;
+        }
+    }
+
+    static String[] valid(final Cnpj type) {
+        SplittableRandom random = new SplittableRandom(type.ordinal() + 42L);
+        State[] states = State.values();
+        Model[] models = Model.values();
+        IssueMode[] modes = IssueMode.values();
+
+        String[] keys = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            keys[i] = new AccessKeyBuilder()
+                    .state(states[random.nextInt(states.length)])
+                    .yearMonth(YearMonth.of(2020 + random.nextInt(10), 1 + random.nextInt(12)))
+                    .cnpj(cnpj(random, type.radix))
+                    .model(models[random.nextInt(models.length)])
+                    .series(random.nextInt(1_000))
+                    .number(random.nextInt(1_000_000_000))
+                    .issueMode(modes[random.nextInt(modes.length)])
+                    .code(random.nextInt(100_000_000))
+                    .build()
+                    .generate();
+        }
+        return keys;
+    }
+
+    /**
+     * Copia as chaves trocando o DV por um valor incorreto.
+     */
+    static String[] badCheckDigit(final String[] keys) {
+        String[] bad = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int dv = keys[i].charAt(43) - '0';
+            bad[i] = keys[i].substring(0, 43) + (char) ('0' + (dv + 1) % 10);
+        }
+        return bad;
+    }
+
+    private static String cnpj(final SplittableRandom random, final int radix) {
+        char[] chars = new char[14];
+        for (int i = 0; i < 8; i++) {
+            chars[i] = ALPHANUMERIC.charAt(random.nextInt(radix));
+        }
+        chars[8] = '0';
+        chars[9] = '0';
+        chars[10] = '0';
+        chars[11] = (char) ('1' + random.nextInt(9));
+        chars[12] = cnpjCheckDigit(chars, 12);
+        chars[13] = cnpjCheckDigit(chars, 13);
+        return new String(chars);
+    }
+
+    private static char cnpjCheckDigit(final char[] chars, final int length) {
+        int sum = 0;
+        int weight = 2;
+        for (int i = length - 1; i >= 0; i--) {
+            sum += (chars[i] - '0') * weight;
+            weight = (weight == 9) ? 2 : weight + 1;
+        }
+        int mod = sum % 11;
+        return (char) ('0' + ((mod < 2) ? 0 : 11 - mod));
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.robsonkades.accesskey.benchmarks;
+
+import io.github.robsonkades.accesskey.IssueMode;
+import io.github.robsonkades.accesskey.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code fromCode} e {@code decode} de {@link io.github.robsonkades.accesskey.State}, {@link Model} e {@link IssueMode}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class LookupBenchmark {
+
+    private static final int[] STATE_CODES = {12, 27, 16, 13, 29, 23, 53, 32, 52, 21, 51, 50, 31, 15, 25, 41,
+            26, 22, 33, 24, 43, 11, 14, 42, 35, 28, 17};
+    private static final String[] STATE_STRINGS = {"12", "35", "43", "53", "11", "17", "31", "41"};
+    private static final int[] MODEL_CODES = {55, 65, 57, 58};
+    private static final String[] MODEL_STRINGS = {"55", "65", "57", "58"};
+    private static final String[] ISSUE_MODE_STRINGS = {"1", "2", "3", "4", "5", "6", "7"};
+    private static final String KEYS = "1235435311173141";
+    private static final String MODELS = "55655758";
+
+    private int index;
+
+    @Benchmark
+    public Object stateFromInt() {
+        return io.github.robsonkades.accesskey.State.fromCode(STATE_CODES[Math.floorMod(index++, STATE_CODES.length)]);
+    }
+
+    @Benchmark
+    public Object stateFromString() {
+        return io.github.robsonkades.accesskey.State.fromCode(STATE_STRINGS[index++ & 7]);
+    }
+
+    @Benchmark
+    public Model modelFromInt() {
+        return Model.fromCode(MODEL_CODES[index++ & 3]);
+    }
+
+    @Benchmark
+    public Model modelFromString() {
+        return Model.fromCode(MODEL_STRINGS[index++ & 3]);
+    }
+
+    @Benchmark
+    public IssueMode issueModeFromInt() {
+        return IssueMode.fromCode(1 + Math.floorMod(index++, 7));
+    }
+
+    @Benchmark
+    public IssueMode issueModeFromString() {
+        return IssueMode.fromCode(ISSUE_MODE_STRINGS[Math.floorMod(index++, 7)]);
+    }
+
+    @Benchmark
+    public Object stateDecode() {
+        return io.github.robsonkades.accesskey.State.decode(KEYS, (index++ & 7) * 2);
+    }
+
+    @Benchmark
+    public Model modelDecode() {
+        return Model.decode(MODELS, (index++ & 3) * 2);
+    }
+
+    @Benchmark
+    public IssueMode issueModeDecode() {
+        return IssueMode.decode(KEYS, index++ & 7);
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.robsonkades.accesskey.benchmarks;
+
+import io.github.robsonkades.accesskey.AccessKey;
+import io.github.robsonkades.accesskey.AccessKeyBuilder;
+import io.github.robsonkades.accesskey.AccessKeyException;
+import io.github.robsonkades.accesskey.AccessKeyGenerator;
+import io.github.robsonkades.accesskey.CnpjCache;
+import io.github.robsonkades.accesskey.IssueMode;
+import io.github.robsonkades.accesskey.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AccessKey#from(String)} e {@link AccessKey#isValid(CharSequence)} com chaves válidas e com DV incorreto.
+ *
+ * <p>{@link #legacy()} reproduz o caminho anterior ao parser de varredura única (regex, substrings,
+ * {@link YearMonth#parse} e regeração da chave para obter o DV) e serve de linha de base.
+ * {@link #validCached()} usa um {@link CnpjCache} que comporta todos os CNPJs das chaves.
+ * {@link #lazy()} valida sem decodificar os campos e {@link #lazyForward()} repassa a chave de origem.
+ * {@link #validBytes()} e {@link #decodeThenParse()} comparam a leitura direta de bytes ASCII com a
+ * decodificação para {@link String} antes da conversão.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ParseBenchmark {
+
+    private static final DateTimeFormatter YY_MM = DateTimeFormatter.ofPattern("yyMM");
+
+    @Param({"NUMERIC", "ALPHANUMERIC"})
+    public Keys.Cnpj cnpj;
+
+    private String[] valid;
+    private String[] badCheckDigit;
+    private byte[] bytes;
+    private final CnpjCache cnpjCache = new CnpjCache(4 * Keys.SIZE);
+    private int index;
+
+    @Setup
+    public void setUp() {
+        valid = Keys.valid(cnpj);
+        badCheckDigit = Keys.badCheckDigit(valid);
+        bytes = new byte[Keys.SIZE * AccessKeyGenerator.LENGTH];
+        for (int i = 0; i < Keys.SIZE; i++) {
+            System.arraycopy(valid[i].getBytes(StandardCharsets.US_ASCII), 0, bytes, i * AccessKeyGenerator.LENGTH, AccessKeyGenerator.LENGTH);
+        }
+    }
+
+    @Benchmark
+    public AccessKey valid() {
+        return AccessKey.from(valid[index++ & Keys.MASK]);
+    }
+
+    @Benchmark
+    public AccessKey validCached() {
+        return AccessKey.from(valid[index++ & Keys.MASK], cnpjCache);
+    }
+
+    @Benchmark
+    public AccessKey lazy() {
+        return AccessKey.lazy(valid[index++ & Keys.MASK]);
+    }
+
+    @Benchmark
+    public String lazyForward() {
+        return AccessKey.lazy(valid[index++ & Keys.MASK]).generate();
+    }
+
+    @Benchmark
+    public AccessKey validBytes() {
+        return AccessKey.from(bytes, (index++ & Keys.MASK) * AccessKeyGenerator.LENGTH, AccessKeyGenerator.LENGTH);
+    }
+
+    @Benchmark
+    public AccessKey decodeThenParse() {
+        return AccessKey.from(new String(bytes, (index++ & Keys.MASK) * AccessKeyGenerator.LENGTH, AccessKeyGenerator.LENGTH,
+                StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public Object badCheckDigit() {
+        try {
+            return AccessKey.from(badCheckDigit[index++ & Keys.MASK]);
+        } catch (AccessKeyException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return AccessKey.isValid(valid[index++ & Keys.MASK]);
+    }
+
+    @Benchmark
+    public boolean isValidBadCheckDigit() {
+        return AccessKey.isValid(badCheckDigit[index++ & Keys.MASK]);
+    }
+
+    @Benchmark
+    public AccessKey legacy() {
+        return legacyFrom(valid[index++ & Keys.MASK]);
+    }
+
+    private static AccessKey legacyFrom(final String key) {
+        if (!key.matches("[A-Z0-9]{44}")) {
+            throw new AccessKeyException("A chave de acesso deve conter exatamente 44 caracteres alfanuméricos.");
+        }
+        AccessKey parsed = new AccessKeyBuilder()
+                .state(io.github.robsonkades.accesskey.State.fromCode(key.substring(0, 2)))
+                .yearMonth(YearMonth.parse(key.substring(2, 6), YY_MM))
+                .cnpj(key.substring(6, 20))
+                .model(Model.fromCode(key.substring(20, 22)))
+                .series(Integer.parseInt(key.substring(22, 25)))
+                .number(Integer.parseInt(key.substring(25, 34)))
+                .issueMode(IssueMode.fromCode(key.substring(34, 35)))
+                .code(Integer.parseInt(key.substring(35, 43)))
+                .build();
+        int dv = Character.digit(key.charAt(43), 10);
+        if (dv != AccessKeyGenerator.generate(parsed).charAt(43) - '0') {
+            throw new AccessKeyException("Chave de acesso inválida.");
+        }
+        return parsed;
+    }
+}
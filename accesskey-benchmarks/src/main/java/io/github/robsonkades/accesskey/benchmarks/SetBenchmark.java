@@ -0,0 +1,60 @@
+package io.github.robsonkades.accesskey.benchmarks;
+
+import io.github.robsonkades.accesskey.AccessKeySet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code contains} de {@link AccessKeySet} comparado a {@link HashSet} de {@link String}, com metade
+ * das consultas encontrando a chave.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SetBenchmark {
+
+    @Param({"NUMERIC", "ALPHANUMERIC"})
+    public Keys.Cnpj cnpj;
+
+    private String[] keys;
+    private AccessKeySet accessKeySet;
+    private Set<String> hashSet;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        keys = Keys.valid(cnpj);
+        accessKeySet = new AccessKeySet(keys.length / 2);
+        hashSet = new HashSet<>();
+        for (int i = 0; i < keys.length; i += 2) {
+            accessKeySet.add(keys[i]);
+            hashSet.add(keys[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean accessKeySet() {
+        return accessKeySet.contains(keys[index++ & Keys.MASK]);
+    }
+
+    @Benchmark
+    public boolean hashSet() {
+        return hashSet.contains(keys[index++ & Keys.MASK]);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.robsonkades.accesskey.benchmarks;
+
+import io.github.robsonkades.accesskey.AccessKeyOrder;
+import io.github.robsonkades.accesskey.AccessKeySorter;
+import io.github.robsonkades.accesskey.PackedAccessKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AccessKeySorter} sobre chaves compactadas comparado a {@link Arrays#sort} de {@link String}s
+ * e de {@link PackedAccessKey}s com {@link AccessKeyOrder#packedComparator()}. Cada invocação ordena
+ * uma cópia do lote original.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class SortBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"EMITTER", "YEAR_MONTH"})
+    public AccessKeyOrder order;
+
+    private long[] packed;
+    private String[] strings;
+    private PackedAccessKey[] objects;
+    private long[] packedCopy;
+    private String[] stringsCopy;
+    private PackedAccessKey[] objectsCopy;
+    private AccessKeySorter sorter;
+
+    @Setup
+    public void setUp() {
+        String[] valid = Keys.valid(Keys.Cnpj.ALPHANUMERIC);
+        SplittableRandom random = new SplittableRandom(11);
+        packed = new long[size * PackedAccessKey.LONGS];
+        strings = new String[size];
+        objects = new PackedAccessKey[size];
+        for (int i = 0; i < size; i++) {
+            strings[i] = valid[random.nextInt(valid.length)];
+            objects[i] = PackedAccessKey.of(strings[i]);
+            objects[i].writeTo(packed, i * PackedAccessKey.LONGS);
+        }
+        sorter = new AccessKeySorter().order(order);
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        packedCopy = packed.clone();
+        stringsCopy = strings.clone();
+        objectsCopy = objects.clone();
+    }
+
+    @Benchmark
+    public long[] radix() {
+        sorter.sort(packedCopy, 0, size);
+        return packedCopy;
+    }
+
+    @Benchmark
+    public PackedAccessKey[] comparator() {
+        Arrays.sort(objectsCopy, order.packedComparator());
+        return objectsCopy;
+    }
+
+    @Benchmark
+    public String[] strings() {
+        Arrays.sort(stringsCopy);
+        return stringsCopy;
+    }
+}
@@ -2,6 +2,7 @@ package io.github.robsonkades.accesskey;
 
 import io.github.robsonkades.cnpj.CNPJ;
 
+import java.nio.ByteBuffer;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
@@ -19,6 +20,11 @@ public class AccessKey {
     private final IssueMode issueMode;
     private final Code code;
 
+    // calculados sob demanda; os valores são imutáveis, então a publicação sem sincronização é segura
+    private String generated;
+    private PackedAccessKey packed;
+    private int hash;
+
     AccessKey(final State state,
               final YearMonth yearMonth,
               final CNPJ cnpj,
@@ -38,35 +44,261 @@ public class AccessKey {
         this.code = Objects.requireNonNull(code, "O código numérico é obrigatório.");
     }
 
+    /**
+     * Construtor das subclasses que decodificam os campos sob demanda. Os campos ficam {@code null},
+     * por isso as subclasses devem sobrescrever todos os getters, {@link #generate()} e
+     * {@link #source()}.
+     */
+    AccessKey() {
+        this.state = null;
+        this.yearMonth = null;
+        this.cnpj = null;
+        this.model = null;
+        this.series = null;
+        this.number = null;
+        this.issueMode = null;
+        this.code = null;
+    }
+
     public static AccessKey from(final String key) {
-        if (key == null || !key.matches("[A-Z0-9]{44}")) {
-            throw new AccessKeyException("A chave de acesso deve conter exatamente 44 caracteres alfanuméricos.");
-        }
+        return AccessKeyParser.parse(key);
+    }
+
+    public static AccessKey from(final CharSequence key) {
+        return AccessKeyParser.parse(key);
+    }
+
+    /**
+     * Valida a chave e devolve uma {@link AccessKey} que a guarda como {@link String} e só decodifica
+     * cada campo quando o getter correspondente é chamado pela primeira vez; {@link #generate()}
+     * devolve a própria chave, sem recalcular nada.
+     *
+     * <p>Indicado quando a maioria das chaves é apenas validada e repassada, ou quando só alguns
+     * campos são lidos.</p>
+     *
+     * @param key chave com 44 caracteres
+     * @return chave de acesso com decodificação sob demanda
+     * @throws AccessKeyException se a chave for inválida
+     */
+    public static AccessKey lazy(final CharSequence key) {
+        AccessKeyParser.requireValid(key);
+        return new LazyAccessKey(key.toString());
+    }
 
-        State state = State.fromCode(key.substring(0, 2));
-        YearMonth yearMonth = YearMonth.parse(key.substring(2, 6), DATE_TIME_FORMATTER);
-        CNPJ cnpj = CNPJ.of(key.substring(6, 20));
-        Model model = Model.fromCode(key.substring(20, 22));
-        Series series = new Series(Integer.parseInt(key.substring(22, 25)));
-        Number number = new Number(Integer.parseInt(key.substring(25, 34)));
-        IssueMode issueMode = IssueMode.fromCode(key.substring(34, 35));
-        Code code = new Code(Integer.parseInt(key.substring(35, 43)));
-        int dv = Character.digit(key.charAt(43), 10);
-
-        AccessKey parsed = new AccessKey(state, yearMonth, cnpj, model, series, number, issueMode, code);
-        int calculatedDv = AccessKeyGenerator.generate(parsed).charAt(43) - '0';
-
-        if (dv != calculatedDv) {
-            throw new AccessKeyException(
-                    String.format("Chave de acesso inválida. Esperado DV=%d mas foi encontrado %d.", calculatedDv, dv)
-            );
+    /**
+     * Converte a chave gravada como bytes ASCII, sem decodificar para {@link String}.
+     *
+     * @param bytes  origem
+     * @param offset posição do primeiro byte da chave
+     * @param length quantidade de bytes da chave (deve ser 44 para a chave ser válida)
+     * @return chave de acesso
+     * @throws AccessKeyException        se a chave for inválida
+     * @throws IndexOutOfBoundsException se o intervalo estiver fora de {@code bytes}
+     */
+    public static AccessKey from(final byte[] bytes, final int offset, final int length) {
+        return AccessKeyParser.parse(ascii(bytes, offset, length));
+    }
+
+    /**
+     * Converte a chave gravada como bytes ASCII em {@code buffer}, baseado em array ou direto. Usa
+     * posições absolutas: a posição e o limite do buffer não são alterados.
+     *
+     * @param buffer origem
+     * @param index  posição absoluta do primeiro byte da chave
+     * @param length quantidade de bytes da chave (deve ser 44 para a chave ser válida)
+     * @return chave de acesso
+     * @throws AccessKeyException        se a chave for inválida
+     * @throws IndexOutOfBoundsException se o intervalo estiver fora do limite do buffer
+     */
+    public static AccessKey from(final ByteBuffer buffer, final int index, final int length) {
+        return AccessKeyParser.parse(ascii(buffer, index, length));
+    }
+
+    /**
+     * Cria a chave de acesso a partir de valores primitivos, validando-os sem criar objetos
+     * intermediários: série, números pequenos e ano/mês são instâncias compartilhadas.
+     *
+     * @param state     UF do emitente
+     * @param yymm      ano e mês de emissão no formato AAMM (ex: 2410)
+     * @param cnpj      CNPJ do emitente
+     * @param model     modelo do documento
+     * @param series    série (0 a 999)
+     * @param number    número do documento (0 a 999.999.999)
+     * @param issueMode tipo de emissão
+     * @param code      código numérico (0 a 99.999.999)
+     * @return chave de acesso
+     * @throws AccessKeyException se algum valor estiver fora da faixa
+     */
+    public static AccessKey of(final State state,
+                               final int yymm,
+                               final CNPJ cnpj,
+                               final Model model,
+                               final int series,
+                               final int number,
+                               final IssueMode issueMode,
+                               final int code) {
+        final int month = yymm % 100;
+        if (yymm < 0 || yymm > 9_999 || month < 1 || month > 12) {
+            throw new AccessKeyException("Ano e mês de emissão inválidos: " + yymm);
         }
-        return parsed;
+        return new AccessKey(state, AccessKeyParser.yearMonth(yymm / 100, month), cnpj, model,
+                Series.of(series), Number.of(number), issueMode, new Code(code));
+    }
+
+    /**
+     * Converte a chave reutilizando os CNPJs já validados de {@code cache}.
+     *
+     * @param key   chave com 44 caracteres
+     * @param cache cache de CNPJs
+     * @return chave de acesso
+     * @throws AccessKeyException se a chave for inválida
+     */
+    public static AccessKey from(final CharSequence key, final CnpjCache cache) {
+        return AccessKeyParser.parse(key, Objects.requireNonNull(cache, "O cache de CNPJ é obrigatório."));
+    }
+
+    /**
+     * Verifica se a chave de acesso é válida sem criar objetos nem lançar exceções.
+     *
+     * <p>Indicado para rejeitar entradas inválidas em grande volume. Além das regras de
+     * {@link #from(CharSequence)}, o CNPJ é verificado pelos seus dígitos verificadores.</p>
+     *
+     * @param key chave a verificar (pode ser {@code null})
+     * @return {@code true} se tamanho, alfabeto, UF, mês, CNPJ, modelo, tipo de emissão e DV forem válidos
+     */
+    public static boolean isValid(final CharSequence key) {
+        return AccessKeyParser.isValid(key);
+    }
+
+    /**
+     * Equivalente a {@link #isValid(CharSequence)} para bytes ASCII.
+     *
+     * @param bytes  origem
+     * @param offset posição do primeiro byte da chave
+     * @param length quantidade de bytes da chave
+     * @return {@code true} se a chave for válida
+     * @throws IndexOutOfBoundsException se o intervalo estiver fora de {@code bytes}
+     */
+    public static boolean isValid(final byte[] bytes, final int offset, final int length) {
+        return AccessKeyParser.isValid(ascii(bytes, offset, length));
+    }
+
+    /**
+     * Equivalente a {@link #isValid(CharSequence)} para bytes ASCII em {@code buffer}, lidos em
+     * posições absolutas.
+     *
+     * @param buffer origem
+     * @param index  posição absoluta do primeiro byte da chave
+     * @param length quantidade de bytes da chave
+     * @return {@code true} se a chave for válida
+     * @throws IndexOutOfBoundsException se o intervalo estiver fora do limite do buffer
+     */
+    public static boolean isValid(final ByteBuffer buffer, final int index, final int length) {
+        return AccessKeyParser.isValid(ascii(buffer, index, length));
+    }
+
+    /**
+     * Valida a chave sem lançar exceções, registrando em {@code result} o motivo e a posição da
+     * primeira falha encontrada.
+     *
+     * @param key    chave a verificar (pode ser {@code null})
+     * @param result resultado a preencher; pode ser reutilizado entre chamadas
+     * @return {@code true} se a chave for válida
+     */
+    public static boolean validate(final CharSequence key, final AccessKeyValidation result) {
+        return AccessKeyParser.validate(key, Objects.requireNonNull(result, "O resultado da validação é obrigatório."));
     }
 
+    /**
+     * Equivalente a {@link #validate(CharSequence, AccessKeyValidation)} para bytes ASCII. A posição
+     * registrada em {@code result} é relativa a {@code offset}.
+     *
+     * @param bytes  origem
+     * @param offset posição do primeiro byte da chave
+     * @param length quantidade de bytes da chave
+     * @param result resultado a preencher; pode ser reutilizado entre chamadas
+     * @return {@code true} se a chave for válida
+     * @throws IndexOutOfBoundsException se o intervalo estiver fora de {@code bytes}
+     */
+    public static boolean validate(final byte[] bytes, final int offset, final int length, final AccessKeyValidation result) {
+        return validate(ascii(bytes, offset, length), result);
+    }
+
+    /**
+     * Equivalente a {@link #validate(CharSequence, AccessKeyValidation)} para bytes ASCII em
+     * {@code buffer}, lidos em posições absolutas. A posição registrada em {@code result} é relativa
+     * a {@code index}.
+     *
+     * @param buffer origem
+     * @param index  posição absoluta do primeiro byte da chave
+     * @param length quantidade de bytes da chave
+     * @param result resultado a preencher; pode ser reutilizado entre chamadas
+     * @return {@code true} se a chave for válida
+     * @throws IndexOutOfBoundsException se o intervalo estiver fora do limite do buffer
+     */
+    public static boolean validate(final ByteBuffer buffer, final int index, final int length, final AccessKeyValidation result) {
+        return validate(ascii(buffer, index, length), result);
+    }
+
+    /**
+     * Converte a chave sem lançar exceções para chaves inválidas. A chave é lida uma única vez; um
+     * CNPJ recusado pela biblioteca de CNPJ é informado como {@link AccessKeyError#CNPJ}.
+     *
+     * @param key    chave a converter (pode ser {@code null})
+     * @param result resultado a preencher; pode ser reutilizado entre chamadas
+     * @return chave de acesso ou {@code null} se a chave for inválida
+     */
+    public static AccessKey tryFrom(final CharSequence key, final AccessKeyValidation result) {
+        return AccessKeyParser.tryParse(key, Objects.requireNonNull(result, "O resultado da validação é obrigatório."));
+    }
+
+    private static AsciiSequence ascii(final byte[] bytes, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return new AsciiSequence().wrap(bytes, offset, length);
+    }
+
+    private static AsciiSequence ascii(final ByteBuffer buffer, final int index, final int length) {
+        Objects.checkFromIndexSize(index, length, buffer.limit());
+        if (buffer.hasArray()) {
+            return new AsciiSequence().wrap(buffer.array(), buffer.arrayOffset() + index, length);
+        }
+        return new AsciiSequence().wrap(buffer, index, length);
+    }
 
+    /**
+     * Gera a chave com 44 caracteres. O resultado é calculado na primeira chamada e reaproveitado nas
+     * seguintes.
+     *
+     * @return chave de acesso com 44 caracteres
+     */
     public String generate() {
-        return AccessKeyGenerator.generate(this);
+        String generated = this.generated;
+        if (generated == null) {
+            this.generated = generated = AccessKeyGenerator.generate(this);
+        }
+        return generated;
+    }
+
+    /**
+     * Usado por {@link AccessKeyGenerator} para copiar a chave em vez de montá-la campo a campo. O
+     * cache de {@link #generate()} não é final e pode não ser visto por outra thread; nesse caso a
+     * chave é apenas montada de novo.
+     *
+     * @return chave já gerada ou {@code null} se ainda não tiver sido calculada
+     */
+    String source() {
+        return generated;
+    }
+
+    /**
+     * Forma compacta usada por {@link #equals(Object)} e {@link #hashCode()}, calculada uma vez.
+     */
+    PackedAccessKey packed() {
+        PackedAccessKey packed = this.packed;
+        if (packed == null) {
+            this.packed = packed = PackedAccessKey.pack(generate());
+        }
+        return packed;
     }
 
     public State getState() {
@@ -101,17 +333,38 @@ public class AccessKey {
         return code;
     }
 
+    /**
+     * Duas chaves são iguais quando geram a mesma chave de 44 caracteres, independentemente de como
+     * foram criadas ({@link #from(String)}, {@link AccessKeyBuilder}, {@link #lazy(CharSequence)}).
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AccessKey)) return false;
+        AccessKey other = (AccessKey) o;
+        return hashCode() == other.hashCode() && packed().equals(other.packed());
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+        if (hash == 0) {
+            this.hash = hash = packed().hashCode();
+        }
+        return hash;
+    }
+
     @Override
     public String toString() {
         return "AccessKey{" +
-                "state=" + state +
-                ", yearMonth=" + yearMonth +
-                ", cnpj=" + cnpj +
-                ", model=" + model +
-                ", series=" + series +
-                ", number=" + number +
-                ", issueMode=" + issueMode +
-                ", code=" + code +
+                "state=" + getState() +
+                ", yearMonth=" + getYearMonth() +
+                ", cnpj=" + getCnpj() +
+                ", model=" + getModel() +
+                ", series=" + getSeries() +
+                ", number=" + getNumber() +
+                ", issueMode=" + getIssueMode() +
+                ", code=" + getCode() +
                 '}';
     }
 }
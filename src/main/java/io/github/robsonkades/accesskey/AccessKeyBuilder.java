@@ -2,6 +2,7 @@ package io.github.robsonkades.accesskey;
 
 import io.github.robsonkades.cnpj.CNPJ;
 
+import java.nio.CharBuffer;
 import java.time.YearMonth;
 
 public final class AccessKeyBuilder {
@@ -14,6 +15,7 @@ public final class AccessKeyBuilder {
     private Number number;
     private IssueMode issueMode;
     private Code code;
+    private CodeStrategy codeStrategy;
 
     public AccessKeyBuilder state(final State state) {
         this.state = state;
@@ -30,18 +32,26 @@ public final class AccessKeyBuilder {
         return this;
     }
 
+    /**
+     * @param value CNPJ já validado, por exemplo obtido de {@link CnpjCache#get(CharSequence)}
+     */
+    public AccessKeyBuilder cnpj(final CNPJ value) {
+        this.cnpj = value;
+        return this;
+    }
+
     public AccessKeyBuilder model(final Model model) {
         this.model = model;
         return this;
     }
 
     public AccessKeyBuilder series(final int value) {
-        this.series = new Series(value);
+        this.series = Series.of(value);
         return this;
     }
 
     public AccessKeyBuilder number(final int value) {
-        this.number = new Number(value);
+        this.number = Number.of(value);
         return this;
     }
 
@@ -52,11 +62,31 @@ public final class AccessKeyBuilder {
 
     public AccessKeyBuilder code(final int value) {
         this.code = new Code(value);
+        this.codeStrategy = null;
+        return this;
+    }
+
+    /**
+     * Define o código numérico a partir dos demais campos no momento do {@link #build()}
+     * (por exemplo, {@link DerivedCodeGenerator} ou {@link RandomCodeGenerator}).
+     *
+     * @param strategy estratégia do código numérico
+     */
+    public AccessKeyBuilder code(final CodeStrategy strategy) {
+        this.codeStrategy = strategy;
+        this.code = null;
         return this;
     }
 
     public AccessKey build() {
-        return new AccessKey(state, yearMonth, cnpj, model, series, number, issueMode, code);
+        if (codeStrategy == null) {
+            return new AccessKey(state, yearMonth, cnpj, model, series, number, issueMode, code);
+        }
+        final AccessKey draft = new AccessKey(state, yearMonth, cnpj, model, series, number, issueMode, new Code(0));
+        final char[] chars = new char[AccessKeyGenerator.LENGTH];
+        AccessKeyGenerator.generate(draft, chars, 0);
+        final int value = codeStrategy.code(CharBuffer.wrap(chars, 0, 35), number.getCode());
+        return new AccessKey(state, yearMonth, cnpj, model, series, number, issueMode, new Code(value));
     }
 }
 
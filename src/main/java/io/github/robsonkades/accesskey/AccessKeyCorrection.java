@@ -0,0 +1,94 @@
+package io.github.robsonkades.accesskey;
+
+import java.util.Objects;
+
+/**
+ * Chave candidata encontrada por {@link AccessKeyCorrector}: uma chave válida que difere da chave
+ * digitada em um único caractere ou pela troca de dois caracteres vizinhos.
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class AccessKeyCorrection {
+
+    /**
+     * Tipo de erro corrigido.
+     */
+    public enum Kind {
+        /**
+         * Um caractere trocado por outro.
+         */
+        SUBSTITUTION,
+        /**
+         * Dois caracteres vizinhos invertidos.
+         */
+        TRANSPOSITION
+    }
+
+    private final String key;
+    private final Kind kind;
+    private final int position;
+    private final boolean knownEmitter;
+
+    AccessKeyCorrection(final String key, final Kind kind, final int position, final boolean knownEmitter) {
+        this.key = key;
+        this.kind = kind;
+        this.position = position;
+        this.knownEmitter = knownEmitter;
+    }
+
+    /**
+     * @return chave corrigida com 44 caracteres
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return posição (baseada em zero) do caractere substituído ou do primeiro dos dois invertidos
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * @return {@code true} se o CNPJ da chave corrigida está entre os emitentes conhecidos do corretor
+     */
+    public boolean isKnownEmitter() {
+        return knownEmitter;
+    }
+
+    /**
+     * @return chave corrigida convertida em {@link AccessKey}
+     */
+    public AccessKey toAccessKey() {
+        return AccessKeyParser.parse(key);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AccessKeyCorrection other = (AccessKeyCorrection) o;
+        return position == other.position && knownEmitter == other.knownEmitter && key.equals(other.key) && kind == other.kind;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, kind, position, knownEmitter);
+    }
+
+    @Override
+    public String toString() {
+        return "AccessKeyCorrection{" +
+                "key='" + key + '\'' +
+                ", kind=" + kind +
+                ", position=" + position +
+                ", knownEmitter=" + knownEmitter +
+                '}';
+    }
+}
@@ -0,0 +1,228 @@
+package io.github.robsonkades.accesskey;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Sugere correções para chaves digitadas ou lidas por OCR com um único erro: um caractere trocado
+ * ou dois caracteres vizinhos invertidos.
+ *
+ * <p>Em vez de converter cada candidata com {@link AccessKey#from(CharSequence)}, a soma ponderada do
+ * DV é calculada uma vez e cada candidata apenas soma a diferença da posição alterada. Só as
+ * candidatas que passam no DV têm conferidos os campos que a alteração atingiu (UF, mês, CNPJ,
+ * modelo e tipo de emissão); os demais campos são conferidos uma única vez na chave original, e
+ * alterações que não alcançam um campo já inválido são descartadas sem cálculo. Cada chave tem
+ * cerca de 750 alterações possíveis e a busca completa leva poucos microssegundos.</p>
+ *
+ * <p>Opcionalmente ({@link #knownEmitters(Collection)}) as candidatas cujo CNPJ pertence a um
+ * emitente conhecido vêm primeiro. Depois de configurada, a instância pode ser usada por várias
+ * threads.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * AccessKeyCorrector corrector = new AccessKeyCorrector().knownEmitters(cnpjs);
+ * for (AccessKeyCorrection correction : corrector.correct(typed)) {
+ *     System.out.println(correction.getKey() + " " + correction.getKind() + " @" + correction.getPosition());
+ * }
+ * }</pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class AccessKeyCorrector {
+
+    private static final int LENGTH = AccessKeyGenerator.LENGTH;
+    private static final int DV = LENGTH - 1;
+
+    private static final long STATE = 0b11L;
+    private static final long MONTH = 0b11L << 4;
+    private static final long CNPJ = ((1L << 14) - 1) << 6;
+    private static final long MODEL = 0b11L << 20;
+    private static final long ISSUE_MODE = 1L << 34;
+    private static final long[] FIELDS = {STATE, MONTH, CNPJ, MODEL, ISSUE_MODE};
+
+    /**
+     * Posições que aceitam letras: raiz e ordem do CNPJ.
+     */
+    private static final long ALPHANUMERIC = ((1L << 12) - 1) << 6;
+
+    private static final char[] DIGITS = "0123456789".toCharArray();
+    private static final char[] ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    private Set<String> knownEmitters = Collections.emptySet();
+
+    /**
+     * Define os emitentes conhecidos, usados para ordenar as candidatas.
+     *
+     * @param cnpjs CNPJs com 14 caracteres
+     */
+    public AccessKeyCorrector knownEmitters(final Collection<? extends CharSequence> cnpjs) {
+        final Set<String> set = new HashSet<>();
+        for (CharSequence cnpj : Objects.requireNonNull(cnpjs, "Os emitentes são obrigatórios.")) {
+            set.add(cnpj.toString());
+        }
+        this.knownEmitters = Collections.unmodifiableSet(set);
+        return this;
+    }
+
+    /**
+     * Lista as chaves válidas que diferem de {@code key} por um caractere substituído ou por dois
+     * caracteres vizinhos invertidos. A própria chave nunca faz parte do resultado, mesmo se válida.
+     *
+     * <p>As candidatas seguem a ordem das posições; com emitentes conhecidos, as desses emitentes
+     * vêm antes das demais, mantida a ordem das posições em cada grupo.</p>
+     *
+     * @param key chave digitada
+     * @return candidatas válidas; vazia se não houver nenhuma ou se a chave não tiver 44 caracteres
+     */
+    public List<AccessKeyCorrection> correct(final CharSequence key) {
+        Objects.requireNonNull(key, "A chave de acesso é obrigatória.");
+        if (key.length() != LENGTH) {
+            return Collections.emptyList();
+        }
+        final char[] chars = new char[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            chars[i] = key.charAt(i);
+        }
+        final CharBuffer view = CharBuffer.wrap(chars);
+
+        // posições com caractere inválido e campos inválidos precisam ser alcançados pela correção
+        long invalid = 0L;
+        for (int i = 0; i < LENGTH; i++) {
+            if (!isAllowed(chars[i], i)) {
+                invalid |= 1L << i;
+            }
+        }
+        long failing = 0L;
+        for (long field : FIELDS) {
+            if (!isFieldValid(view, field)) {
+                failing |= field;
+            }
+        }
+
+        final int[] weights = AccessKeyGenerator.WEIGHTS;
+        int sum = 0;
+        for (int i = 0; i < DV; i++) {
+            sum += (chars[i] - '0') * weights[i];
+        }
+        final int dv = chars[DV] - '0';
+
+        final List<AccessKeyCorrection> result = new ArrayList<>();
+        for (int i = 0; i < LENGTH; i++) {
+            final long changed = 1L << i;
+            if (!isReachable(changed, invalid, failing)) {
+                continue;
+            }
+            final char original = chars[i];
+            if (i == DV) {
+                final char expected = (char) ('0' + AccessKeyGenerator.checkDigit(sum));
+                if (expected != original) {
+                    chars[i] = expected;
+                    add(result, chars, AccessKeyCorrection.Kind.SUBSTITUTION, i);
+                    chars[i] = original;
+                }
+                continue;
+            }
+            final char[] alphabet = (ALPHANUMERIC & changed) != 0L ? ALPHABET : DIGITS;
+            final int base = sum - (original - '0') * weights[i];
+            for (char c : alphabet) {
+                if (c != original && AccessKeyGenerator.checkDigit(base + (c - '0') * weights[i]) == dv) {
+                    chars[i] = c;
+                    if (areFieldsValid(view, changed)) {
+                        add(result, chars, AccessKeyCorrection.Kind.SUBSTITUTION, i);
+                    }
+                }
+            }
+            chars[i] = original;
+        }
+
+        for (int i = 0; i < DV; i++) {
+            final char a = chars[i];
+            final char b = chars[i + 1];
+            final long changed = 0b11L << i;
+            if (a == b || !isAllowed(b, i) || !isAllowed(a, i + 1) || !isReachable(changed, invalid, failing)) {
+                continue;
+            }
+            final boolean valid;
+            if (i + 1 == DV) {
+                valid = AccessKeyGenerator.checkDigit(sum + (b - a) * weights[i]) == a - '0';
+            } else {
+                valid = AccessKeyGenerator.checkDigit(sum + (b - a) * (weights[i] - weights[i + 1])) == dv;
+            }
+            if (valid) {
+                chars[i] = b;
+                chars[i + 1] = a;
+                if (areFieldsValid(view, changed)) {
+                    add(result, chars, AccessKeyCorrection.Kind.TRANSPOSITION, i);
+                }
+                chars[i] = a;
+                chars[i + 1] = b;
+            }
+        }
+
+        if (!knownEmitters.isEmpty()) {
+            // ordenação estável: conhecidos primeiro, mantida a ordem das posições
+            result.sort((x, y) -> Boolean.compare(y.isKnownEmitter(), x.isKnownEmitter()));
+        }
+        return result;
+    }
+
+    private void add(final List<AccessKeyCorrection> result, final char[] chars, final AccessKeyCorrection.Kind kind,
+                     final int position) {
+        final String key = new String(chars);
+        final boolean known = !knownEmitters.isEmpty() && knownEmitters.contains(key.substring(6, 20));
+        result.add(new AccessKeyCorrection(key, kind, position, known));
+    }
+
+    /**
+     * Uma alteração só produz chave válida se atingir todas as posições inválidas e ao menos uma
+     * posição de cada campo inválido.
+     */
+    private static boolean isReachable(final long changed, final long invalid, final long failing) {
+        if ((invalid & ~changed) != 0L) {
+            return false;
+        }
+        for (long field : FIELDS) {
+            if ((failing & field) != 0L && (field & changed) == 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean areFieldsValid(final CharSequence key, final long changed) {
+        for (long field : FIELDS) {
+            if ((field & changed) != 0L && !isFieldValid(key, field)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isFieldValid(final CharSequence key, final long field) {
+        if (field == STATE) {
+            return State.find(AccessKeyParser.twoDigits(key.charAt(0), key.charAt(1))) != null;
+        }
+        if (field == MONTH) {
+            final int month = AccessKeyParser.twoDigits(key.charAt(4), key.charAt(5));
+            return month >= 1 && month <= 12;
+        }
+        if (field == CNPJ) {
+            return AccessKeyParser.isCnpjValid(key);
+        }
+        if (field == MODEL) {
+            return Model.find(AccessKeyParser.twoDigits(key.charAt(20), key.charAt(21))) != null;
+        }
+        return IssueMode.find(key.charAt(34) - '0') != null;
+    }
+
+    private static boolean isAllowed(final char c, final int position) {
+        return (c >= '0' && c <= '9') || ((ALPHANUMERIC & 1L << position) != 0L && c >= 'A' && c <= 'Z');
+    }
+}
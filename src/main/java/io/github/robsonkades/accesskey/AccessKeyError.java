@@ -0,0 +1,31 @@
+package io.github.robsonkades.accesskey;
+
+/**
+ * Motivos pelos quais uma chave de acesso pode ser rejeitada.
+ *
+ * <p>Usado por {@link AccessKeyValidation} e {@link AccessKeyValidationException} para informar a
+ * falha sem depender do texto das mensagens.</p>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public enum AccessKeyError {
+    LENGTH("A chave não possui 44 caracteres"),
+    CHARACTER("Caractere inválido"),
+    STATE("Código da UF inválido"),
+    MONTH("Mês de emissão inválido"),
+    CNPJ("Dígitos verificadores do CNPJ inválidos"),
+    MODEL("Modelo inválido"),
+    ISSUE_MODE("Tipo de emissão inválido"),
+    CHECK_DIGIT("Dígito verificador da chave inválido");
+
+    private final String description;
+
+    AccessKeyError(final String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
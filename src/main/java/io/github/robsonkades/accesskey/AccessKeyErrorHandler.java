@@ -0,0 +1,38 @@
+package io.github.robsonkades.accesskey;
+
+/**
+ * Recebe as linhas rejeitadas por {@link AccessKeyReader} sem interromper a leitura.
+ *
+ * <p>{@code line} e {@code validation} são reutilizados pelo leitor e só são válidos durante a
+ * chamada; copie-os (por exemplo com {@code line.toString()}) se precisar guardá-los.</p>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface AccessKeyErrorHandler {
+
+    /**
+     * @param lineNumber número da linha (a partir de 1)
+     * @param line       conteúdo da linha, sem a quebra de linha (truncado em linhas muito longas)
+     * @param validation motivo e posição da falha
+     */
+    void onError(long lineNumber, CharSequence line, AccessKeyValidation validation);
+
+    /**
+     * @return handler que descarta as linhas inválidas
+     */
+    static AccessKeyErrorHandler ignore() {
+        return (lineNumber, line, validation) -> {
+        };
+    }
+
+    /**
+     * @return handler que interrompe a leitura com uma {@link AccessKeyValidationException}
+     */
+    static AccessKeyErrorHandler throwing() {
+        return (lineNumber, line, validation) -> {
+            throw validation.toException();
+        };
+    }
+}
@@ -5,4 +5,12 @@ public class AccessKeyException extends RuntimeException {
     public AccessKeyException(final String message) {
         super(message);
     }
+
+    /**
+     * @param message            mensagem da exceção
+     * @param writableStackTrace {@code false} para não capturar a stack trace
+     */
+    protected AccessKeyException(final String message, final boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
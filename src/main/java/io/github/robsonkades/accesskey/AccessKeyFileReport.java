@@ -0,0 +1,69 @@
+package io.github.robsonkades.accesskey;
+
+import java.util.Arrays;
+
+/**
+ * Resultado da validação de um arquivo de chaves por {@link AccessKeyFileValidator}.
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class AccessKeyFileReport {
+
+    private final long validCount;
+    private final long invalidCount;
+    private final long[] errorCounts;
+    private final long[] invalidOffsets;
+
+    AccessKeyFileReport(final long validCount, final long invalidCount, final long[] errorCounts,
+                        final long[] invalidOffsets) {
+        this.validCount = validCount;
+        this.invalidCount = invalidCount;
+        this.errorCounts = errorCounts;
+        this.invalidOffsets = invalidOffsets;
+    }
+
+    /**
+     * @return quantidade de linhas não vazias lidas
+     */
+    public long getTotalCount() {
+        return validCount + invalidCount;
+    }
+
+    public long getValidCount() {
+        return validCount;
+    }
+
+    public long getInvalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * @param error motivo da falha
+     * @return quantidade de linhas rejeitadas pelo motivo informado
+     */
+    public long getErrorCount(final AccessKeyError error) {
+        return errorCounts[error.ordinal()];
+    }
+
+    /**
+     * Retorna, em ordem crescente, a posição em bytes do início de cada linha inválida. A lista é
+     * limitada por {@link AccessKeyFileValidator#maxInvalidOffsets(int)} e pode ser menor que
+     * {@link #getInvalidCount()}.
+     *
+     * @return cópia das posições das linhas inválidas
+     */
+    public long[] getInvalidOffsets() {
+        return invalidOffsets.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "AccessKeyFileReport{" +
+                "validCount=" + validCount +
+                ", invalidCount=" + invalidCount +
+                ", errorCounts=" + Arrays.toString(errorCounts) +
+                ", invalidOffsets=" + invalidOffsets.length +
+                '}';
+    }
+}
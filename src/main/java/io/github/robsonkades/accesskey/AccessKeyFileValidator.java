@@ -0,0 +1,281 @@
+package io.github.robsonkades.accesskey;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Valida em paralelo arquivos de chaves de acesso separadas por quebra de linha.
+ *
+ * <p>O arquivo é dividido em blocos alinhados ao fim de linha; cada bloco é mapeado em memória com
+ * {@link FileChannel#map} e validado por uma tarefa do {@link ForkJoinPool}. As chaves são lidas
+ * diretamente dos bytes mapeados, sem criar {@link String}s, e verificadas com as mesmas regras de
+ * {@link AccessKey#validate(CharSequence, AccessKeyValidation)}. Linhas vazias são ignoradas e
+ * quebras {@code \r\n} são aceitas.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * AccessKeyFileReport report = new AccessKeyFileValidator()
+ *         .maxInvalidOffsets(10_000)
+ *         .validate(Paths.get("chaves.txt"));
+ * }</pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class AccessKeyFileValidator {
+
+    /**
+     * Quantidade padrão de posições de linhas inválidas guardadas no relatório.
+     */
+    public static final int DEFAULT_MAX_INVALID_OFFSETS = 10_000;
+
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+    private static final int MAX_CHUNK_SIZE = 1024 * 1024 * 1024;
+
+    /**
+     * Maior trecho mapeado por {@link FileChannel#map}. Como o bloco termina na primeira quebra de
+     * linha após {@code chunkSize} (no máximo 1 GB), só uma linha com mais de 1 GB ultrapassa o
+     * trecho mapeado; ela é contada como inválida ({@link AccessKeyError#LENGTH}) sem ser lida.
+     */
+    private static final int MAX_MAPPED_SIZE = Integer.MAX_VALUE;
+
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private int maxInvalidOffsets = DEFAULT_MAX_INVALID_OFFSETS;
+    private int maxMappedSize = MAX_MAPPED_SIZE;
+
+    /**
+     * @param pool pool usado na validação; por padrão {@link ForkJoinPool#commonPool()}
+     */
+    public AccessKeyFileValidator pool(final ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool, "O pool é obrigatório.");
+        return this;
+    }
+
+    /**
+     * @param chunkSize tamanho aproximado, em bytes, de cada bloco validado por uma tarefa
+     */
+    public AccessKeyFileValidator chunkSize(final int chunkSize) {
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("O tamanho do bloco deve estar entre 1 e " + MAX_CHUNK_SIZE + ": " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * @param maxInvalidOffsets quantidade máxima de posições de linhas inválidas guardadas no relatório;
+     *                          por padrão {@value #DEFAULT_MAX_INVALID_OFFSETS}. As linhas além do
+     *                          limite são apenas contadas.
+     */
+    public AccessKeyFileValidator maxInvalidOffsets(final int maxInvalidOffsets) {
+        if (maxInvalidOffsets < 0) {
+            throw new IllegalArgumentException("O limite não pode ser negativo: " + maxInvalidOffsets);
+        }
+        this.maxInvalidOffsets = maxInvalidOffsets;
+        return this;
+    }
+
+    /**
+     * Reduz o trecho mapeado por tarefa, para testar linhas maiores que ele sem arquivos de 2 GB.
+     */
+    AccessKeyFileValidator maxMappedSize(final int maxMappedSize) {
+        this.maxMappedSize = maxMappedSize;
+        return this;
+    }
+
+    /**
+     * Valida todas as linhas do arquivo.
+     *
+     * @param file arquivo com uma chave por linha
+     * @return contagens e posições das linhas inválidas
+     * @throws IOException se o arquivo não puder ser lido
+     */
+    public AccessKeyFileReport validate(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final List<Chunk> chunks = split(channel);
+            final List<ChunkTask> tasks = new ArrayList<>(chunks.size());
+            for (Chunk chunk : chunks) {
+                final ChunkTask task = new ChunkTask(channel, chunk, maxInvalidOffsets, maxMappedSize);
+                pool.execute(task);
+                tasks.add(task);
+            }
+            final List<ChunkResult> results = new ArrayList<>(tasks.size());
+            for (ChunkTask task : tasks) {
+                results.add(task.join());
+            }
+            return merge(results);
+        } catch (UncheckedChunkException e) {
+            throw e.getCause();
+        }
+    }
+
+    private AccessKeyFileReport merge(final List<ChunkResult> results) {
+        long valid = 0L;
+        long invalid = 0L;
+        final long[] errorCounts = new long[AccessKeyError.values().length];
+        long total = 0L;
+        for (ChunkResult result : results) {
+            total += result.offsetCount;
+        }
+        final long[] offsets = new long[(int) Math.min(total, maxInvalidOffsets)];
+        int offsetCount = 0;
+        for (ChunkResult result : results) {
+            valid += result.valid;
+            invalid += result.invalid;
+            for (int i = 0; i < errorCounts.length; i++) {
+                errorCounts[i] += result.errorCounts[i];
+            }
+            final int take = Math.min(result.offsetCount, offsets.length - offsetCount);
+            System.arraycopy(result.offsets, 0, offsets, offsetCount, take);
+            offsetCount += take;
+        }
+        return new AccessKeyFileReport(valid, invalid, errorCounts, offsets);
+    }
+
+    /**
+     * Divide o arquivo em blocos de aproximadamente {@code chunkSize} bytes terminados em fim de linha.
+     */
+    private List<Chunk> split(final FileChannel channel) throws IOException {
+        final long size = channel.size();
+        final List<Chunk> chunks = new ArrayList<>();
+        final ByteBuffer probe = ByteBuffer.allocate(4096);
+        long start = 0L;
+        while (start < size) {
+            long end = Math.min(size, start + chunkSize);
+            end = endOfLine(channel, probe, end, size);
+            chunks.add(new Chunk(start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * @return posição seguinte à primeira quebra de linha em {@code [from, size)} ou {@code size}
+     */
+    private static long endOfLine(final FileChannel channel, final ByteBuffer probe, long from, final long size)
+            throws IOException {
+        while (from < size) {
+            probe.clear();
+            final int read = channel.read(probe, from);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return from + i + 1;
+                }
+            }
+            from += read;
+        }
+        return size;
+    }
+
+    private static final class Chunk {
+        final long start;
+        final long end;
+
+        Chunk(final long start, final long end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private static final class ChunkResult {
+        final long[] errorCounts = new long[AccessKeyError.values().length];
+        long valid;
+        long invalid;
+        long[] offsets = new long[0];
+        int offsetCount;
+
+        void invalid(final long offset, final AccessKeyError error, final int maxOffsets) {
+            invalid++;
+            errorCounts[error.ordinal()]++;
+            if (offsetCount < maxOffsets) {
+                if (offsetCount == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, (int) Math.min(maxOffsets, Math.max(16, offsets.length * 2L)));
+                }
+                offsets[offsetCount++] = offset;
+            }
+        }
+    }
+
+    private static final class ChunkTask extends RecursiveTask<ChunkResult> {
+
+        private final FileChannel channel;
+        private final Chunk chunk;
+        private final int maxOffsets;
+        private final int maxMappedSize;
+
+        ChunkTask(final FileChannel channel, final Chunk chunk, final int maxOffsets, final int maxMappedSize) {
+            this.channel = channel;
+            this.chunk = chunk;
+            this.maxOffsets = maxOffsets;
+            this.maxMappedSize = maxMappedSize;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            final MappedByteBuffer buffer;
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start, Math.min(chunk.end - chunk.start, maxMappedSize));
+            } catch (IOException e) {
+                throw new UncheckedChunkException(e);
+            }
+            final ChunkResult result = new ChunkResult();
+            final AccessKeyValidation validation = new AccessKeyValidation();
+            final AsciiSequence line = new AsciiSequence();
+            final int limit = buffer.limit();
+            int start = 0;
+            while (start < limit) {
+                int end = start;
+                while (end < limit && buffer.get(end) != '\n') {
+                    end++;
+                }
+                if (end == limit && chunk.start + limit < chunk.end) {
+                    // a linha continua além do trecho mapeado: tem mais de 1 GB
+                    result.invalid(chunk.start + start, AccessKeyError.LENGTH, maxOffsets);
+                    break;
+                }
+                int length = end - start;
+                if (length > 0 && buffer.get(end - 1) == '\r') {
+                    length--;
+                }
+                if (length > 0) {
+                    if (AccessKeyParser.validate(line.wrap(buffer, start, length), validation)) {
+                        result.valid++;
+                    } else {
+                        result.invalid(chunk.start + start, validation.getError(), maxOffsets);
+                    }
+                }
+                start = end + 1;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Transporta a {@link IOException} de uma tarefa até {@link #validate(Path)}.
+     */
+    private static final class UncheckedChunkException extends RuntimeException {
+
+        UncheckedChunkException(final IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+}
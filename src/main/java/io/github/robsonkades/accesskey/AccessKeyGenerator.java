@@ -1,36 +1,285 @@
 package io.github.robsonkades.accesskey;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Objects;
+
 public final class AccessKeyGenerator {
 
+    /**
+     * Quantidade de caracteres de uma chave de acesso, incluindo o DV.
+     */
+    public static final int LENGTH = 44;
+
+    /**
+     * Pesos do módulo 11 para cada uma das 43 posições que compõem o DV, já ciclados de 2 a 9
+     * da direita para a esquerda.
+     */
+    static final int[] WEIGHTS = new int[43];
+
+    static {
+        int weight = 2;
+        for (int i = WEIGHTS.length - 1; i >= 0; i--) {
+            WEIGHTS[i] = weight;
+            weight = (weight == 9) ? 2 : weight + 1;
+        }
+    }
+
     private AccessKeyGenerator() {
         // empty constructor
     }
 
     public static String generate(final AccessKey key) {
-        String base = key.getState().getCodeAsString() +
-                key.getYearMonth().format(AccessKey.DATE_TIME_FORMATTER) +
-                key.getCnpj().getValue() +
-                key.getModel().getCodeAsString() +
-                key.getSeries().getCodeAsString() +
-                key.getNumber().getCodeAsString() +
-                key.getIssueMode().getCodeAsString() +
-                key.getCode().getCodeAsString();
+        final String source = key.source();
+        if (source != null) {
+            return source;
+        }
+        final char[] chars = new char[LENGTH];
+        generate(key, chars, 0);
+        return new String(chars);
+    }
 
-        int dv = calcModulo112(base);
-        return base + dv;
+    /**
+     * Escreve os 44 caracteres da chave em {@code dest} a partir de {@code offset}, calculando o DV
+     * durante a escrita. Não aloca memória.
+     *
+     * @param key    chave de acesso
+     * @param dest   destino
+     * @param offset posição inicial em {@code dest}
+     * @return posição seguinte ao último caractere escrito ({@code offset + 44})
+     * @throws IndexOutOfBoundsException se não houver espaço para 44 caracteres
+     */
+    public static int generate(final AccessKey key, final char[] dest, final int offset) {
+        Objects.checkFromIndexSize(offset, LENGTH, dest.length);
+        final String source = key.source();
+        if (source != null) {
+            source.getChars(0, LENGTH, dest, offset);
+            return offset + LENGTH;
+        }
+        int sum = putDigits(dest, offset, 0, 2, key.getState().getCode());
+        sum += putDigits(dest, offset, 2, 6, yymm(key));
+        sum += putChars(dest, offset, key.getCnpj().getValue());
+        sum += putDigits(dest, offset, 20, 22, key.getModel().getCode());
+        sum += putDigits(dest, offset, 22, 25, key.getSeries().getCode());
+        sum += putDigits(dest, offset, 25, 34, key.getNumber().getCode());
+        sum += putDigits(dest, offset, 34, 35, key.getIssueMode().getCode());
+        sum += putDigits(dest, offset, 35, 43, key.getCode().getCode());
+        dest[offset + 43] = (char) ('0' + checkDigit(sum));
+        return offset + LENGTH;
     }
 
-    private static int calcModulo112(final String base) {
-        int sum = 0;
-        int weight = 2;
+    /**
+     * Escreve os 44 caracteres da chave em {@code dest} como bytes ASCII a partir de {@code offset},
+     * calculando o DV durante a escrita. Não aloca memória.
+     *
+     * @param key    chave de acesso
+     * @param dest   destino
+     * @param offset posição inicial em {@code dest}
+     * @return posição seguinte ao último byte escrito ({@code offset + 44})
+     * @throws IndexOutOfBoundsException se não houver espaço para 44 bytes
+     */
+    public static int generate(final AccessKey key, final byte[] dest, final int offset) {
+        Objects.checkFromIndexSize(offset, LENGTH, dest.length);
+        final String source = key.source();
+        if (source != null) {
+            for (int i = 0; i < LENGTH; i++) {
+                dest[offset + i] = (byte) source.charAt(i);
+            }
+            return offset + LENGTH;
+        }
+        int sum = putDigits(dest, offset, 0, 2, key.getState().getCode());
+        sum += putDigits(dest, offset, 2, 6, yymm(key));
+        sum += putChars(dest, offset, key.getCnpj().getValue());
+        sum += putDigits(dest, offset, 20, 22, key.getModel().getCode());
+        sum += putDigits(dest, offset, 22, 25, key.getSeries().getCode());
+        sum += putDigits(dest, offset, 25, 34, key.getNumber().getCode());
+        sum += putDigits(dest, offset, 34, 35, key.getIssueMode().getCode());
+        sum += putDigits(dest, offset, 35, 43, key.getCode().getCode());
+        dest[offset + 43] = (byte) ('0' + checkDigit(sum));
+        return offset + LENGTH;
+    }
 
-        for (int i = base.length() - 1; i >= 0; i--) {
-            int digit = base.charAt(i) - '0';
-            sum += digit * weight;
-            weight = (weight == 9) ? 2 : weight + 1;
+    /**
+     * Escreve os 44 caracteres da chave na posição atual de {@code dest}, avançando a posição.
+     * Não aloca memória.
+     *
+     * @param key  chave de acesso
+     * @param dest destino
+     * @throws BufferOverflowException se restarem menos de 44 posições
+     * @throws java.nio.ReadOnlyBufferException se o buffer for somente leitura
+     */
+    public static void generate(final AccessKey key, final CharBuffer dest) {
+        if (dest.remaining() < LENGTH) {
+            throw new BufferOverflowException();
+        }
+        final int position = dest.position();
+        final String source = key.source();
+        if (dest.hasArray()) {
+            generate(key, dest.array(), dest.arrayOffset() + position);
+        } else if (source != null) {
+            for (int i = 0; i < LENGTH; i++) {
+                dest.put(position + i, source.charAt(i));
+            }
+        } else {
+            int sum = putDigits(dest, position, 0, 2, key.getState().getCode());
+            sum += putDigits(dest, position, 2, 6, yymm(key));
+            sum += putChars(dest, position, key.getCnpj().getValue());
+            sum += putDigits(dest, position, 20, 22, key.getModel().getCode());
+            sum += putDigits(dest, position, 22, 25, key.getSeries().getCode());
+            sum += putDigits(dest, position, 25, 34, key.getNumber().getCode());
+            sum += putDigits(dest, position, 34, 35, key.getIssueMode().getCode());
+            sum += putDigits(dest, position, 35, 43, key.getCode().getCode());
+            dest.put(position + 43, (char) ('0' + checkDigit(sum)));
+        }
+        dest.position(position + LENGTH);
+    }
+
+    /**
+     * Escreve os 44 caracteres da chave como bytes ASCII na posição atual de {@code dest}, avançando a
+     * posição. Aceita buffers baseados em array e diretos. Não aloca memória.
+     *
+     * @param key  chave de acesso
+     * @param dest destino
+     * @throws BufferOverflowException se restarem menos de 44 posições
+     * @throws java.nio.ReadOnlyBufferException se o buffer for somente leitura
+     */
+    public static void generate(final AccessKey key, final ByteBuffer dest) {
+        if (dest.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        if (dest.remaining() < LENGTH) {
+            throw new BufferOverflowException();
+        }
+        final int position = dest.position();
+        final String source = key.source();
+        if (dest.hasArray()) {
+            generate(key, dest.array(), dest.arrayOffset() + position);
+        } else if (source != null) {
+            for (int i = 0; i < LENGTH; i++) {
+                dest.put(position + i, (byte) source.charAt(i));
+            }
+        } else {
+            int sum = putDigits(dest, position, 0, 2, key.getState().getCode());
+            sum += putDigits(dest, position, 2, 6, yymm(key));
+            sum += putChars(dest, position, key.getCnpj().getValue());
+            sum += putDigits(dest, position, 20, 22, key.getModel().getCode());
+            sum += putDigits(dest, position, 22, 25, key.getSeries().getCode());
+            sum += putDigits(dest, position, 25, 34, key.getNumber().getCode());
+            sum += putDigits(dest, position, 34, 35, key.getIssueMode().getCode());
+            sum += putDigits(dest, position, 35, 43, key.getCode().getCode());
+            dest.put(position + 43, (byte) ('0' + checkDigit(sum)));
         }
+        dest.position(position + LENGTH);
+    }
 
+    /**
+     * Converte a soma ponderada das 43 primeiras posições no dígito verificador.
+     *
+     * @param sum soma ponderada (ver {@link #WEIGHTS})
+     * @return dígito verificador entre 0 e 9
+     */
+    static int checkDigit(final int sum) {
         int mod = sum % 11;
         return (mod < 2) ? 0 : 11 - mod;
     }
+
+    private static int yymm(final AccessKey key) {
+        return Math.floorMod(key.getYearMonth().getYear(), 100) * 100 + key.getYearMonth().getMonthValue();
+    }
+
+    /**
+     * Escreve {@code value} com zeros à esquerda nas posições {@code [from, to)} da chave.
+     *
+     * @return soma ponderada das posições escritas
+     */
+    static int putDigits(final char[] dest, final int offset, final int from, final int to, int value) {
+        int sum = 0;
+        for (int i = to - 1; i >= from; i--) {
+            final int digit = value % 10;
+            value /= 10;
+            dest[offset + i] = (char) ('0' + digit);
+            sum += digit * WEIGHTS[i];
+        }
+        return sum;
+    }
+
+    static int putDigits(final byte[] dest, final int offset, final int from, final int to, int value) {
+        int sum = 0;
+        for (int i = to - 1; i >= from; i--) {
+            final int digit = value % 10;
+            value /= 10;
+            dest[offset + i] = (byte) ('0' + digit);
+            sum += digit * WEIGHTS[i];
+        }
+        return sum;
+    }
+
+    private static int putDigits(final CharBuffer dest, final int offset, final int from, final int to, int value) {
+        int sum = 0;
+        for (int i = to - 1; i >= from; i--) {
+            final int digit = value % 10;
+            value /= 10;
+            dest.put(offset + i, (char) ('0' + digit));
+            sum += digit * WEIGHTS[i];
+        }
+        return sum;
+    }
+
+    private static int putDigits(final ByteBuffer dest, final int offset, final int from, final int to, int value) {
+        int sum = 0;
+        for (int i = to - 1; i >= from; i--) {
+            final int digit = value % 10;
+            value /= 10;
+            dest.put(offset + i, (byte) ('0' + digit));
+            sum += digit * WEIGHTS[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Copia os 14 caracteres do CNPJ para as posições 6 a 19 da chave.
+     *
+     * @return soma ponderada das posições escritas
+     */
+    private static int putChars(final char[] dest, final int offset, final String cnpj) {
+        int sum = 0;
+        for (int i = 0; i < 14; i++) {
+            final char c = cnpj.charAt(i);
+            dest[offset + 6 + i] = c;
+            sum += (c - '0') * WEIGHTS[6 + i];
+        }
+        return sum;
+    }
+
+    private static int putChars(final byte[] dest, final int offset, final String cnpj) {
+        int sum = 0;
+        for (int i = 0; i < 14; i++) {
+            final char c = cnpj.charAt(i);
+            dest[offset + 6 + i] = (byte) c;
+            sum += (c - '0') * WEIGHTS[6 + i];
+        }
+        return sum;
+    }
+
+    private static int putChars(final CharBuffer dest, final int offset, final String cnpj) {
+        int sum = 0;
+        for (int i = 0; i < 14; i++) {
+            final char c = cnpj.charAt(i);
+            dest.put(offset + 6 + i, c);
+            sum += (c - '0') * WEIGHTS[6 + i];
+        }
+        return sum;
+    }
+
+    private static int putChars(final ByteBuffer dest, final int offset, final String cnpj) {
+        int sum = 0;
+        for (int i = 0; i < 14; i++) {
+            final char c = cnpj.charAt(i);
+            dest.put(offset + 6 + i, (byte) c);
+            sum += (c - '0') * WEIGHTS[6 + i];
+        }
+        return sum;
+    }
 }
@@ -0,0 +1,539 @@
+package io.github.robsonkades.accesskey;
+
+import io.github.robsonkades.cnpj.CNPJ;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+/**
+ * Índice em memória de chaves de acesso por emitente, ano/mês, modelo, série e número.
+ *
+ * <p>As chaves são agrupadas por CNPJ e, dentro de cada emitente, por ano/mês, modelo, série e UF,
+ * em ordem. Cada grupo guarda uma lista de postings ordenada por número, com um único {@code long}
+ * por chave (número, tipo de emissão e código numérico); os demais campos são comuns ao grupo e o DV
+ * é recalculado na leitura. Cerca de 200 milhões de chaves ocupam menos de 2 GB. Uma consulta
+ * ({@link #query(String)}) localiza o emitente por hash, os grupos por faixa de ano/mês e os números
+ * por busca binária, sem percorrer chaves de outros grupos ou fora da faixa.</p>
+ *
+ * <p>Uma única thread pode registrar chaves enquanto qualquer quantidade de threads consulta o
+ * índice, sem bloqueios. Chaves em ordem crescente de número são acrescentadas ao fim da lista; as
+ * fora de ordem ficam em uma área separada que é intercalada à lista quando chega a um oitavo do
+ * tamanho dela, de modo que cada chave custa, em média, um número constante de cópias. Uma consulta
+ * enxerga todas as chaves registradas antes do seu início e, possivelmente, algumas das registradas
+ * durante a sua execução.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * AccessKeyIndex index = new AccessKeyIndex();
+ * keys.forEach(index::add);
+ * List<PackedAccessKey> page = index.query("KSP416L8000109")
+ *         .yearMonth(YearMonth.of(2024, 10))
+ *         .model(Model.NFE)
+ *         .series(1)
+ *         .numbers(1000, 2000)
+ *         .list();
+ * }</pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class AccessKeyIndex {
+
+    private static final int MAX_NUMBER = 999_999_999;
+    private static final long[] EMPTY = new long[0];
+
+    private static final int ISSUE_MODE_SHIFT = 27;
+    private static final int NUMBER_SHIFT = 31;
+
+    /**
+     * Campos de {@link PackedAccessKey#getLow()} comuns ao grupo: UF, ano e mês.
+     */
+    private static final long GROUP_LOW_MASK = -1L << PackedAccessKey.MONTH_SHIFT;
+    private static final long NUMBER_MASK = 0x3FFF_FFFFL << PackedAccessKey.NUMBER_SHIFT;
+
+    /**
+     * Capacidade mínima da área de chaves fora de ordem de um grupo.
+     */
+    private static final int PENDING_MIN = 8;
+
+    private final ConcurrentMap<Long, ConcurrentNavigableMap<Long, Group>> emitters = new ConcurrentHashMap<>();
+    private volatile long size;
+
+    /**
+     * Valida a chave e a registra no índice.
+     *
+     * @param key chave com 44 caracteres
+     * @return {@code false} se a chave já estava no índice
+     * @throws AccessKeyException se a chave for inválida
+     */
+    public boolean add(final CharSequence key) {
+        AccessKeyParser.requireValid(key);
+        return add(PackedAccessKey.high(key), PackedAccessKey.middle(key), PackedAccessKey.low(key));
+    }
+
+    /**
+     * @return {@code false} se a chave já estava no índice
+     */
+    public boolean add(final AccessKey key) {
+        return add(PackedAccessKey.of(key));
+    }
+
+    /**
+     * @return {@code false} se a chave já estava no índice
+     */
+    public boolean add(final PackedAccessKey key) {
+        Objects.requireNonNull(key, "A chave de acesso é obrigatória.");
+        return add(key.getHigh(), key.getMiddle(), key.getLow());
+    }
+
+    private boolean add(final long high, final long middle, final long low) {
+        ConcurrentNavigableMap<Long, Group> groups = emitters.get(high);
+        if (groups == null) {
+            groups = emitters.computeIfAbsent(high, emitter -> new ConcurrentSkipListMap<>());
+        }
+        final long groupMiddle = middle & ~NUMBER_MASK;
+        final long groupLow = low & GROUP_LOW_MASK;
+        final Long id = groupId(
+                (int) ((low >>> PackedAccessKey.YEAR_SHIFT) & 0x7F) * 100 + (int) ((low >>> PackedAccessKey.MONTH_SHIFT) & 0xF),
+                (int) (middle >>> PackedAccessKey.MODEL_SHIFT),
+                (int) ((middle >>> PackedAccessKey.SERIES_SHIFT) & 0x3FF),
+                (int) (low >>> PackedAccessKey.STATE_SHIFT));
+        Group group = groups.get(id);
+        if (group == null) {
+            group = new Group(high, groupMiddle, groupLow);
+            groups.put(id, group);
+        }
+        final long entry = (middle & NUMBER_MASK) >>> PackedAccessKey.NUMBER_SHIFT << NUMBER_SHIFT
+                | ((low >>> PackedAccessKey.ISSUE_MODE_SHIFT) & 0xF) << ISSUE_MODE_SHIFT
+                | (low >>> PackedAccessKey.CODE_SHIFT) & 0x7FF_FFFF;
+        if (!group.add(entry)) {
+            return false;
+        }
+        size = size + 1;
+        return true;
+    }
+
+    /**
+     * @return quantidade de chaves no índice
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Inicia uma consulta às chaves de um emitente.
+     *
+     * @param cnpj CNPJ do emitente (14 caracteres)
+     * @return consulta sem filtros, que pode ser refinada antes de ser executada
+     */
+    public Query query(final String cnpj) {
+        return new Query(emitters.get(PackedAccessKey.high(CNPJ.of(cnpj))));
+    }
+
+    /**
+     * Ano/mês, modelo, série e UF em um {@code long} que ordena os grupos de um emitente.
+     */
+    private static long groupId(final int yymm, final int model, final int series, final int state) {
+        return (long) yymm << 40 | (long) model << 32 | (long) series << 16 | state;
+    }
+
+    @Override
+    public String toString() {
+        return "AccessKeyIndex{" +
+                "size=" + size +
+                '}';
+    }
+
+    /**
+     * Consulta às chaves de um emitente. Os filtros não informados não restringem o resultado, que
+     * sai ordenado por ano/mês, modelo, série, UF e número.
+     */
+    public static final class Query {
+
+        private final ConcurrentNavigableMap<Long, Group> groups;
+        private int fromYymm = 0;
+        private int toYymm = 9999;
+        private int model = -1;
+        private int series = -1;
+        private int fromNumber = 0;
+        private int toNumber = MAX_NUMBER;
+
+        private Query(final ConcurrentNavigableMap<Long, Group> groups) {
+            this.groups = groups;
+        }
+
+        public Query yearMonth(final YearMonth yearMonth) {
+            return yearMonth(yearMonth, yearMonth);
+        }
+
+        /**
+         * @param from primeiro ano/mês
+         * @param to   último ano/mês (inclusive)
+         */
+        public Query yearMonth(final YearMonth from, final YearMonth to) {
+            Objects.requireNonNull(from, "O ano/mês inicial é obrigatório.");
+            Objects.requireNonNull(to, "O ano/mês final é obrigatório.");
+            if (from.isAfter(to)) {
+                throw new IllegalArgumentException("Intervalo de ano/mês inválido: " + from + " a " + to);
+            }
+            this.fromYymm = Math.floorMod(from.getYear(), 100) * 100 + from.getMonthValue();
+            this.toYymm = Math.floorMod(to.getYear(), 100) * 100 + to.getMonthValue();
+            if (fromYymm > toYymm) {
+                throw new IllegalArgumentException("O intervalo de ano/mês deve estar dentro do mesmo século: " + from + " a " + to);
+            }
+            return this;
+        }
+
+        public Query model(final Model model) {
+            this.model = Objects.requireNonNull(model, "O modelo é obrigatório.").getCode();
+            return this;
+        }
+
+        public Query series(final int series) {
+            this.series = Series.of(series).getCode();
+            return this;
+        }
+
+        /**
+         * @param from primeiro número
+         * @param to   último número (inclusive)
+         */
+        public Query numbers(final int from, final int to) {
+            if (from < 0 || to < from || to > MAX_NUMBER) {
+                throw new IllegalArgumentException("Intervalo de números inválido: " + from + " a " + to);
+            }
+            this.fromNumber = from;
+            this.toNumber = to;
+            return this;
+        }
+
+        /**
+         * Executa a consulta.
+         *
+         * @param consumer recebe cada chave encontrada
+         */
+        public void forEach(final Consumer<PackedAccessKey> consumer) {
+            Objects.requireNonNull(consumer, "O consumidor é obrigatório.");
+            if (groups == null) {
+                return;
+            }
+            final long from = (long) fromNumber << NUMBER_SHIFT;
+            final long to = ((long) toNumber + 1) << NUMBER_SHIFT;
+            for (Group group : matching()) {
+                group.forEach(from, to, consumer);
+            }
+        }
+
+        /**
+         * @return chaves encontradas
+         */
+        public List<PackedAccessKey> list() {
+            final List<PackedAccessKey> keys = new ArrayList<>();
+            forEach(keys::add);
+            return keys;
+        }
+
+        /**
+         * Conta as chaves encontradas sem materializá-las.
+         *
+         * @return quantidade de chaves
+         */
+        public long count() {
+            if (groups == null) {
+                return 0L;
+            }
+            final long from = (long) fromNumber << NUMBER_SHIFT;
+            final long to = ((long) toNumber + 1) << NUMBER_SHIFT;
+            long count = 0L;
+            for (Group group : matching()) {
+                count += group.count(from, to);
+            }
+            return count;
+        }
+
+        private Iterable<Group> matching() {
+            final boolean exact = fromYymm == toYymm && model >= 0 && series >= 0;
+            final ConcurrentNavigableMap<Long, Group> range = exact
+                    ? groups.subMap(groupId(fromYymm, model, series, 0), true, groupId(fromYymm, model, series, 0xFFFF), true)
+                    : groups.subMap(groupId(fromYymm, 0, 0, 0), true, groupId(toYymm + 1, 0, 0, 0), false);
+            if (exact || model < 0 && series < 0) {
+                return range.values();
+            }
+            final List<Group> matching = new ArrayList<>();
+            range.forEach((id, group) -> {
+                if ((model < 0 || (int) (id >>> 32 & 0xFF) == model)
+                        && (series < 0 || (int) (id >>> 16 & 0xFFFF) == series)) {
+                    matching.add(group);
+                }
+            });
+            return matching;
+        }
+    }
+
+    /**
+     * Chaves com o mesmo CNPJ, ano/mês, modelo, série e UF.
+     */
+    private static final class Group {
+
+        private final long high;
+        private final long middle;
+        private final long low;
+
+        /**
+         * Soma ponderada das posições 0 a 24 da chave, comuns ao grupo.
+         */
+        private final int sum;
+
+        private volatile Postings postings = new Postings(new long[4], 0, null, 0);
+
+        /**
+         * Chaves pendentes de {@link #postings}, usadas apenas pela thread de escrita para recusar
+         * repetições sem percorrer a área pendente.
+         */
+        private final EntrySet pendingEntries = new EntrySet();
+
+        Group(final long high, final long middle, final long low) {
+            this.high = high;
+            this.middle = middle;
+            this.low = low;
+            final String key = new PackedAccessKey(high, middle, low).generate();
+            int sum = 0;
+            for (int i = 0; i < 25; i++) {
+                sum += (key.charAt(i) - '0') * AccessKeyGenerator.WEIGHTS[i];
+            }
+            this.sum = sum;
+        }
+
+        /**
+         * Chamado apenas pela thread de escrita.
+         */
+        boolean add(final long entry) {
+            Postings current = postings;
+            final int size = current.size;
+            if (size == 0 || entry > current.sorted[size - 1]) {
+                // em ordem: vai direto para o fim da lista, mesmo com chaves fora de ordem pendentes
+                if (current.pendingSize != 0 && pendingEntries.contains(entry)) {
+                    return false;
+                }
+                if (size == current.sorted.length) {
+                    final long[] grown = Arrays.copyOf(current.sorted, size + (size >> 1));
+                    grown[size] = entry;
+                    postings = new Postings(grown, size + 1, current.pending, current.pendingSize);
+                } else {
+                    current.sorted[size] = entry;
+                    current.size = size + 1;
+                }
+                return true;
+            }
+            final int index = lowerBound(current.sorted, size, entry);
+            if (current.sorted[index] == entry || pendingEntries.contains(entry)) {
+                return false;
+            }
+            int pendingSize = current.pendingSize;
+            if (pendingSize >= Math.max(PENDING_MIN, size >>> 3)) {
+                current = current.merge();
+                postings = current;
+                pendingEntries.clear();
+                pendingSize = 0;
+            }
+            if (current.pending == null || pendingSize == current.pending.length) {
+                final long[] pending = current.pending == null
+                        ? new long[PENDING_MIN]
+                        : Arrays.copyOf(current.pending, pendingSize * 2);
+                pending[pendingSize] = entry;
+                postings = new Postings(current.sorted, current.size, pending, pendingSize + 1);
+            } else {
+                current.pending[pendingSize] = entry;
+                current.pendingSize = pendingSize + 1;
+            }
+            pendingEntries.add(entry);
+            return true;
+        }
+
+        void forEach(final long from, final long to, final Consumer<PackedAccessKey> consumer) {
+            final Postings current = postings;
+            final long[] sorted = current.sorted;
+            final int size = current.size;
+            final long[] pending = current.pending(from, to);
+            int i = lowerBound(sorted, size, from);
+            int j = 0;
+            while (true) {
+                final boolean hasSorted = i < size && sorted[i] < to;
+                if (!hasSorted && j == pending.length) {
+                    return;
+                }
+                if (hasSorted && (j == pending.length || sorted[i] < pending[j])) {
+                    consumer.accept(toKey(sorted[i++]));
+                } else {
+                    consumer.accept(toKey(pending[j++]));
+                }
+            }
+        }
+
+        long count(final long from, final long to) {
+            final Postings current = postings;
+            final long[] pending = current.sortedPending();
+            return lowerBound(current.sorted, current.size, to) - lowerBound(current.sorted, current.size, from)
+                    + lowerBound(pending, pending.length, to) - lowerBound(pending, pending.length, from);
+        }
+
+        private PackedAccessKey toKey(final long entry) {
+            final int number = (int) (entry >>> NUMBER_SHIFT);
+            final int issueMode = (int) (entry >>> ISSUE_MODE_SHIFT) & 0xF;
+            final int code = (int) entry & 0x7FF_FFFF;
+            final int checkDigit = AccessKeyGenerator.checkDigit(sum
+                    + weightedSum(number, 25, 34) + issueMode * AccessKeyGenerator.WEIGHTS[34] + weightedSum(code, 35, 43));
+            return new PackedAccessKey(high,
+                    middle | (long) number << PackedAccessKey.NUMBER_SHIFT,
+                    low | (long) issueMode << PackedAccessKey.ISSUE_MODE_SHIFT | (long) code << PackedAccessKey.CODE_SHIFT | checkDigit);
+        }
+
+        private static int weightedSum(int value, final int from, final int to) {
+            int sum = 0;
+            for (int i = to - 1; i >= from; i--) {
+                sum += value % 10 * AccessKeyGenerator.WEIGHTS[i];
+                value /= 10;
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Estado publicado de um grupo. Os arrays só recebem escritas além das quantidades publicadas,
+     * então um leitor que leu {@code size} e {@code pendingSize} vê sempre as mesmas entradas.
+     */
+    private static final class Postings {
+
+        private final long[] sorted;
+        private volatile int size;
+        private final long[] pending;
+        private volatile int pendingSize;
+        private volatile long[] sortedPending;
+
+        Postings(final long[] sorted, final int size, final long[] pending, final int pendingSize) {
+            this.sorted = sorted;
+            this.size = size;
+            this.pending = pending;
+            this.pendingSize = pendingSize;
+        }
+
+        /**
+         * @return entradas pendentes em {@code [from, to)}, ordenadas
+         */
+        long[] pending(final long from, final long to) {
+            final long[] pending = sortedPending();
+            final int first = lowerBound(pending, pending.length, from);
+            final int last = lowerBound(pending, pending.length, to);
+            return first == 0 && last == pending.length ? pending : Arrays.copyOfRange(pending, first, last);
+        }
+
+        /**
+         * Cópia ordenada das entradas pendentes publicadas, compartilhada pelas consultas até a próxima
+         * chave fora de ordem. Não deve ser alterada.
+         */
+        long[] sortedPending() {
+            final int pendingSize = this.pendingSize;
+            if (pendingSize == 0) {
+                return EMPTY;
+            }
+            long[] sorted = sortedPending;
+            if (sorted == null || sorted.length != pendingSize) {
+                sorted = Arrays.copyOf(pending, pendingSize);
+                Arrays.sort(sorted);
+                sortedPending = sorted;
+            }
+            return sorted;
+        }
+
+        /**
+         * Intercala as entradas pendentes com as ordenadas em um novo array.
+         */
+        Postings merge() {
+            final long[] extra = sortedPending();
+            final int total = size + extra.length;
+            final long[] merged = new long[total + (total >> 3) + 8];
+            int i = 0;
+            int j = 0;
+            for (int k = 0; k < total; k++) {
+                merged[k] = j == extra.length || i < size && sorted[i] < extra[j] ? sorted[i++] : extra[j++];
+            }
+            return new Postings(merged, total, null, 0);
+        }
+    }
+
+    /**
+     * Conjunto de entradas com endereçamento aberto. Zero marca posição livre: toda entrada tem tipo
+     * de emissão entre 1 e 9, então nunca é zero.
+     */
+    private static final class EntrySet {
+
+        private long[] slots = new long[2 * PENDING_MIN];
+        private int size;
+
+        boolean contains(final long entry) {
+            final int mask = slots.length - 1;
+            for (int i = index(entry, mask); ; i = (i + 1) & mask) {
+                if (slots[i] == entry) {
+                    return true;
+                }
+                if (slots[i] == 0L) {
+                    return false;
+                }
+            }
+        }
+
+        void add(final long entry) {
+            if (2 * (size + 1) > slots.length) {
+                final long[] old = slots;
+                slots = new long[old.length * 2];
+                size = 0;
+                for (long value : old) {
+                    if (value != 0L) {
+                        add(value);
+                    }
+                }
+            }
+            final int mask = slots.length - 1;
+            int i = index(entry, mask);
+            while (slots[i] != 0L) {
+                i = (i + 1) & mask;
+            }
+            slots[i] = entry;
+            size++;
+        }
+
+        void clear() {
+            Arrays.fill(slots, 0L);
+            size = 0;
+        }
+
+        private static int index(final long entry, final int mask) {
+            return (int) (PackedAccessKey.hash(entry, 0L, 0L) & mask);
+        }
+    }
+
+    /**
+     * @return primeira posição em {@code [0, size)} com valor maior ou igual a {@code value}
+     */
+    private static int lowerBound(final long[] values, final int size, final long value) {
+        int from = 0;
+        int to = size;
+        while (from < to) {
+            final int middle = (from + to) >>> 1;
+            if (values[middle] < value) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return to;
+    }
+}
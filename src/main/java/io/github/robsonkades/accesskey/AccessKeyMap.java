@@ -0,0 +1,151 @@
+package io.github.robsonkades.accesskey;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Mapa indexado por chaves de acesso na forma compacta de {@link PackedAccessKey}.
+ *
+ * <p>Usa endereçamento aberto: as chaves ficam em um único {@code long[]} (três {@code long}s por
+ * entrada) e os valores em um {@code Object[]} paralelo, sem nós nem objetos de chave por entrada.
+ * As operações que recebem {@link CharSequence} validam a chave e a codificam sem alocar memória.</p>
+ *
+ * <p>Não é thread-safe.</p>
+ *
+ * @param <V> tipo dos valores
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class AccessKeyMap<V> {
+
+    private final PackedKeyTable table;
+
+    public AccessKeyMap() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize quantidade de entradas esperada, usada para dimensionar a tabela
+     */
+    public AccessKeyMap(final int expectedSize) {
+        this.table = new PackedKeyTable(expectedSize, true);
+    }
+
+    /**
+     * Associa o valor à chave.
+     *
+     * @param key   chave com 44 caracteres
+     * @param value valor
+     * @return valor anterior ou {@code null}
+     * @throws AccessKeyException se a chave for inválida
+     */
+    public V put(final CharSequence key, final V value) {
+        AccessKeyParser.requireValid(key);
+        return put(PackedAccessKey.high(key), PackedAccessKey.middle(key), PackedAccessKey.low(key), value);
+    }
+
+    public V put(final PackedAccessKey key, final V value) {
+        return put(key.getHigh(), key.getMiddle(), key.getLow(), value);
+    }
+
+    /**
+     * @param key chave com 44 caracteres
+     * @return valor associado ou {@code null} se a chave for inválida ou não estiver no mapa
+     */
+    public V get(final CharSequence key) {
+        if (!AccessKeyParser.isValid(key)) {
+            return null;
+        }
+        return valueAt(table.indexOf(PackedAccessKey.high(key), PackedAccessKey.middle(key), PackedAccessKey.low(key)));
+    }
+
+    public V get(final PackedAccessKey key) {
+        return valueAt(table.indexOf(key.getHigh(), key.getMiddle(), key.getLow()));
+    }
+
+    public boolean containsKey(final CharSequence key) {
+        return AccessKeyParser.isValid(key)
+                && table.indexOf(PackedAccessKey.high(key), PackedAccessKey.middle(key), PackedAccessKey.low(key)) >= 0;
+    }
+
+    public boolean containsKey(final PackedAccessKey key) {
+        return table.indexOf(key.getHigh(), key.getMiddle(), key.getLow()) >= 0;
+    }
+
+    /**
+     * @param key chave com 44 caracteres
+     * @return valor removido ou {@code null}
+     */
+    public V remove(final CharSequence key) {
+        if (!AccessKeyParser.isValid(key)) {
+            return null;
+        }
+        return remove(PackedAccessKey.high(key), PackedAccessKey.middle(key), PackedAccessKey.low(key));
+    }
+
+    public V remove(final PackedAccessKey key) {
+        return remove(key.getHigh(), key.getMiddle(), key.getLow());
+    }
+
+    public int size() {
+        return table.size();
+    }
+
+    public boolean isEmpty() {
+        return table.size() == 0;
+    }
+
+    public void clear() {
+        table.clear();
+    }
+
+    /**
+     * Percorre as entradas do mapa, sem ordem definida.
+     *
+     * @param action ação executada para cada entrada
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final BiConsumer<? super PackedAccessKey, ? super V> action) {
+        Objects.requireNonNull(action);
+        for (int slot = 0; slot < table.capacity(); slot++) {
+            if (!table.isFree(slot)) {
+                action.accept(table.keyAt(slot), (V) table.valueAt(slot));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V put(final long high, final long middle, final long low, final V value) {
+        final int slot = table.insert(high, middle, low);
+        if (slot < 0) {
+            table.valueAt(~slot, value);
+            return null;
+        }
+        final V previous = (V) table.valueAt(slot);
+        table.valueAt(slot, value);
+        return previous;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V remove(final long high, final long middle, final long low) {
+        final int slot = table.indexOf(high, middle, low);
+        if (slot < 0) {
+            return null;
+        }
+        final V previous = (V) table.valueAt(slot);
+        table.removeAt(slot);
+        return previous;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(final int slot) {
+        return slot < 0 ? null : (V) table.valueAt(slot);
+    }
+
+    @Override
+    public String toString() {
+        return "AccessKeyMap{" +
+                "size=" + table.size() +
+                '}';
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.robsonkades.accesskey;
+
+import java.util.Comparator;
+
+/**
+ * Ordenações de negócio das chaves de acesso, usadas pelos comparadores e por
+ * {@link AccessKeySorter}.
+ *
+ * <p>A ordem lexicográfica das chaves de 44 caracteres começa pela UF e pelo ano/mês, o que separa
+ * as notas de um mesmo emitente e série. As ordenações abaixo seguem a forma compacta de
+ * {@link PackedAccessKey} e não exigem converter as chaves em texto.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * keys.sort(AccessKeyOrder.EMITTER.comparator());
+ * }</pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public enum AccessKeyOrder {
+
+    /**
+     * CNPJ, modelo, série e número; depois UF, ano/mês, tipo de emissão e código. É a ordem natural
+     * de {@link PackedAccessKey}.
+     */
+    EMITTER {
+        @Override
+        int compare(final PackedAccessKey a, final PackedAccessKey b) {
+            return a.compareTo(b);
+        }
+    },
+
+    /**
+     * Ano/mês de emissão e, dentro do mês, a ordem de {@link #EMITTER}.
+     */
+    YEAR_MONTH {
+        @Override
+        int compare(final PackedAccessKey a, final PackedAccessKey b) {
+            final int result = Long.compare(yearMonthBits(a.getLow()), yearMonthBits(b.getLow()));
+            return result != 0 ? result : a.compareTo(b);
+        }
+    };
+
+    private final Comparator<AccessKey> comparator = (a, b) -> compare(a.packed(), b.packed());
+    private final Comparator<PackedAccessKey> packedComparator = this::compare;
+
+    /**
+     * @return comparador de {@link AccessKey}; usa a forma compacta guardada em cada chave
+     */
+    public Comparator<AccessKey> comparator() {
+        return comparator;
+    }
+
+    /**
+     * @return comparador de {@link PackedAccessKey}
+     */
+    public Comparator<PackedAccessKey> packedComparator() {
+        return packedComparator;
+    }
+
+    abstract int compare(PackedAccessKey a, PackedAccessKey b);
+
+    /**
+     * Ano (7 bits) seguido do mês (4 bits), extraídos de {@link PackedAccessKey#getLow()}.
+     */
+    static long yearMonthBits(final long low) {
+        return (low >>> PackedAccessKey.MONTH_SHIFT) & 0x7FF;
+    }
+}
@@ -0,0 +1,467 @@
+package io.github.robsonkades.accesskey;
+
+import io.github.robsonkades.cnpj.CNPJ;
+
+import java.time.YearMonth;
+
+/**
+ * Parser da Chave de Acesso em uma única varredura.
+ *
+ * <p>Cada caractere é lido uma única vez: no mesmo laço são verificados o alfabeto
+ * ({@code [A-Z0-9]}), acumulados os valores numéricos dos campos e montada a soma ponderada
+ * do módulo 11. Não são criadas {@link String}s intermediárias, com exceção do valor entregue
+ * a {@link CNPJ#of(String)}.</p>
+ *
+ * <p>Layout da chave (posições baseadas em zero):</p>
+ * <pre>
+ *  0..1   cUF      2..5   AAMM     6..19  CNPJ     20..21 mod
+ *  22..24 serie    25..33 nNF      34     tpEmis   35..42 cNF    43 cDV
+ * </pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+final class AccessKeyParser {
+
+    static final int LENGTH = AccessKeyGenerator.LENGTH;
+
+    static final String INVALID_FORMAT = "A chave de acesso deve conter exatamente 44 caracteres alfanuméricos.";
+
+    /**
+     * Valor devolvido por {@link #parseInt(String)} quando o texto não é um {@code int}.
+     */
+    static final long NOT_A_NUMBER = Long.MIN_VALUE;
+
+    /**
+     * Pesos do primeiro DV do CNPJ para as 12 posições da raiz e da ordem.
+     */
+    private static final int[] CNPJ_WEIGHTS_1 = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+
+    /**
+     * Pesos do segundo DV do CNPJ para as 12 posições da raiz e da ordem (o primeiro DV tem peso 2).
+     */
+    private static final int[] CNPJ_WEIGHTS_2 = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3};
+
+    /**
+     * {@link YearMonth} de 2000-01 a 2099-12, indexados por {@code AA * 12 + MM - 1}.
+     */
+    private static final YearMonth[] YEAR_MONTHS = new YearMonth[100 * 12];
+
+    static {
+        for (int i = 0; i < YEAR_MONTHS.length; i++) {
+            YEAR_MONTHS[i] = YearMonth.of(2000 + i / 12, i % 12 + 1);
+        }
+    }
+
+    private AccessKeyParser() {
+        // empty constructor
+    }
+
+    /**
+     * Converte e valida a chave de acesso.
+     *
+     * @param key chave com 44 caracteres
+     * @return chave de acesso decodificada
+     * @throws AccessKeyException se o formato, algum campo ou o DV forem inválidos
+     */
+    static AccessKey parse(final CharSequence key) {
+        return parse(key, null);
+    }
+
+    /**
+     * Converte e valida a chave de acesso, obtendo o CNPJ de {@code cache} quando informado.
+     *
+     * @param key   chave com 44 caracteres
+     * @param cache cache de CNPJs (pode ser {@code null})
+     * @return chave de acesso decodificada
+     * @throws AccessKeyException se o formato, algum campo ou o DV forem inválidos
+     */
+    static AccessKey parse(final CharSequence key, final CnpjCache cache) {
+        if (key == null || key.length() != LENGTH) {
+            throw new AccessKeyException(INVALID_FORMAT);
+        }
+
+        final int[] weights = AccessKeyGenerator.WEIGHTS;
+        int sum = 0;
+        // bit i ligado quando a posição i contém uma letra
+        long letters = 0L;
+
+        // cUF + AAMM
+        int head = 0;
+        for (int i = 0; i < 6; i++) {
+            final int v = value(key, i);
+            letters |= (v > 9 ? 1L : 0L) << i;
+            head = head * 10 + v;
+            sum += v * weights[i];
+        }
+
+        // CNPJ (alfanumérico)
+        for (int i = 6; i < 20; i++) {
+            sum += value(key, i) * weights[i];
+        }
+
+        // mod + serie + nNF + tpEmis
+        long body = 0L;
+        for (int i = 20; i < 35; i++) {
+            final int v = value(key, i);
+            letters |= (v > 9 ? 1L : 0L) << i;
+            body = body * 10 + v;
+            sum += v * weights[i];
+        }
+
+        // cNF
+        int tail = 0;
+        for (int i = 35; i < 43; i++) {
+            final int v = value(key, i);
+            letters |= (v > 9 ? 1L : 0L) << i;
+            tail = tail * 10 + v;
+            sum += v * weights[i];
+        }
+        value(key, 43);
+        final int dv = Character.digit(key.charAt(43), 10);
+
+        if (hasLetter(letters, 0, 2)) {
+            throw new AccessKeyException("Código do estado deve ser numérico: " + key.subSequence(0, 2));
+        }
+        final State state = State.fromCode(head / 10_000);
+
+        if (hasLetter(letters, 2, 6)) {
+            throw new AccessKeyException("Ano e mês de emissão inválidos: " + key.subSequence(2, 6));
+        }
+        final int month = head % 100;
+        if (month < 1 || month > 12) {
+            throw new AccessKeyException("Ano e mês de emissão inválidos: " + key.subSequence(2, 6));
+        }
+        final YearMonth yearMonth = yearMonth((head / 100) % 100, month);
+
+        final CNPJ cnpj = cache != null ? cache.get(key, 6) : CNPJ.of(key.subSequence(6, 20).toString());
+
+        if (hasLetter(letters, 20, 22)) {
+            throw new AccessKeyException("Modelo deve ser numérico: " + key.subSequence(20, 22));
+        }
+        final Model model = Model.fromCode((int) (body / 10_000_000_000_000L));
+
+        if (hasLetter(letters, 22, 25)) {
+            throw new AccessKeyException("Série deve ser numérica: " + key.subSequence(22, 25));
+        }
+        final Series series = Series.of((int) (body / 10_000_000_000L % 1_000));
+
+        if (hasLetter(letters, 25, 34)) {
+            throw new AccessKeyException("Número deve ser numérico: " + key.subSequence(25, 34));
+        }
+        final Number number = Number.of((int) (body / 10 % 1_000_000_000));
+
+        if (hasLetter(letters, 34, 35)) {
+            throw new AccessKeyException("Tipo de emissão deve ser numérico: " + key.subSequence(34, 35));
+        }
+        final IssueMode issueMode = IssueMode.fromCode((int) (body % 10));
+
+        if (hasLetter(letters, 35, 43)) {
+            throw new AccessKeyException("Código numérico deve ser numérico: " + key.subSequence(35, 43));
+        }
+        final Code code = new Code(tail);
+
+        final int calculatedDv = AccessKeyGenerator.checkDigit(sum);
+        if (dv != calculatedDv) {
+            throw new AccessKeyException(
+                    String.format("Chave de acesso inválida. Esperado DV=%d mas foi encontrado %d.", calculatedDv, dv)
+            );
+        }
+        return new AccessKey(state, yearMonth, cnpj, model, series, number, issueMode, code);
+    }
+
+    /**
+     * Converte o texto com as mesmas regras de {@link Integer#parseInt(String)}, mas sem lançar
+     * {@link NumberFormatException}.
+     *
+     * @param text texto a converter (pode ser {@code null})
+     * @return valor convertido ou {@link #NOT_A_NUMBER}
+     */
+    static long parseInt(final String text) {
+        if (text == null || text.isEmpty()) {
+            return NOT_A_NUMBER;
+        }
+        final char first = text.charAt(0);
+        final boolean negative = first == '-';
+        int i = negative || first == '+' ? 1 : 0;
+        if (i == text.length()) {
+            return NOT_A_NUMBER;
+        }
+        long value = 0L;
+        for (; i < text.length(); i++) {
+            final int digit = Character.digit(text.charAt(i), 10);
+            if (digit < 0) {
+                return NOT_A_NUMBER;
+            }
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE + 1L) {
+                return NOT_A_NUMBER;
+            }
+        }
+        value = negative ? -value : value;
+        return value > Integer.MAX_VALUE ? NOT_A_NUMBER : value;
+    }
+
+    /**
+     * @return valor de dois dígitos ASCII ou {@code -1} se algum deles não for um dígito
+     */
+    static int twoDigits(final char first, final char second) {
+        final int d1 = first - '0';
+        final int d2 = second - '0';
+        return d1 >= 0 && d1 <= 9 && d2 >= 0 && d2 <= 9 ? d1 * 10 + d2 : -1;
+    }
+
+    /**
+     * @param year  ano com dois dígitos (0 a 99)
+     * @param month mês (1 a 12)
+     * @return instância compartilhada do ano e mês
+     */
+    static YearMonth yearMonth(final int year, final int month) {
+        return YEAR_MONTHS[year * 12 + month - 1];
+    }
+
+    /**
+     * Verifica a chave sem criar objetos nem lançar exceções.
+     *
+     * @param key chave a verificar (pode ser {@code null})
+     * @return {@code true} se a chave for válida
+     * @see #validate(CharSequence, AccessKeyValidation)
+     */
+    static boolean isValid(final CharSequence key) {
+        return validate(key, null);
+    }
+
+    /**
+     * Verifica a chave sem criar objetos nem lançar exceções, registrando a primeira falha em
+     * {@code result}.
+     *
+     * <p>São verificados, na ordem dos campos, o tamanho, o alfabeto, o código da UF, o mês, os
+     * dígitos verificadores do CNPJ, o modelo, o tipo de emissão e o DV da chave.</p>
+     *
+     * @param key    chave a verificar (pode ser {@code null})
+     * @param result resultado a preencher ou {@code null} quando apenas o retorno interessa
+     * @return {@code true} se a chave for válida
+     */
+    static boolean validate(final CharSequence key, final AccessKeyValidation result) {
+        return scan(key, result, null);
+    }
+
+    /**
+     * Converte a chave com uma única leitura, sem lançar exceções para chaves inválidas.
+     *
+     * @param key    chave a converter (pode ser {@code null})
+     * @param result resultado a preencher ou {@code null} quando apenas o retorno interessa
+     * @return chave de acesso ou {@code null} se a chave for inválida
+     */
+    static AccessKey tryParse(final CharSequence key, final AccessKeyValidation result) {
+        final Fields fields = new Fields();
+        if (!scan(key, result, fields)) {
+            return null;
+        }
+        final CNPJ cnpj;
+        try {
+            cnpj = CNPJ.of(key.subSequence(6, 20).toString());
+        } catch (RuntimeException e) {
+            // os DVs já conferem; a biblioteca pode recusar o CNPJ por outras regras
+            fail(result, AccessKeyError.CNPJ, 6, -1);
+            return null;
+        }
+        final long body = fields.body;
+        return new AccessKey(
+                State.fromCode(fields.head / 10_000),
+                yearMonth((fields.head / 100) % 100, fields.head % 100),
+                cnpj,
+                Model.fromCode((int) (body / 10_000_000_000_000L)),
+                Series.of((int) (body / 10_000_000_000L % 1_000)),
+                Number.of((int) (body / 10 % 1_000_000_000)),
+                IssueMode.fromCode((int) (body % 10)),
+                new Code(fields.tail));
+    }
+
+    /**
+     * Verifica a chave e, se {@code fields} for informado, guarda nele os campos numéricos lidos.
+     */
+    private static boolean scan(final CharSequence key, final AccessKeyValidation result, final Fields fields) {
+        if (result != null) {
+            result.reset();
+        }
+        if (key == null || key.length() != LENGTH) {
+            return fail(result, AccessKeyError.LENGTH, key == null ? -1 : key.length(), -1);
+        }
+        final int[] weights = AccessKeyGenerator.WEIGHTS;
+        int sum = 0;
+
+        // cUF + AAMM
+        int head = 0;
+        for (int i = 0; i < 6; i++) {
+            final int d = digit(key, i);
+            if (d < 0) {
+                return fail(result, AccessKeyError.CHARACTER, i, -1);
+            }
+            head = head * 10 + d;
+            sum += d * weights[i];
+        }
+        if (State.find(head / 10_000) == null) {
+            return fail(result, AccessKeyError.STATE, 0, head / 10_000);
+        }
+        final int month = head % 100;
+        if (month < 1 || month > 12) {
+            return fail(result, AccessKeyError.MONTH, 2, head % 10_000);
+        }
+
+        // CNPJ: raiz e ordem alfanuméricas, DVs numéricos
+        int cnpjSum1 = 0;
+        int cnpjSum2 = 0;
+        for (int i = 6; i < 18; i++) {
+            final int v = alphanumeric(key, i);
+            if (v < 0) {
+                return fail(result, AccessKeyError.CHARACTER, i, -1);
+            }
+            sum += v * weights[i];
+            cnpjSum1 += v * CNPJ_WEIGHTS_1[i - 6];
+            cnpjSum2 += v * CNPJ_WEIGHTS_2[i - 6];
+        }
+        final int cnpjDv1 = digit(key, 18);
+        if (cnpjDv1 < 0) {
+            return fail(result, AccessKeyError.CHARACTER, 18, -1);
+        }
+        final int cnpjDv2 = digit(key, 19);
+        if (cnpjDv2 < 0) {
+            return fail(result, AccessKeyError.CHARACTER, 19, -1);
+        }
+        if (cnpjDv1 != AccessKeyGenerator.checkDigit(cnpjSum1)
+                || cnpjDv2 != AccessKeyGenerator.checkDigit(cnpjSum2 + cnpjDv1 * 2)) {
+            return fail(result, AccessKeyError.CNPJ, 6, -1);
+        }
+        sum += cnpjDv1 * weights[18] + cnpjDv2 * weights[19];
+
+        // mod + serie + nNF + tpEmis
+        long body = 0L;
+        for (int i = 20; i < 35; i++) {
+            final int d = digit(key, i);
+            if (d < 0) {
+                return fail(result, AccessKeyError.CHARACTER, i, -1);
+            }
+            body = body * 10 + d;
+            sum += d * weights[i];
+        }
+
+        // cNF
+        int tail = 0;
+        for (int i = 35; i < 43; i++) {
+            final int d = digit(key, i);
+            if (d < 0) {
+                return fail(result, AccessKeyError.CHARACTER, i, -1);
+            }
+            tail = tail * 10 + d;
+            sum += d * weights[i];
+        }
+        final int model = (int) (body / 10_000_000_000_000L);
+        if (Model.find(model) == null) {
+            return fail(result, AccessKeyError.MODEL, 20, model);
+        }
+        final int issueMode = key.charAt(34) - '0';
+        if (IssueMode.find(issueMode) == null) {
+            return fail(result, AccessKeyError.ISSUE_MODE, 34, issueMode);
+        }
+
+        final int dv = digit(key, 43);
+        if (dv < 0) {
+            return fail(result, AccessKeyError.CHARACTER, 43, -1);
+        }
+        final int calculatedDv = AccessKeyGenerator.checkDigit(sum);
+        if (dv != calculatedDv) {
+            return result == null ? false : result.failCheckDigit(calculatedDv, dv);
+        }
+        if (fields != null) {
+            fields.head = head;
+            fields.body = body;
+            fields.tail = tail;
+        }
+        return true;
+    }
+
+    /**
+     * Confere os dígitos verificadores do CNPJ gravado nas posições 6 a 19 da chave.
+     *
+     * @param key chave com pelo menos 20 caracteres
+     * @return {@code true} se raiz e ordem forem alfanuméricas e os dois DVs estiverem corretos
+     */
+    static boolean isCnpjValid(final CharSequence key) {
+        int sum1 = 0;
+        int sum2 = 0;
+        for (int i = 6; i < 18; i++) {
+            final int v = alphanumeric(key, i);
+            if (v < 0) {
+                return false;
+            }
+            sum1 += v * CNPJ_WEIGHTS_1[i - 6];
+            sum2 += v * CNPJ_WEIGHTS_2[i - 6];
+        }
+        final int dv1 = digit(key, 18);
+        final int dv2 = digit(key, 19);
+        return dv1 >= 0 && dv2 >= 0
+                && dv1 == AccessKeyGenerator.checkDigit(sum1)
+                && dv2 == AccessKeyGenerator.checkDigit(sum2 + dv1 * 2);
+    }
+
+    /**
+     * Garante que a chave é válida.
+     *
+     * @param key chave a verificar
+     * @throws AccessKeyValidationException com o motivo da falha se a chave for inválida
+     */
+    static void requireValid(final CharSequence key) {
+        if (!isValid(key)) {
+            final AccessKeyValidation validation = new AccessKeyValidation();
+            validate(key, validation);
+            throw validation.toException();
+        }
+    }
+
+    private static boolean fail(final AccessKeyValidation result, final AccessKeyError error,
+                                final int position, final int value) {
+        return result == null ? false : result.fail(error, position, value);
+    }
+
+    /**
+     * Retorna o valor do caractere para o módulo 11 ({@code c - '0'}): 0 a 9 para dígitos e
+     * 17 a 42 para letras maiúsculas.
+     */
+    private static int value(final CharSequence key, final int index) {
+        final char c = key.charAt(index);
+        if ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z')) {
+            return c - '0';
+        }
+        throw new AccessKeyException(INVALID_FORMAT);
+    }
+
+    /**
+     * @return valor do dígito na posição ou {@code -1} se não for um dígito
+     */
+    private static int digit(final CharSequence key, final int index) {
+        final char c = key.charAt(index);
+        return (c >= '0' && c <= '9') ? c - '0' : -1;
+    }
+
+    /**
+     * @return valor do caractere para o módulo 11 ou {@code -1} se não pertencer a {@code [A-Z0-9]}
+     */
+    private static int alphanumeric(final CharSequence key, final int index) {
+        final char c = key.charAt(index);
+        return ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z')) ? c - '0' : -1;
+    }
+
+    private static boolean hasLetter(final long letters, final int from, final int to) {
+        return (letters & ((1L << to) - (1L << from))) != 0L;
+    }
+
+    /**
+     * Campos numéricos lidos por {@link #scan}: cUF + AAMM, mod + serie + nNF + tpEmis e cNF.
+     */
+    private static final class Fields {
+        int head;
+        long body;
+        int tail;
+    }
+}
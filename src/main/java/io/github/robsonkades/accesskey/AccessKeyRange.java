@@ -0,0 +1,323 @@
+package io.github.robsonkades.accesskey;
+
+import io.github.robsonkades.cnpj.CNPJ;
+
+import java.nio.CharBuffer;
+import java.time.YearMonth;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sequência de chaves de acesso de um mesmo emitente, UF, mês, modelo, série e tipo de emissão,
+ * variando apenas o número (nNF) dentro de um intervalo.
+ *
+ * <p>As chaves são produzidas sob demanda. O prefixo fixo e a sua soma ponderada são calculados uma
+ * única vez; a cada chave o número é incrementado como um odômetro diretamente nos caracteres, a
+ * soma do DV é ajustada apenas nas posições alteradas e o código numérico vem da
+ * {@link CodeStrategy}. O {@link Spliterator} divide o intervalo ao meio, o que permite usar
+ * {@code stream().parallel()} para gerar ou conferir milhões de chaves em todos os núcleos.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * AccessKeyRange range = AccessKeyRange.builder()
+ *         .state(State.SP)
+ *         .yearMonth(YearMonth.of(2024, 10))
+ *         .cnpj("KSP416L8000109")
+ *         .model(Model.NFE)
+ *         .series(1)
+ *         .issueMode(IssueMode.NORMAL)
+ *         .code(CodeStrategy.fixed(99999999))
+ *         .numbers(1, 1_000_000)
+ *         .build();
+ *
+ * long count = range.stream().parallel().filter(keys::contains).count();
+ * }</pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class AccessKeyRange {
+
+    /**
+     * Tamanho do prefixo repassado à {@link CodeStrategy} (da UF até o tipo de emissão).
+     */
+    private static final int CODE_PREFIX = 35;
+
+    /**
+     * Tamanho mínimo de um intervalo para que o {@link Spliterator} ainda seja dividido.
+     */
+    private static final int MIN_SPLIT = 1024;
+
+    private final char[] template;
+    private final int fixedSum;
+    private final int first;
+    private final int last;
+    private final CodeStrategy codeStrategy;
+
+    private AccessKeyRange(final AccessKey key, final int last, final CodeStrategy codeStrategy) {
+        this.template = new char[AccessKeyGenerator.LENGTH];
+        AccessKeyGenerator.generate(key, template, 0);
+        int sum = 0;
+        for (int i = 0; i < 25; i++) {
+            sum += (template[i] - '0') * AccessKeyGenerator.WEIGHTS[i];
+        }
+        this.fixedSum = sum + (template[34] - '0') * AccessKeyGenerator.WEIGHTS[34];
+        this.first = key.getNumber().getCode();
+        this.last = last;
+        this.codeStrategy = codeStrategy;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return primeiro número do intervalo
+     */
+    public int getFirst() {
+        return first;
+    }
+
+    /**
+     * @return último número do intervalo (inclusive)
+     */
+    public int getLast() {
+        return last;
+    }
+
+    /**
+     * @return quantidade de chaves do intervalo
+     */
+    public long size() {
+        return (long) last - first + 1;
+    }
+
+    /**
+     * @return spliterator das chaves, divisível em partes iguais
+     */
+    public Spliterator<String> spliterator() {
+        return new RangeSpliterator(first, last + 1L);
+    }
+
+    /**
+     * @return stream sequencial das chaves, em ordem de número; use {@code parallel()} para dividir o intervalo
+     */
+    public Stream<String> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Percorre as chaves em ordem sem criar {@link String}s. A {@link CharSequence} entregue é
+     * reutilizada e só é válida durante a chamada.
+     *
+     * @param action ação executada para cada chave
+     */
+    public void forEachKey(final Consumer<? super CharSequence> action) {
+        Objects.requireNonNull(action, "A ação é obrigatória.");
+        final RangeSpliterator spliterator = new RangeSpliterator(first, last + 1L);
+        final CharBuffer key = CharBuffer.wrap(spliterator.chars);
+        while (spliterator.advance()) {
+            action.accept(key);
+        }
+    }
+
+    /**
+     * Percorre uma parte do intervalo mantendo a chave atual em {@link #chars}.
+     */
+    private final class RangeSpliterator implements Spliterator<String> {
+
+        private final char[] chars = template.clone();
+        private final CharSequence prefix = CharBuffer.wrap(chars, 0, CODE_PREFIX);
+        private long next;
+        private long end;
+        /**
+         * Número presente em {@link #chars}; {@code -1} antes da primeira chave ou após uma divisão.
+         */
+        private long current = -1;
+        private int numberSum;
+        /**
+         * Código presente em {@link #chars}; {@link Long#MIN_VALUE} antes da primeira chave.
+         */
+        private long code = Long.MIN_VALUE;
+        private int codeSum;
+
+        private RangeSpliterator(final long next, final long end) {
+            this.next = next;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super String> action) {
+            if (!advance()) {
+                return false;
+            }
+            action.accept(new String(chars));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super String> action) {
+            while (advance()) {
+                action.accept(new String(chars));
+            }
+        }
+
+        @Override
+        public Spliterator<String> trySplit() {
+            final long remaining = end - next;
+            if (remaining < MIN_SPLIT) {
+                return null;
+            }
+            final long middle = next + remaining / 2;
+            final RangeSpliterator head = new RangeSpliterator(next, middle);
+            next = middle;
+            current = -1;
+            return head;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - next;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+
+        /**
+         * Escreve a próxima chave em {@link #chars}.
+         *
+         * @return {@code false} ao final do intervalo
+         */
+        private boolean advance() {
+            if (next >= end) {
+                return false;
+            }
+            final int number = (int) next++;
+            if (current >= 0 && current == number - 1) {
+                increment();
+            } else {
+                render(number);
+            }
+            current = number;
+
+            final int value = codeStrategy.code(prefix, number);
+            if (value != code) {
+                Code.validate(value);
+                codeSum = putDigits(chars, 35, 43, value);
+                code = value;
+            }
+            chars[43] = (char) ('0' + AccessKeyGenerator.checkDigit(fixedSum + numberSum + codeSum));
+            return true;
+        }
+
+        private void render(final int number) {
+            numberSum = putDigits(chars, 25, 34, number);
+        }
+
+        /**
+         * Soma um ao número (posições 25 a 33) propagando o "vai um" e ajustando a soma ponderada.
+         */
+        private void increment() {
+            int i = 33;
+            while (chars[i] == '9') {
+                chars[i] = '0';
+                numberSum -= 9 * AccessKeyGenerator.WEIGHTS[i];
+                i--;
+            }
+            chars[i]++;
+            numberSum += AccessKeyGenerator.WEIGHTS[i];
+        }
+    }
+
+    private static int putDigits(final char[] dest, final int from, final int to, int value) {
+        int sum = 0;
+        for (int i = to - 1; i >= from; i--) {
+            final int digit = value % 10;
+            value /= 10;
+            dest[i] = (char) ('0' + digit);
+            sum += digit * AccessKeyGenerator.WEIGHTS[i];
+        }
+        return sum;
+    }
+
+    public static final class Builder {
+
+        private State state;
+        private YearMonth yearMonth;
+        private CNPJ cnpj;
+        private Model model;
+        private int series;
+        private IssueMode issueMode;
+        private CodeStrategy codeStrategy;
+        private int first;
+        private int last;
+
+        private Builder() {
+        }
+
+        public Builder state(final State state) {
+            this.state = state;
+            return this;
+        }
+
+        public Builder yearMonth(final YearMonth ym) {
+            this.yearMonth = ym;
+            return this;
+        }
+
+        public Builder cnpj(final String value) {
+            this.cnpj = CNPJ.of(value);
+            return this;
+        }
+
+        public Builder model(final Model model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder series(final int value) {
+            this.series = value;
+            return this;
+        }
+
+        public Builder issueMode(final IssueMode mode) {
+            this.issueMode = mode;
+            return this;
+        }
+
+        public Builder code(final CodeStrategy strategy) {
+            this.codeStrategy = strategy;
+            return this;
+        }
+
+        /**
+         * @param first primeiro número do intervalo
+         * @param last  último número do intervalo (inclusive)
+         */
+        public Builder numbers(final int first, final int last) {
+            this.first = first;
+            this.last = last;
+            return this;
+        }
+
+        /**
+         * @return intervalo de chaves
+         * @throws AccessKeyException se algum campo for inválido ou o intervalo estiver invertido
+         */
+        public AccessKeyRange build() {
+            Objects.requireNonNull(codeStrategy, "A estratégia do código numérico é obrigatória.");
+            Number.validate(last);
+            if (first > last) {
+                throw new AccessKeyException("O primeiro número não pode ser maior que o último: " + first + " > " + last);
+            }
+            final AccessKey key = new AccessKey(state, yearMonth, cnpj, model, Series.of(series),
+                    Number.of(first), issueMode, new Code(0));
+            return new AccessKeyRange(key, last, codeStrategy);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package io.github.robsonkades.accesskey;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Leitura incremental de chaves de acesso separadas por quebra de linha.
+ *
+ * <p>Funciona como um cursor: {@link #next()} avança até a próxima chave válida e as linhas
+ * inválidas são entregues ao {@link AccessKeyErrorHandler}, sem interromper a leitura. O buffer de
+ * leitura e o buffer da linha são reutilizados. Cada linha é lida uma única vez: a validação já
+ * produz a {@link AccessKey} devolvida por {@link #toAccessKey()}, e um CNPJ recusado pela biblioteca
+ * de CNPJ é entregue ao handler como {@link AccessKeyError#CNPJ}.
+ * {@link #stream()} expõe o mesmo cursor como um {@link Stream} avaliado sob demanda.</p>
+ *
+ * <p>Fontes de bytes ({@link InputStream} e {@link ReadableByteChannel}) são lidas como ASCII.
+ * Linhas vazias são ignoradas e quebras {@code \r\n} são aceitas. Não é thread-safe.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * try (Stream<AccessKey> keys = AccessKeyReader.of(inputStream, AccessKeyErrorHandler.ignore()).stream()) {
+ *     keys.forEach(this::process);
+ * }
+ * }</pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class AccessKeyReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Quantidade máxima de caracteres guardados por linha; linhas maiores são inválidas de qualquer forma.
+     */
+    private static final int MAX_LINE = 128;
+
+    private final Reader reader;
+    private final ReadableByteChannel channel;
+    private final AccessKeyErrorHandler errorHandler;
+    private final char[] chars;
+    private final ByteBuffer bytes;
+    private final char[] line = new char[MAX_LINE];
+    private final CharBuffer lineView = CharBuffer.wrap(line);
+    private final AccessKeyValidation validation = new AccessKeyValidation();
+
+    private int position;
+    private int limit;
+    private long lineNumber;
+    private boolean eof;
+    private AccessKey current;
+
+    private AccessKeyReader(final Reader reader, final ReadableByteChannel channel, final AccessKeyErrorHandler errorHandler) {
+        this.reader = reader;
+        this.channel = channel;
+        this.errorHandler = Objects.requireNonNull(errorHandler, "O tratamento de erros é obrigatório.");
+        this.chars = reader != null ? new char[BUFFER_SIZE] : null;
+        this.bytes = channel != null ? ByteBuffer.allocate(BUFFER_SIZE) : null;
+    }
+
+    public static AccessKeyReader of(final Reader reader, final AccessKeyErrorHandler errorHandler) {
+        return new AccessKeyReader(Objects.requireNonNull(reader, "O reader é obrigatório."), null, errorHandler);
+    }
+
+    public static AccessKeyReader of(final InputStream in, final AccessKeyErrorHandler errorHandler) {
+        return of(Channels.newChannel(Objects.requireNonNull(in, "O input stream é obrigatório.")), errorHandler);
+    }
+
+    /**
+     * @param channel      origem dos bytes; deve estar e permanecer em modo bloqueante
+     * @param errorHandler tratamento das linhas inválidas
+     * @return leitor de chaves
+     * @throws IllegalArgumentException se {@code channel} for um {@link SelectableChannel} não bloqueante,
+     *                                  que pode ler zero bytes e faria o leitor girar sem progresso
+     */
+    public static AccessKeyReader of(final ReadableByteChannel channel, final AccessKeyErrorHandler errorHandler) {
+        Objects.requireNonNull(channel, "O channel é obrigatório.");
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new IllegalArgumentException("O channel deve estar em modo bloqueante.");
+        }
+        return new AccessKeyReader(null, channel, errorHandler);
+    }
+
+    /**
+     * Avança até a próxima chave válida.
+     *
+     * @return {@code false} ao atingir o fim da entrada
+     * @throws UncheckedIOException se a leitura falhar
+     */
+    public boolean next() {
+        while (true) {
+            final int length = readLine();
+            if (length < 0) {
+                return false;
+            }
+            if (length == 0) {
+                continue;
+            }
+            final CharSequence key = view(length);
+            if (length > MAX_LINE) {
+                validation.reset();
+                validation.fail(AccessKeyError.LENGTH, length, -1);
+            } else {
+                final AccessKey parsed = AccessKeyParser.tryParse(key, validation);
+                if (parsed != null) {
+                    current = parsed;
+                    return true;
+                }
+            }
+            errorHandler.onError(lineNumber, key, validation);
+        }
+    }
+
+    /**
+     * @return chave atual; a instância é reutilizada e só é válida até a próxima chamada de {@link #next()}
+     */
+    public CharSequence key() {
+        return lineView;
+    }
+
+    /**
+     * @return número da linha da chave atual (a partir de 1)
+     */
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return chave atual convertida em {@link AccessKey} ou {@code null} antes da primeira chamada
+     * de {@link #next()}
+     */
+    public AccessKey toAccessKey() {
+        return current;
+    }
+
+    /**
+     * @return chave atual na forma compacta
+     */
+    public PackedAccessKey toPackedAccessKey() {
+        return PackedAccessKey.of(lineView);
+    }
+
+    /**
+     * Expõe as chaves válidas restantes como um {@link Stream} sequencial e ordenado. Cada chave só é
+     * lida e convertida quando o stream a solicita. Fechar o stream fecha este leitor.
+     *
+     * @return stream das chaves válidas
+     */
+    public Stream<AccessKey> stream() {
+        final Spliterator<AccessKey> spliterator = new Spliterators.AbstractSpliterator<AccessKey>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(final Consumer<? super AccessKey> action) {
+                if (!next()) {
+                    return false;
+                }
+                action.accept(current);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (reader != null) {
+            reader.close();
+        } else {
+            channel.close();
+        }
+    }
+
+    private CharSequence view(final int length) {
+        lineView.clear();
+        lineView.limit(Math.min(length, MAX_LINE));
+        return lineView;
+    }
+
+    /**
+     * Lê a próxima linha para {@link #line}.
+     *
+     * @return tamanho da linha sem a quebra ({@code -1} no fim da entrada)
+     */
+    private int readLine() {
+        int length = 0;
+        boolean any = false;
+        while (true) {
+            if (position == limit) {
+                if (eof || !fill()) {
+                    eof = true;
+                    if (!any) {
+                        return -1;
+                    }
+                    lineNumber++;
+                    return trimCarriageReturn(length);
+                }
+            }
+            any = true;
+            final char c = chars != null ? chars[position++] : (char) (bytes.get(position++) & 0xFF);
+            if (c == '\n') {
+                lineNumber++;
+                return trimCarriageReturn(length);
+            }
+            if (length < MAX_LINE) {
+                line[length] = c;
+            }
+            length++;
+        }
+    }
+
+    private int trimCarriageReturn(final int length) {
+        return length > 0 && length <= MAX_LINE && line[length - 1] == '\r' ? length - 1 : length;
+    }
+
+    private boolean fill() {
+        try {
+            final int read;
+            if (chars != null) {
+                read = reader.read(chars, 0, chars.length);
+            } else {
+                bytes.clear();
+                read = channel.read(bytes);
+            }
+            if (read < 0) {
+                return false;
+            }
+            position = 0;
+            limit = read;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.robsonkades.accesskey;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Conjunto de chaves de acesso armazenadas na forma compacta de {@link PackedAccessKey}.
+ *
+ * <p>Usa endereçamento aberto sobre um único {@code long[]}: cada chave ocupa três {@code long}s
+ * e não há nós, {@link String}s nem objetos por elemento. As operações que recebem
+ * {@link CharSequence} validam a chave e a codificam sem alocar memória.</p>
+ *
+ * <p>Não é thread-safe.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * AccessKeySet seen = new AccessKeySet(100_000_000);
+ * for (String key : feed) {
+ *     if (!seen.add(key)) {
+ *         duplicates++;
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class AccessKeySet {
+
+    private final PackedKeyTable table;
+
+    public AccessKeySet() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize quantidade de chaves esperada, usada para dimensionar a tabela
+     */
+    public AccessKeySet(final int expectedSize) {
+        this.table = new PackedKeyTable(expectedSize, false);
+    }
+
+    /**
+     * Adiciona a chave ao conjunto.
+     *
+     * @param key chave com 44 caracteres
+     * @return {@code true} se a chave ainda não estava no conjunto
+     * @throws AccessKeyException se a chave for inválida
+     */
+    public boolean add(final CharSequence key) {
+        AccessKeyParser.requireValid(key);
+        return table.insert(PackedAccessKey.high(key), PackedAccessKey.middle(key), PackedAccessKey.low(key)) < 0;
+    }
+
+    /**
+     * @return {@code true} se a chave ainda não estava no conjunto
+     */
+    public boolean add(final PackedAccessKey key) {
+        return table.insert(key.getHigh(), key.getMiddle(), key.getLow()) < 0;
+    }
+
+    /**
+     * @param key chave com 44 caracteres
+     * @return {@code true} se a chave for válida e estiver no conjunto
+     */
+    public boolean contains(final CharSequence key) {
+        return AccessKeyParser.isValid(key)
+                && table.indexOf(PackedAccessKey.high(key), PackedAccessKey.middle(key), PackedAccessKey.low(key)) >= 0;
+    }
+
+    public boolean contains(final PackedAccessKey key) {
+        return table.indexOf(key.getHigh(), key.getMiddle(), key.getLow()) >= 0;
+    }
+
+    /**
+     * @param key chave com 44 caracteres
+     * @return {@code true} se a chave estava no conjunto
+     */
+    public boolean remove(final CharSequence key) {
+        return AccessKeyParser.isValid(key)
+                && remove(PackedAccessKey.high(key), PackedAccessKey.middle(key), PackedAccessKey.low(key));
+    }
+
+    public boolean remove(final PackedAccessKey key) {
+        return remove(key.getHigh(), key.getMiddle(), key.getLow());
+    }
+
+    public int size() {
+        return table.size();
+    }
+
+    public boolean isEmpty() {
+        return table.size() == 0;
+    }
+
+    public void clear() {
+        table.clear();
+    }
+
+    /**
+     * Percorre as chaves do conjunto, sem ordem definida.
+     *
+     * @param action ação executada para cada chave
+     */
+    public void forEach(final Consumer<? super PackedAccessKey> action) {
+        Objects.requireNonNull(action);
+        for (int slot = 0; slot < table.capacity(); slot++) {
+            if (!table.isFree(slot)) {
+                action.accept(table.keyAt(slot));
+            }
+        }
+    }
+
+    private boolean remove(final long high, final long middle, final long low) {
+        final int slot = table.indexOf(high, middle, low);
+        if (slot < 0) {
+            return false;
+        }
+        table.removeAt(slot);
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "AccessKeySet{" +
+                "size=" + table.size() +
+                '}';
+    }
+}
@@ -0,0 +1,278 @@
+package io.github.robsonkades.accesskey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+/**
+ * Ordena grandes lotes de chaves por radix sort (LSD), sem criar {@link AccessKey} nem
+ * {@link PackedAccessKey}.
+ *
+ * <p>Aceita chaves compactadas em {@code long[]} (três {@code long}s por chave, no formato de
+ * {@link PackedAccessKey#writeTo(long[], int)}) e registros de 44 bytes ASCII gravados em sequência.
+ * A ordenação é estável e percorre os três valores da chave em dígitos de {@value #DIGIT_BITS} bits;
+ * passadas em que todas as chaves têm o mesmo dígito são puladas. Com muitas chaves, cada passada
+ * conta e distribui blocos do array em paralelo no {@link ForkJoinPool}.</p>
+ *
+ * <p>Os registros de 44 bytes devem conter chaves válidas (ver {@link CheckDigits} ou
+ * {@link AccessKey#isValid(byte[], int, int)}); a posição de registros inválidos no resultado não
+ * é definida.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * new AccessKeySorter()
+ *         .order(AccessKeyOrder.YEAR_MONTH)
+ *         .sort(packed, 0, count);
+ * }</pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class AccessKeySorter {
+
+    private static final int DIGIT_BITS = 11;
+    private static final int BUCKETS = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = BUCKETS - 1;
+
+    /**
+     * Quantidade mínima de chaves por bloco para que uma passada seja dividida entre threads.
+     */
+    private static final int MIN_BLOCK = 1 << 15;
+
+    /**
+     * Abaixo deste tamanho a ordenação é feita por inserção.
+     */
+    private static final int INSERTION_SORT = 32;
+
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private AccessKeyOrder order = AccessKeyOrder.EMITTER;
+
+    /**
+     * @param pool pool usado nas passadas paralelas; por padrão {@link ForkJoinPool#commonPool()}
+     */
+    public AccessKeySorter pool(final ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool, "O pool é obrigatório.");
+        return this;
+    }
+
+    /**
+     * @param order ordenação aplicada; por padrão {@link AccessKeyOrder#EMITTER}
+     */
+    public AccessKeySorter order(final AccessKeyOrder order) {
+        this.order = Objects.requireNonNull(order, "A ordenação é obrigatória.");
+        return this;
+    }
+
+    /**
+     * Ordena chaves compactadas.
+     *
+     * @param packed chaves gravadas com {@link PackedAccessKey#writeTo(long[], int)}
+     * @param offset posição do primeiro {@code long} da primeira chave
+     * @param count  quantidade de chaves
+     */
+    public void sort(final long[] packed, final int offset, final int count) {
+        checkRange(packed.length, offset, count, PackedAccessKey.LONGS);
+        if (count < 2) {
+            return;
+        }
+        final long[] values = new long[count * PackedAccessKey.LONGS];
+        System.arraycopy(packed, offset, values, 0, values.length);
+        final long[] sorted = radixSort(values, count, PackedAccessKey.LONGS);
+        System.arraycopy(sorted, 0, packed, offset, sorted.length);
+    }
+
+    /**
+     * Ordena registros de 44 bytes ASCII.
+     *
+     * @param records chaves de 44 bytes gravadas em sequência
+     * @param offset  posição do primeiro byte do primeiro registro
+     * @param count   quantidade de registros
+     */
+    public void sort(final byte[] records, final int offset, final int count) {
+        checkRange(records.length, offset, count, AccessKeyGenerator.LENGTH);
+        if (count < 2) {
+            return;
+        }
+        // cada registro vira os três valores compactados seguidos do seu índice original
+        final int stride = PackedAccessKey.LONGS + 1;
+        final long[] values = new long[count * stride];
+        forEachBlock(count, (from, to) -> {
+            final AsciiSequence key = new AsciiSequence();
+            for (int i = from; i < to; i++) {
+                key.wrap(records, offset + i * AccessKeyGenerator.LENGTH, AccessKeyGenerator.LENGTH);
+                values[i * stride] = PackedAccessKey.high(key);
+                values[i * stride + 1] = PackedAccessKey.middle(key);
+                values[i * stride + 2] = PackedAccessKey.low(key);
+                values[i * stride + 3] = i;
+            }
+        });
+        final long[] sorted = radixSort(values, count, stride);
+        final byte[] copy = new byte[count * AccessKeyGenerator.LENGTH];
+        forEachBlock(count, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                final int source = (int) sorted[i * stride + 3];
+                System.arraycopy(records, offset + source * AccessKeyGenerator.LENGTH,
+                        copy, i * AccessKeyGenerator.LENGTH, AccessKeyGenerator.LENGTH);
+            }
+        });
+        System.arraycopy(copy, 0, records, offset, copy.length);
+    }
+
+    /**
+     * Ordena {@code count} entradas de {@code stride} {@code long}s cujos três primeiros valores são a
+     * chave compactada.
+     *
+     * @return array com o resultado: {@code values} ou o array auxiliar
+     */
+    private long[] radixSort(final long[] values, final int count, final int stride) {
+        if (count <= INSERTION_SORT) {
+            insertionSort(values, count, stride);
+            return values;
+        }
+        long[] source = values;
+        long[] target = new long[values.length];
+        // do valor menos significativo para o mais significativo
+        for (int word = PackedAccessKey.LONGS - 1; word >= 0; word--) {
+            for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+                if (pass(source, target, count, stride, word, shift, DIGIT_MASK)) {
+                    final long[] swap = source;
+                    source = target;
+                    target = swap;
+                }
+            }
+        }
+        if (order == AccessKeyOrder.YEAR_MONTH) {
+            // ano (7 bits) e mês (4 bits) cabem em um único dígito
+            if (pass(source, target, count, stride, 2, PackedAccessKey.MONTH_SHIFT, 0x7FF)) {
+                source = target;
+            }
+        }
+        return source;
+    }
+
+    /**
+     * Distribui as entradas de {@code source} em {@code target} pelo dígito
+     * {@code (values[word] >>> shift) & mask}.
+     *
+     * @return {@code false} se todas as entradas têm o mesmo dígito e a passada foi pulada
+     */
+    private boolean pass(final long[] source, final long[] target, final int count, final int stride,
+                         final int word, final int shift, final int mask) {
+        final int blocks = blocks(count);
+        final int blockSize = (count + blocks - 1) / blocks;
+        final int[][] histograms = new int[blocks][BUCKETS];
+        run(blocks, block -> {
+            final int[] histogram = histograms[block];
+            final int to = Math.min(count, (block + 1) * blockSize);
+            for (int i = block * blockSize; i < to; i++) {
+                histogram[(int) (source[i * stride + word] >>> shift) & mask]++;
+            }
+        });
+
+        // histograma -> posição inicial de cada bloco em cada balde
+        int position = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            int total = 0;
+            for (int[] histogram : histograms) {
+                total += histogram[bucket];
+            }
+            if (total == count) {
+                return false;
+            }
+            for (int[] histogram : histograms) {
+                final int size = histogram[bucket];
+                histogram[bucket] = position;
+                position += size;
+            }
+        }
+
+        run(blocks, block -> {
+            final int[] next = histograms[block];
+            final int end = Math.min(count, (block + 1) * blockSize);
+            for (int i = block * blockSize; i < end; i++) {
+                final int from = i * stride;
+                final int to = next[(int) (source[from + word] >>> shift) & mask]++ * stride;
+                for (int k = 0; k < stride; k++) {
+                    target[to + k] = source[from + k];
+                }
+            }
+        });
+        return true;
+    }
+
+    private void insertionSort(final long[] values, final int count, final int stride) {
+        final long[] entry = new long[stride];
+        for (int i = 1; i < count; i++) {
+            System.arraycopy(values, i * stride, entry, 0, stride);
+            int j = i - 1;
+            while (j >= 0 && compare(values, j * stride, entry) > 0) {
+                System.arraycopy(values, j * stride, values, (j + 1) * stride, stride);
+                j--;
+            }
+            System.arraycopy(entry, 0, values, (j + 1) * stride, stride);
+        }
+    }
+
+    private int compare(final long[] values, final int index, final long[] entry) {
+        if (order == AccessKeyOrder.YEAR_MONTH) {
+            final int result = Long.compare(AccessKeyOrder.yearMonthBits(values[index + 2]), AccessKeyOrder.yearMonthBits(entry[2]));
+            if (result != 0) {
+                return result;
+            }
+        }
+        for (int word = 0; word < PackedAccessKey.LONGS; word++) {
+            final int result = Long.compare(values[index + word], entry[word]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Executa {@code body} para cada intervalo {@code [from, to)} de um particionamento de
+     * {@code [0, count)}, em paralelo quando há chaves suficientes.
+     */
+    private void forEachBlock(final int count, final BlockBody body) {
+        final int blocks = blocks(count);
+        final int blockSize = (count + blocks - 1) / blocks;
+        run(blocks, block -> body.accept(block * blockSize, Math.min(count, (block + 1) * blockSize)));
+    }
+
+    private int blocks(final int count) {
+        return Math.max(1, Math.min(pool.getParallelism(), count / MIN_BLOCK));
+    }
+
+    private void run(final int tasks, final IntConsumer body) {
+        if (tasks == 1) {
+            body.accept(0);
+            return;
+        }
+        final List<ForkJoinTask<?>> submitted = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            final int task = i;
+            submitted.add(pool.submit(() -> body.accept(task)));
+        }
+        for (ForkJoinTask<?> task : submitted) {
+            task.join();
+        }
+    }
+
+    private static void checkRange(final int length, final int offset, final int count, final int size) {
+        if (count < 0) {
+            throw new IllegalArgumentException("A quantidade não pode ser negativa: " + count);
+        }
+        if (offset < 0 || offset > length || (long) count * size > length - offset) {
+            throw new IndexOutOfBoundsException("Intervalo fora dos limites: offset=" + offset + ", count=" + count
+                    + ", length=" + length);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BlockBody {
+        void accept(int from, int to);
+    }
+}
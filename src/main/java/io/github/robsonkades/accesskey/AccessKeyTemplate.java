@@ -0,0 +1,235 @@
+package io.github.robsonkades.accesskey;
+
+import io.github.robsonkades.cnpj.CNPJ;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * Modelo de chave de acesso de um emitente, com UF, CNPJ, modelo e série fixos e o ano/mês obtido
+ * de um {@link Clock}.
+ *
+ * <p>As 25 primeiras posições da chave (UF, AAMM, CNPJ, modelo e série) são renderizadas uma única
+ * vez por mês, junto com a sua soma ponderada para o DV. Cada chamada de
+ * {@link #generate(int, IssueMode, int)} só escreve e pondera as 18 posições restantes (número, tipo
+ * de emissão e código numérico). Na virada do mês, medida no fuso do {@link Clock}, o prefixo é
+ * recalculado automaticamente.</p>
+ *
+ * <p>A instância é thread-safe.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * AccessKeyTemplate template = AccessKeyTemplate.builder()
+ *         .state(State.SP)
+ *         .cnpj("KSP416L8000109")
+ *         .model(Model.NFE)
+ *         .series(1)
+ *         .clock(Clock.system(ZoneId.of("America/Sao_Paulo")))
+ *         .build();
+ *
+ * String key = template.generate(123, IssueMode.NORMAL, 99999999);
+ * }</pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class AccessKeyTemplate {
+
+    /**
+     * Quantidade de posições fixas do prefixo (UF, AAMM, CNPJ, modelo e série).
+     */
+    private static final int PREFIX = 25;
+
+    private final State state;
+    private final CNPJ cnpj;
+    private final Model model;
+    private final int series;
+    private final Clock clock;
+    private volatile Prefix prefix;
+
+    private AccessKeyTemplate(final Builder builder) {
+        this.state = Objects.requireNonNull(builder.state, "O código do estado (UF) é obrigatório.");
+        this.cnpj = Objects.requireNonNull(builder.cnpj, "O CNPJ do emitente é obrigatório.");
+        this.model = Objects.requireNonNull(builder.model, "O modelo é obrigatório.");
+        this.series = Series.of(builder.series).getCode();
+        this.clock = Objects.requireNonNull(builder.clock, "O relógio é obrigatório.");
+        this.prefix = prefix(clock.millis());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return ano e mês usados pela próxima chave gerada
+     */
+    public YearMonth getYearMonth() {
+        return current().yearMonth;
+    }
+
+    /**
+     * Gera a chave de acesso do mês corrente.
+     *
+     * @param number    número do documento (0 a 999.999.999)
+     * @param issueMode tipo de emissão
+     * @param code      código numérico (0 a 99.999.999)
+     * @return chave de acesso com 44 caracteres
+     * @throws AccessKeyException se número ou código estiverem fora da faixa
+     */
+    public String generate(final int number, final IssueMode issueMode, final int code) {
+        final byte[] bytes = new byte[AccessKeyGenerator.LENGTH];
+        generate(number, issueMode, code, bytes, 0);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Escreve a chave de acesso do mês corrente como bytes ASCII, sem alocar memória.
+     *
+     * @return posição seguinte ao último byte escrito ({@code offset + 44})
+     * @throws IndexOutOfBoundsException se não houver espaço para 44 bytes
+     */
+    public int generate(final int number, final IssueMode issueMode, final int code, final byte[] dest, final int offset) {
+        validate(number, issueMode, code);
+        Objects.checkFromIndexSize(offset, AccessKeyGenerator.LENGTH, dest.length);
+        final Prefix current = current();
+        System.arraycopy(current.bytes, 0, dest, offset, PREFIX);
+        int sum = current.sum;
+        sum += AccessKeyGenerator.putDigits(dest, offset, 25, 34, number);
+        sum += AccessKeyGenerator.putDigits(dest, offset, 34, 35, issueMode.getCode());
+        sum += AccessKeyGenerator.putDigits(dest, offset, 35, 43, code);
+        dest[offset + 43] = (byte) ('0' + AccessKeyGenerator.checkDigit(sum));
+        return offset + AccessKeyGenerator.LENGTH;
+    }
+
+    /**
+     * Escreve a chave de acesso do mês corrente em {@code dest}, sem alocar memória.
+     *
+     * @return posição seguinte ao último caractere escrito ({@code offset + 44})
+     * @throws IndexOutOfBoundsException se não houver espaço para 44 caracteres
+     */
+    public int generate(final int number, final IssueMode issueMode, final int code, final char[] dest, final int offset) {
+        validate(number, issueMode, code);
+        Objects.checkFromIndexSize(offset, AccessKeyGenerator.LENGTH, dest.length);
+        final Prefix current = current();
+        System.arraycopy(current.chars, 0, dest, offset, PREFIX);
+        int sum = current.sum;
+        sum += AccessKeyGenerator.putDigits(dest, offset, 25, 34, number);
+        sum += AccessKeyGenerator.putDigits(dest, offset, 34, 35, issueMode.getCode());
+        sum += AccessKeyGenerator.putDigits(dest, offset, 35, 43, code);
+        dest[offset + 43] = (char) ('0' + AccessKeyGenerator.checkDigit(sum));
+        return offset + AccessKeyGenerator.LENGTH;
+    }
+
+    private static void validate(final int number, final IssueMode issueMode, final int code) {
+        Number.validate(number);
+        Objects.requireNonNull(issueMode, "O tipo de emissão é obrigatório.");
+        Code.validate(code);
+    }
+
+    /**
+     * @return prefixo do mês atual do relógio, recalculado na virada do mês
+     */
+    private Prefix current() {
+        final long now = clock.millis();
+        final Prefix current = prefix;
+        if (now >= current.start && now < current.end) {
+            return current;
+        }
+        final Prefix next = prefix(now);
+        prefix = next;
+        return next;
+    }
+
+    private Prefix prefix(final long now) {
+        final YearMonth yearMonth = YearMonth.from(Instant.ofEpochMilli(now).atZone(clock.getZone()));
+        final int yymm = Math.floorMod(yearMonth.getYear(), 100) * 100 + yearMonth.getMonthValue();
+        final AccessKey key = AccessKey.of(state, yymm, cnpj, model, series, 0, IssueMode.NORMAL, 0);
+        final char[] chars = new char[AccessKeyGenerator.LENGTH];
+        AccessKeyGenerator.generate(key, chars, 0);
+        final byte[] bytes = new byte[PREFIX];
+        int sum = 0;
+        for (int i = 0; i < PREFIX; i++) {
+            bytes[i] = (byte) chars[i];
+            sum += (chars[i] - '0') * AccessKeyGenerator.WEIGHTS[i];
+        }
+        final long start = yearMonth.atDay(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        final long end = yearMonth.plusMonths(1).atDay(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        return new Prefix(yearMonth, chars, bytes, sum, start, end);
+    }
+
+    /**
+     * Prefixo renderizado de um mês e o intervalo, em milissegundos, em que ele vale.
+     */
+    private static final class Prefix {
+
+        private final YearMonth yearMonth;
+        private final char[] chars;
+        private final byte[] bytes;
+        private final int sum;
+        private final long start;
+        private final long end;
+
+        private Prefix(final YearMonth yearMonth, final char[] chars, final byte[] bytes, final int sum,
+                       final long start, final long end) {
+            this.yearMonth = yearMonth;
+            this.chars = chars;
+            this.bytes = bytes;
+            this.sum = sum;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    public static final class Builder {
+
+        private State state;
+        private CNPJ cnpj;
+        private Model model;
+        private int series;
+        private Clock clock = Clock.systemDefaultZone();
+
+        private Builder() {
+        }
+
+        public Builder state(final State state) {
+            this.state = state;
+            return this;
+        }
+
+        public Builder cnpj(final String value) {
+            this.cnpj = CNPJ.of(value);
+            return this;
+        }
+
+        public Builder cnpj(final CNPJ value) {
+            this.cnpj = value;
+            return this;
+        }
+
+        public Builder model(final Model model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder series(final int value) {
+            this.series = value;
+            return this;
+        }
+
+        /**
+         * @param clock relógio que define o ano/mês de emissão e o fuso da virada do mês; por padrão
+         *              {@link Clock#systemDefaultZone()}
+         */
+        public Builder clock(final Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public AccessKeyTemplate build() {
+            return new AccessKeyTemplate(this);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.robsonkades.accesskey;
+
+/**
+ * Resultado mutável e reutilizável da validação de uma chave de acesso.
+ *
+ * <p>Preenchido por {@link AccessKey#validate(CharSequence, AccessKeyValidation)} sem lançar exceções.
+ * Em laços de alto volume a mesma instância pode ser reutilizada para todas as chaves; cada
+ * validação sobrescreve o resultado anterior. Não é thread-safe.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * AccessKeyValidation validation = new AccessKeyValidation();
+ * for (String key : keys) {
+ *     if (!AccessKey.validate(key, validation)) {
+ *         report(key, validation.getError(), validation.getPosition());
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class AccessKeyValidation {
+
+    private AccessKeyError error;
+    private int position = -1;
+    private int value = -1;
+    private int expectedCheckDigit = -1;
+    private int actualCheckDigit = -1;
+
+    /**
+     * @return {@code true} se a última chave validada for válida
+     */
+    public boolean isValid() {
+        return error == null;
+    }
+
+    /**
+     * @return motivo da falha ou {@code null} se a chave for válida
+     */
+    public AccessKeyError getError() {
+        return error;
+    }
+
+    /**
+     * Retorna a posição (baseada em zero) onde a falha foi detectada: o índice do caractere inválido
+     * ou a posição inicial do campo rejeitado. Para {@link AccessKeyError#LENGTH} retorna o tamanho
+     * recebido ou {@code -1} se a chave for {@code null}.
+     *
+     * @return posição da falha ou {@code -1} se a chave for válida
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Retorna o valor decodificado do campo rejeitado: código da UF, AAMM, código do modelo ou tipo
+     * de emissão.
+     *
+     * @return valor do campo ou {@code -1} quando não se aplica
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * @return DV calculado quando a falha for {@link AccessKeyError#CHECK_DIGIT}, senão {@code -1}
+     */
+    public int getExpectedCheckDigit() {
+        return expectedCheckDigit;
+    }
+
+    /**
+     * @return DV informado na chave quando a falha for {@link AccessKeyError#CHECK_DIGIT}, senão {@code -1}
+     */
+    public int getActualCheckDigit() {
+        return actualCheckDigit;
+    }
+
+    /**
+     * Monta a mensagem da falha. A mensagem só é construída quando solicitada.
+     *
+     * @return mensagem descritiva ou {@code null} se a chave for válida
+     */
+    public String getMessage() {
+        if (error == null) {
+            return null;
+        }
+        switch (error) {
+            case LENGTH:
+                return AccessKeyParser.INVALID_FORMAT;
+            case CHARACTER:
+                return "Caractere inválido na posição " + position + " da chave de acesso.";
+            case STATE:
+                return "Código do estado inválido: " + value;
+            case MONTH:
+                return "Ano e mês de emissão inválidos: " + value;
+            case MODEL:
+                return "Modelo inválido: " + value;
+            case ISSUE_MODE:
+                return "Tipo de emissão inválido: " + value;
+            case CHECK_DIGIT:
+                return String.format("Chave de acesso inválida. Esperado DV=%d mas foi encontrado %d.",
+                        expectedCheckDigit, actualCheckDigit);
+            default:
+                return error.getDescription() + " na posição " + position + '.';
+        }
+    }
+
+    /**
+     * Cria uma exceção sem stack trace com os dados desta validação.
+     *
+     * @return exceção correspondente à falha
+     * @throws IllegalStateException se a chave for válida
+     */
+    public AccessKeyValidationException toException() {
+        if (error == null) {
+            throw new IllegalStateException("A chave de acesso é válida.");
+        }
+        return new AccessKeyValidationException(getMessage(), error, position);
+    }
+
+    void reset() {
+        error = null;
+        position = -1;
+        value = -1;
+        expectedCheckDigit = -1;
+        actualCheckDigit = -1;
+    }
+
+    boolean fail(final AccessKeyError error, final int position, final int value) {
+        this.error = error;
+        this.position = position;
+        this.value = value;
+        return false;
+    }
+
+    boolean failCheckDigit(final int expected, final int actual) {
+        this.error = AccessKeyError.CHECK_DIGIT;
+        this.position = 43;
+        this.expectedCheckDigit = expected;
+        this.actualCheckDigit = actual;
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "AccessKeyValidation{" +
+                "error=" + error +
+                ", position=" + position +
+                ", value=" + value +
+                ", expectedCheckDigit=" + expectedCheckDigit +
+                ", actualCheckDigit=" + actualCheckDigit +
+                '}';
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.robsonkades.accesskey;
+
+/**
+ * {@link AccessKeyException} sem stack trace que informa o motivo e a posição da falha.
+ *
+ * <p>Como não captura a pilha de chamadas, pode ser criada em grande volume a um custo próximo
+ * ao de um objeto comum. Obtida por {@link AccessKeyValidation#toException()}.</p>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class AccessKeyValidationException extends AccessKeyException {
+
+    private final AccessKeyError error;
+    private final int position;
+
+    public AccessKeyValidationException(final String message, final AccessKeyError error, final int position) {
+        super(message, false);
+        this.error = error;
+        this.position = position;
+    }
+
+    public AccessKeyError getError() {
+        return error;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.robsonkades.accesskey;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Visão {@link CharSequence} reutilizável sobre bytes ASCII de um {@code byte[]} ou
+ * {@link ByteBuffer}, sem cópia nem decodificação de charset.
+ *
+ * <p>Permite aplicar as mesmas rotinas de validação de {@link CharSequence} a chaves que chegam
+ * como bytes. A instância é reposicionada com {@code wrap} a cada chave e não é thread-safe.</p>
+ */
+final class AsciiSequence implements CharSequence {
+
+    private byte[] bytes;
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    AsciiSequence wrap(final byte[] bytes, final int offset, final int length) {
+        this.bytes = bytes;
+        this.buffer = null;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    /**
+     * Usa posições absolutas do buffer; a posição e o limite do buffer não são alterados.
+     */
+    AsciiSequence wrap(final ByteBuffer buffer, final int offset, final int length) {
+        this.bytes = null;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        final int b = bytes != null ? bytes[offset + index] : buffer.get(offset + index);
+        return (char) (b & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        if (bytes != null) {
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        final byte[] copy = new byte[length];
+        for (int i = 0; i < length; i++) {
+            copy[i] = buffer.get(offset + i);
+        }
+        return new String(copy, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.robsonkades.accesskey;
+
+/**
+ * Ponto de troca da implementação do cálculo em lote. Esta é a versão do Java 11; o JAR
+ * multi-release substitui esta classe no Java 17 ou superior (ver {@code src/main/java17}).
+ */
+final class CheckDigitKernel {
+
+    private CheckDigitKernel() {
+        // empty constructor
+    }
+
+    static String implementation() {
+        return "scalar";
+    }
+
+    static void weightedSums(final byte[] records, final int offset, final int count, final int[] sums) {
+        ScalarCheckDigitKernel.weightedSums(records, offset, count, sums);
+    }
+}
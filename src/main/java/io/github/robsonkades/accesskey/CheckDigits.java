@@ -0,0 +1,113 @@
+package io.github.robsonkades.accesskey;
+
+import java.util.Objects;
+
+/**
+ * Cálculo em lote do dígito verificador (módulo 11) de chaves de acesso gravadas lado a lado em um
+ * {@code byte[]}, 44 bytes ASCII por chave.
+ *
+ * <p>A partir do Java 17 o JAR traz uma implementação com a Vector API
+ * ({@code jdk.incubator.vector}) que multiplica cada chave por vetores de pesos fixos, em vez de
+ * percorrer as 43 posições uma a uma. Ela só é usada quando o módulo foi adicionado à JVM
+ * ({@code --add-modules jdk.incubator.vector}) e o processador tem vetores de pelo menos 256 bits;
+ * caso contrário, e sempre no Java 11, é usado o laço escalar. A propriedade de sistema
+ * {@code io.github.robsonkades.accesskey.vector=false} força o laço escalar.</p>
+ *
+ * <p>Os métodos apenas calculam o DV: as chaves devem conter somente {@code [0-9A-Z]} (use
+ * {@link AccessKey#isValid(CharSequence)} para a validação completa).</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * byte[] records = ...; // count * 44 bytes
+ * int valid = CheckDigits.verify(records, 0, count, null);
+ * }</pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class CheckDigits {
+
+    private CheckDigits() {
+        // empty constructor
+    }
+
+    /**
+     * @return {@code "vector"} ou {@code "scalar"}, conforme a implementação em uso
+     */
+    public static String implementation() {
+        return CheckDigitKernel.implementation();
+    }
+
+    /**
+     * Calcula o DV de cada chave a partir das suas 43 primeiras posições.
+     *
+     * @param records chaves de 44 bytes gravadas em sequência
+     * @param offset  posição da primeira chave
+     * @param count   quantidade de chaves
+     * @param dest    destino dos DVs (0 a 9), um por chave a partir de {@code dest[0]}
+     */
+    public static void compute(final byte[] records, final int offset, final int count, final int[] dest) {
+        checkBounds(records, offset, count);
+        Objects.checkFromIndexSize(0, count, dest.length);
+        CheckDigitKernel.weightedSums(records, offset, count, dest);
+        for (int i = 0; i < count; i++) {
+            dest[i] = AccessKeyGenerator.checkDigit(dest[i]);
+        }
+    }
+
+    /**
+     * Calcula o DV de cada chave e o grava na posição 43, completando chaves geradas em lote.
+     *
+     * @param records chaves de 44 bytes gravadas em sequência
+     * @param offset  posição da primeira chave
+     * @param count   quantidade de chaves
+     */
+    public static void fill(final byte[] records, final int offset, final int count) {
+        final int[] sums = sums(records, offset, count);
+        for (int i = 0; i < count; i++) {
+            records[offset + i * AccessKeyGenerator.LENGTH + 43] = (byte) ('0' + AccessKeyGenerator.checkDigit(sums[i]));
+        }
+    }
+
+    /**
+     * Confere o DV gravado na posição 43 de cada chave.
+     *
+     * @param records chaves de 44 bytes gravadas em sequência
+     * @param offset  posição da primeira chave
+     * @param count   quantidade de chaves
+     * @param valid   destino opcional do resultado de cada chave (pode ser {@code null})
+     * @return quantidade de chaves com DV correto
+     */
+    public static int verify(final byte[] records, final int offset, final int count, final boolean[] valid) {
+        if (valid != null) {
+            Objects.checkFromIndexSize(0, count, valid.length);
+        }
+        final int[] sums = sums(records, offset, count);
+        int result = 0;
+        for (int i = 0; i < count; i++) {
+            final boolean ok = records[offset + i * AccessKeyGenerator.LENGTH + 43] == '0' + AccessKeyGenerator.checkDigit(sums[i]);
+            if (valid != null) {
+                valid[i] = ok;
+            }
+            result += ok ? 1 : 0;
+        }
+        return result;
+    }
+
+    private static int[] sums(final byte[] records, final int offset, final int count) {
+        checkBounds(records, offset, count);
+        final int[] sums = new int[count];
+        CheckDigitKernel.weightedSums(records, offset, count, sums);
+        return sums;
+    }
+
+    private static void checkBounds(final byte[] records, final int offset, final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("A quantidade não pode ser negativa: " + count);
+        }
+        if (offset < 0 || offset > records.length || (long) count * AccessKeyGenerator.LENGTH > records.length - offset) {
+            throw new IndexOutOfBoundsException("Intervalo fora dos limites: offset=" + offset + ", count=" + count
+                    + ", length=" + records.length);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.robsonkades.accesskey;
+
+import io.github.robsonkades.cnpj.CNPJ;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache limitado e thread-safe de {@link CNPJ}s já validados.
+ *
+ * <p>A busca não cria objetos: os 14 caracteres são convertidos em dois números (raiz e ordem em
+ * base 36 e os DVs) usados como chave. Em caso de acerto a instância guardada é devolvida sem nova
+ * validação; em caso de falta o CNPJ é validado com {@link CNPJ#of(String)} e guardado. CNPJs
+ * inválidos não são guardados.</p>
+ *
+ * <p>As entradas ficam em uma tabela de tamanho fixo com conjuntos de duas posições: a entrada mais
+ * recente ocupa a primeira posição e a anterior passa para a segunda, descartando a mais antiga.
+ * Leituras e escritas não usam locks; em uma disputa o pior caso é validar o mesmo CNPJ duas vezes.
+ * Entradas fora do formato de 14 caracteres maiúsculos (por exemplo, com máscara) não usam o cache.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * CnpjCache cache = new CnpjCache(4096);
+ * AccessKey key = AccessKey.from(chave, cache);
+ * AccessKey built = new AccessKeyBuilder().cnpj(cache.get("KSP416L8000109"))...build();
+ * }</pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class CnpjCache {
+
+    private static final int MAX_CAPACITY = 1 << 24;
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Como cada CNPJ só pode ocupar as duas posições do seu conjunto, dimensione o cache com folga em
+     * relação à quantidade de CNPJs frequentes (por exemplo, 4 vezes) para evitar descartes por colisão.
+     *
+     * @param maximumSize quantidade máxima de CNPJs guardados (arredondada para a potência de 2 seguinte)
+     */
+    public CnpjCache(final int maximumSize) {
+        if (maximumSize < 2 || maximumSize > MAX_CAPACITY) {
+            throw new IllegalArgumentException("O tamanho máximo deve estar entre 2 e " + MAX_CAPACITY + ": " + maximumSize);
+        }
+        final int capacity = Integer.highestOneBit(maximumSize - 1) << 1;
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @param cnpj CNPJ com 14 caracteres
+     * @return CNPJ validado
+     * @throws RuntimeException a exceção de {@link CNPJ#of(String)} se o CNPJ for inválido
+     */
+    public CNPJ get(final CharSequence cnpj) {
+        Objects.requireNonNull(cnpj, "O CNPJ é obrigatório.");
+        if (cnpj.length() != 14) {
+            misses.increment();
+            return CNPJ.of(cnpj.toString());
+        }
+        return get(cnpj, 0);
+    }
+
+    /**
+     * @param text   texto que contém o CNPJ, como uma chave de acesso
+     * @param offset posição do primeiro dos 14 caracteres do CNPJ
+     * @return CNPJ validado
+     */
+    CNPJ get(final CharSequence text, final int offset) {
+        long root = 0L;
+        for (int i = offset; i < offset + 12; i++) {
+            final int v = base36(text.charAt(i));
+            if (v < 0) {
+                return uncached(text, offset);
+            }
+            root = root * 36 + v;
+        }
+        final char d1 = text.charAt(offset + 12);
+        final char d2 = text.charAt(offset + 13);
+        if (d1 < '0' || d1 > '9' || d2 < '0' || d2 > '9') {
+            return uncached(text, offset);
+        }
+        final int dv = (d1 - '0') * 10 + d2 - '0';
+
+        final int first = (int) PackedAccessKey.hash(root, dv, 0L) & mask & ~1;
+        final Entry newest = entries.get(first);
+        if (newest != null && newest.root == root && newest.dv == dv) {
+            hits.increment();
+            return newest.cnpj;
+        }
+        final Entry older = entries.get(first + 1);
+        if (older != null && older.root == root && older.dv == dv) {
+            hits.increment();
+            return older.cnpj;
+        }
+
+        misses.increment();
+        final CNPJ cnpj = CNPJ.of(text.subSequence(offset, offset + 14).toString());
+        entries.set(first + 1, newest);
+        entries.set(first, new Entry(root, dv, cnpj));
+        return cnpj;
+    }
+
+    /**
+     * @return quantidade de buscas atendidas pelo cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return quantidade de buscas que precisaram validar o CNPJ
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return proporção de acertos entre 0 e 1 ({@code 0} se não houve buscas)
+     */
+    public double getHitRate() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * @return quantidade máxima de CNPJs guardados
+     */
+    public int capacity() {
+        return entries.length();
+    }
+
+    /**
+     * Remove todas as entradas e zera as estatísticas.
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, null);
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    private CNPJ uncached(final CharSequence text, final int offset) {
+        misses.increment();
+        return CNPJ.of(text.subSequence(offset, offset + 14).toString());
+    }
+
+    private static int base36(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return "CnpjCache{" +
+                "capacity=" + capacity() +
+                ", hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                '}';
+    }
+
+    private static final class Entry {
+
+        private final long root;
+        private final int dv;
+        private final CNPJ cnpj;
+
+        private Entry(final long root, final int dv, final CNPJ cnpj) {
+            this.root = root;
+            this.dv = dv;
+            this.cnpj = cnpj;
+        }
+    }
+}
@@ -18,7 +18,7 @@ public class Code {
         return String.format("%08d", code);
     }
 
-    private void validate(final int code) {
+    static void validate(final int code) {
         if (code < 0) {
             throw new AccessKeyException("Código não pode ser negativo");
         }
@@ -0,0 +1,32 @@
+package io.github.robsonkades.accesskey;
+
+/**
+ * Define o código numérico (cNF) de cada chave gerada por {@link AccessKeyRange}.
+ *
+ * <p>A estratégia recebe a chave em construção sem criar objetos: {@code key} contém os 35 primeiros
+ * caracteres (da UF até o tipo de emissão) e é reutilizado entre chamadas, portanto só é válido
+ * durante a chamada. Implementações usadas com {@code parallelStream()} devem ser thread-safe.</p>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface CodeStrategy {
+
+    /**
+     * @param key    posições 0 a 34 da chave em construção
+     * @param number número do documento (nNF)
+     * @return código numérico entre 0 e 99.999.999
+     */
+    int code(CharSequence key, int number);
+
+    /**
+     * @param code código numérico usado em todas as chaves
+     * @return estratégia com código fixo
+     * @throws AccessKeyException se o código for negativo ou tiver mais de 8 dígitos
+     */
+    static CodeStrategy fixed(final int code) {
+        Code.validate(code);
+        return (key, number) -> code;
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.robsonkades.accesskey;
+
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * Deriva o código numérico (cNF) de forma determinística a partir de um segredo e dos dados da nota.
+ *
+ * <p>O código é calculado com SipHash-2-4, uma função pseudoaleatória com chave de 128 bits, sobre
+ * CNPJ, ano/mês, modelo, série e número. Os mesmos dados produzem sempre o mesmo código, então uma
+ * emissão repetida (por exemplo, após um timeout) reconstrói exatamente a mesma chave de acesso sem
+ * consultar o código guardado. Sem o segredo o código não pode ser previsto. UF e tipo de emissão
+ * não participam do cálculo.</p>
+ *
+ * <p>O resultado é reduzido à faixa 0..99.999.999; valores recusados por
+ * {@link RandomCodeGenerator#isAllowed(int, int)} (igual ao número ou sequência trivial) são
+ * substituídos pelo cálculo seguinte com um contador, de forma igualmente determinística.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * DerivedCodeGenerator codes = new DerivedCodeGenerator(secret); // 16 bytes
+ * AccessKey key = new AccessKeyBuilder()
+ *         ...
+ *         .number(123)
+ *         .code(codes)
+ *         .build();
+ * }</pre>
+ *
+ * <p>A instância é imutável e thread-safe.</p>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class DerivedCodeGenerator implements CodeStrategy {
+
+    /**
+     * Tamanho do segredo em bytes.
+     */
+    public static final int SECRET_LENGTH = 16;
+
+    private static final long CODES = 100_000_000L;
+
+    private final long k0;
+    private final long k1;
+
+    /**
+     * @param secret segredo de 16 bytes; deve ser o mesmo em todas as instâncias que precisam
+     *               reconstruir as mesmas chaves
+     */
+    public DerivedCodeGenerator(final byte[] secret) {
+        Objects.requireNonNull(secret, "O segredo é obrigatório.");
+        if (secret.length != SECRET_LENGTH) {
+            throw new IllegalArgumentException("O segredo deve ter " + SECRET_LENGTH + " bytes: " + secret.length);
+        }
+        this.k0 = littleEndian(secret, 0);
+        this.k1 = littleEndian(secret, 8);
+    }
+
+    /**
+     * Deriva o código numérico da nota.
+     *
+     * @param cnpj      CNPJ do emitente (14 caracteres)
+     * @param yearMonth ano e mês de emissão
+     * @param model     modelo do documento
+     * @param series    série (0 a 999)
+     * @param number    número do documento (nNF)
+     * @return código entre 0 e 99.999.999
+     */
+    public int derive(final CharSequence cnpj, final YearMonth yearMonth, final Model model, final int series, final int number) {
+        Objects.requireNonNull(cnpj, "O CNPJ do emitente é obrigatório.");
+        Objects.requireNonNull(yearMonth, "O ano e mês de emissão são obrigatórios.");
+        Objects.requireNonNull(model, "O modelo é obrigatório.");
+        if (cnpj.length() != 14) {
+            throw new AccessKeyException("O CNPJ deve conter 14 caracteres: " + cnpj);
+        }
+        return derive(cnpj, 0, Math.floorMod(yearMonth.getYear(), 100), yearMonth.getMonthValue(),
+                model.getCode(), series, number);
+    }
+
+    @Override
+    public int code(final CharSequence key, final int number) {
+        return derive(key, 6,
+                (key.charAt(2) - '0') * 10 + key.charAt(3) - '0',
+                (key.charAt(4) - '0') * 10 + key.charAt(5) - '0',
+                (key.charAt(20) - '0') * 10 + key.charAt(21) - '0',
+                (key.charAt(22) - '0') * 100 + (key.charAt(23) - '0') * 10 + key.charAt(24) - '0',
+                number);
+    }
+
+    /**
+     * Mensagem de 24 bytes: CNPJ (14 bytes ASCII), ano, mês, modelo, série (2 bytes), número
+     * (4 bytes) e o contador de tentativas.
+     */
+    private int derive(final CharSequence cnpj, final int offset, final int year, final int month,
+                       final int model, final int series, final int number) {
+        long m0 = 0L;
+        for (int i = 7; i >= 0; i--) {
+            m0 = m0 << 8 | (cnpj.charAt(offset + i) & 0xFF);
+        }
+        long m1 = (long) month << 56 | (long) year << 48;
+        for (int i = 13; i >= 8; i--) {
+            m1 |= (long) (cnpj.charAt(offset + i) & 0xFF) << (8 * (i - 8));
+        }
+        final long fields = (long) model | (long) (series & 0xFFFF) << 8 | (number & 0xFFFF_FFFFL) << 24;
+        for (long counter = 0; ; counter++) {
+            final long hash = sipHash(k0, k1, m0, m1, fields | counter << 56);
+            final int code = (int) Long.remainderUnsigned(hash, CODES);
+            if (RandomCodeGenerator.isAllowed(code, number)) {
+                return code;
+            }
+        }
+    }
+
+    /**
+     * SipHash-2-4 de uma mensagem de exatamente três palavras de 8 bytes (little-endian).
+     */
+    static long sipHash(final long k0, final long k1, final long m0, final long m1, final long m2) {
+        long v0 = k0 ^ 0x736F6D6570736575L;
+        long v1 = k1 ^ 0x646F72616E646F6DL;
+        long v2 = k0 ^ 0x6C7967656E657261L;
+        long v3 = k1 ^ 0x7465646279746573L;
+        final long[] words = {m0, m1, m2, 24L << 56};
+        for (long m : words) {
+            v3 ^= m;
+            for (int round = 0; round < 2; round++) {
+                v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+                v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+                v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+                v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+            }
+            v0 ^= m;
+        }
+        v2 ^= 0xFF;
+        for (int round = 0; round < 4; round++) {
+            v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+            v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+            v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+            v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+        }
+        return v0 ^ v1 ^ v2 ^ v3;
+    }
+
+    private static long littleEndian(final byte[] bytes, final int offset) {
+        long value = 0L;
+        for (int i = offset + 7; i >= offset; i--) {
+            value = value << 8 | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "DerivedCodeGenerator{secret=***}";
+    }
+}
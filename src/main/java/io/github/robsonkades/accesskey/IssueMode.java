@@ -9,6 +9,17 @@ public enum IssueMode {
     SVC_AN(6, "Contingência SVC-AN"),
     SVC_RS(7, "Contingência SVC-RS");
 
+    /**
+     * Tipos de emissão indexados pelo código (0 a 9); posições sem tipo ficam {@code null}.
+     */
+    private static final IssueMode[] BY_CODE = new IssueMode[10];
+
+    static {
+        for (IssueMode mode : values()) {
+            BY_CODE[mode.code] = mode;
+        }
+    }
+
     private final int code;
     private final String description;
 
@@ -18,20 +29,41 @@ public enum IssueMode {
     }
 
     public static IssueMode fromCode(final int code) {
-        for (IssueMode t : values()) {
-            if (t.code == code) {
-                return t;
-            }
+        final IssueMode mode = find(code);
+        if (mode == null) {
+            throw new AccessKeyException("Tipo de emissão inválido: " + code);
         }
-        throw new AccessKeyException("Tipo de emissão inválido: " + code);
+        return mode;
     }
 
     public static IssueMode fromCode(final String code) {
-        try {
-            return fromCode(Integer.parseInt(code));
-        } catch (NumberFormatException e) {
+        final long value = AccessKeyParser.parseInt(code);
+        if (value == AccessKeyParser.NOT_A_NUMBER) {
             throw new AccessKeyException("Tipo de emissão deve ser numérico: " + code);
         }
+        return fromCode((int) value);
+    }
+
+    /**
+     * Decodifica o dígito ASCII em {@code offset}, sem criar objetos nem lançar exceção.
+     *
+     * @return tipo de emissão correspondente ou {@code null} se o caractere não for um código válido
+     */
+    public static IssueMode decode(final CharSequence text, final int offset) {
+        return find(text.charAt(offset) - '0');
+    }
+
+    /**
+     * Decodifica o dígito ASCII em {@code offset}, sem criar objetos nem lançar exceção.
+     *
+     * @return tipo de emissão correspondente ou {@code null} se o byte não for um código válido
+     */
+    public static IssueMode decode(final byte[] bytes, final int offset) {
+        return find(bytes[offset] - '0');
+    }
+
+    static IssueMode find(final int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
     }
 
     public int getCode() {
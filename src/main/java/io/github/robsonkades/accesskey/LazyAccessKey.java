@@ -0,0 +1,125 @@
+package io.github.robsonkades.accesskey;
+
+import io.github.robsonkades.cnpj.CNPJ;
+
+import java.time.YearMonth;
+
+/**
+ * {@link AccessKey} que guarda a chave já validada e só decodifica cada campo na primeira chamada ao
+ * getter correspondente. {@link #generate()} devolve a própria chave de origem.
+ *
+ * <p>Os campos decodificados são imutáveis e ficam em cache sem sincronização: duas threads podem
+ * decodificar o mesmo campo ao mesmo tempo, mas ambas obtêm valores equivalentes (a mesma técnica
+ * usada por {@link String#hashCode()}). A chave de origem fica em um campo {@code final}, então a
+ * instância pode ser compartilhada mesmo sem publicação segura.</p>
+ */
+final class LazyAccessKey extends AccessKey {
+
+    private final String key;
+
+    private State state;
+    private YearMonth yearMonth;
+    private CNPJ cnpj;
+    private Model model;
+    private Series series;
+    private Number number;
+    private IssueMode issueMode;
+    private Code code;
+
+    /**
+     * @param key chave já validada com {@link AccessKeyParser#requireValid(CharSequence)}
+     */
+    LazyAccessKey(final String key) {
+        this.key = key;
+    }
+
+    @Override
+    public String generate() {
+        return key;
+    }
+
+    @Override
+    String source() {
+        return key;
+    }
+
+    @Override
+    public State getState() {
+        State state = this.state;
+        if (state == null) {
+            this.state = state = State.find(digits(0, 2));
+        }
+        return state;
+    }
+
+    @Override
+    public YearMonth getYearMonth() {
+        YearMonth yearMonth = this.yearMonth;
+        if (yearMonth == null) {
+            this.yearMonth = yearMonth = AccessKeyParser.yearMonth(digits(2, 4), digits(4, 6));
+        }
+        return yearMonth;
+    }
+
+    @Override
+    public CNPJ getCnpj() {
+        CNPJ cnpj = this.cnpj;
+        if (cnpj == null) {
+            this.cnpj = cnpj = CNPJ.of(key.substring(6, 20));
+        }
+        return cnpj;
+    }
+
+    @Override
+    public Model getModel() {
+        Model model = this.model;
+        if (model == null) {
+            this.model = model = Model.find(digits(20, 22));
+        }
+        return model;
+    }
+
+    @Override
+    public Series getSeries() {
+        Series series = this.series;
+        if (series == null) {
+            this.series = series = Series.of(digits(22, 25));
+        }
+        return series;
+    }
+
+    @Override
+    public Number getNumber() {
+        Number number = this.number;
+        if (number == null) {
+            this.number = number = Number.of(digits(25, 34));
+        }
+        return number;
+    }
+
+    @Override
+    public IssueMode getIssueMode() {
+        IssueMode issueMode = this.issueMode;
+        if (issueMode == null) {
+            this.issueMode = issueMode = IssueMode.find(digits(34, 35));
+        }
+        return issueMode;
+    }
+
+    @Override
+    public Code getCode() {
+        Code code = this.code;
+        if (code == null) {
+            this.code = code = new Code(digits(35, 43));
+        }
+        return code;
+    }
+
+    private int digits(final int from, final int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (key.charAt(i) - '0');
+        }
+        return value;
+    }
+}
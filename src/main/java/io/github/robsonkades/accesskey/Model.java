@@ -31,6 +31,17 @@ public enum Model {
     CTE(57, "Conhecimento de Transporte Eletrônico"),
     MDFE(58, "Manifesto Eletrônico de Documentos Fiscais");
 
+    /**
+     * Modelos indexados pelo código (0 a 99); posições sem modelo ficam {@code null}.
+     */
+    private static final Model[] BY_CODE = new Model[100];
+
+    static {
+        for (Model model : values()) {
+            BY_CODE[model.code] = model;
+        }
+    }
+
     private final int code;
     private final String description;
 
@@ -53,12 +64,11 @@ public enum Model {
      * @throws AccessKeyException se o código não corresponder a nenhum modelo válido
      */
     public static Model fromCode(final int value) {
-        for (Model m : values()) {
-            if (m.code == value) {
-                return m;
-            }
+        final Model model = find(value);
+        if (model == null) {
+            throw new AccessKeyException("Modelo inválido: " + value);
         }
-        throw new AccessKeyException("Modelo inválido: " + value);
+        return model;
     }
 
     /**
@@ -69,11 +79,45 @@ public enum Model {
      * @throws AccessKeyException se a {@link String} não for numérica ou o valor for inválido
      */
     public static Model fromCode(final String code) {
-        try {
-            return fromCode(Integer.parseInt(code));
-        } catch (NumberFormatException e) {
+        final long value = AccessKeyParser.parseInt(code);
+        if (value == AccessKeyParser.NOT_A_NUMBER) {
             throw new AccessKeyException("Modelo deve ser numérico: " + code);
         }
+        return fromCode((int) value);
+    }
+
+    /**
+     * Decodifica os dois dígitos ASCII em {@code offset}, sem criar objetos nem lançar exceção.
+     *
+     * @param text   texto que contém o código, como uma chave de acesso
+     * @param offset posição do primeiro dígito
+     * @return modelo correspondente ou {@code null} se os caracteres não formarem um código válido
+     * @throws IndexOutOfBoundsException se não houver dois caracteres a partir de {@code offset}
+     */
+    public static Model decode(final CharSequence text, final int offset) {
+        return find(AccessKeyParser.twoDigits(text.charAt(offset), text.charAt(offset + 1)));
+    }
+
+    /**
+     * Decodifica os dois dígitos ASCII em {@code offset}, sem criar objetos nem lançar exceção.
+     *
+     * @param bytes  bytes ASCII que contêm o código
+     * @param offset posição do primeiro dígito
+     * @return modelo correspondente ou {@code null} se os bytes não formarem um código válido
+     * @throws IndexOutOfBoundsException se não houver dois bytes a partir de {@code offset}
+     */
+    public static Model decode(final byte[] bytes, final int offset) {
+        return find(AccessKeyParser.twoDigits((char) bytes[offset], (char) bytes[offset + 1]));
+    }
+
+    /**
+     * Obtém o modelo a partir do seu código numérico sem lançar exceção.
+     *
+     * @param value código do modelo
+     * @return modelo correspondente ou {@code null} se o código for inválido
+     */
+    static Model find(final int value) {
+        return value >= 0 && value < BY_CODE.length ? BY_CODE[value] : null;
     }
 
     /**
@@ -29,6 +29,17 @@ public final class Number {
      */
     private static final int MAX_VALUE = 999_999_999;
 
+    /**
+     * Instâncias dos números de 0 a 1.023, devolvidas por {@link #of(int)}.
+     */
+    private static final Number[] CACHE = new Number[1_024];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Number(i);
+        }
+    }
+
     private final int code;
 
     /**
@@ -42,13 +53,24 @@ public final class Number {
         this.code = code;
     }
 
+    /**
+     * Obtém uma instância de {@link Number}, compartilhada para os números de 0 a 1.023.
+     *
+     * @param code valor numérico do número fiscal
+     * @return número fiscal
+     * @throws AccessKeyException se for negativo ou maior que 999.999.999
+     */
+    public static Number of(final int code) {
+        return code >= 0 && code < CACHE.length ? CACHE[code] : new Number(code);
+    }
+
     /**
      * Valida o valor informado para o número fiscal.
      *
      * @param code valor a ser validado
      * @throws AccessKeyException se o valor for negativo ou maior que {@link #MAX_VALUE}
      */
-    private void validate(final int code) {
+    static void validate(final int code) {
         if (code < 0) {
             throw new AccessKeyException("O número não pode ser negativo.");
         }
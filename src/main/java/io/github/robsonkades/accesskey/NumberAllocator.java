@@ -0,0 +1,222 @@
+package io.github.robsonkades.accesskey;
+
+import io.github.robsonkades.cnpj.CNPJ;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Aloca números de documento (nNF) por série de cada emitente, sem lacunas nem repetições.
+ *
+ * <p>Cada combinação de UF, CNPJ, modelo e série tem a sua própria {@link NumberSequence}, guardada
+ * em um arquivo de 32 bytes mapeado em memória dentro de {@code directory}. Séries diferentes não
+ * compartilham contador nem página, então não disputam a mesma linha de cache. Dentro de uma série
+ * a numeração precisa ser contígua, por isso o contador é único e incrementado atomicamente.</p>
+ *
+ * <p>Obtenha a {@link NumberSequence} uma vez e reutilize-a: {@link NumberSequence#next()} é
+ * lock-free e só faz E/S uma vez a cada bloco de números concedido (por padrão
+ * {@value #DEFAULT_LEASE_SIZE}), gravado em disco antes de o primeiro número do bloco ser entregue.
+ * Ao reabrir o diretório após {@link #close()} a numeração continua do próximo número ainda não
+ * entregue; após um término abrupto do processo ou uma queda da máquina, continua do fim do último
+ * bloco concedido, sem nunca repetir um número.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * try (NumberAllocator allocator = NumberAllocator.open(Paths.get("/var/lib/nfe/numeracao"))) {
+ *     NumberSequence sequence = allocator.sequence(State.SP, "KSP416L8000109", Model.NFE, 1);
+ *     int number = sequence.next();
+ * }
+ * }</pre>
+ *
+ * <p>Formato do arquivo (little-endian): {@code int} mágico {@code "AKSQ"}, {@code int} versão,
+ * {@code long} com o próximo número, {@code long} com o fim do bloco concedido e {@code int} que
+ * indica se o arquivo está aberto. Arquivos da versão 1, sem bloco concedido, são convertidos ao
+ * abrir.</p>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class NumberAllocator implements Closeable {
+
+    /**
+     * Quantidade padrão de números concedidos a cada gravação em disco.
+     */
+    public static final int DEFAULT_LEASE_SIZE = 1_000;
+
+    private static final String EXTENSION = ".seq";
+
+    private final Path directory;
+    private final int leaseSize;
+    private final ConcurrentMap<String, NumberSequence> sequences = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    private NumberAllocator(final Path directory, final int leaseSize) {
+        this.directory = directory;
+        this.leaseSize = leaseSize;
+    }
+
+    /**
+     * Abre (criando se necessário) o diretório de numeração.
+     *
+     * @param directory diretório dos arquivos de numeração
+     * @return alocador
+     * @throws IOException se o diretório não puder ser criado
+     */
+    public static NumberAllocator open(final Path directory) throws IOException {
+        return open(directory, DEFAULT_LEASE_SIZE);
+    }
+
+    /**
+     * Abre (criando se necessário) o diretório de numeração.
+     *
+     * @param directory diretório dos arquivos de numeração
+     * @param leaseSize quantidade de números concedidos a cada gravação em disco; é também o máximo
+     *                  de números a inutilizar por série após uma queda
+     * @return alocador
+     * @throws IOException se o diretório não puder ser criado
+     */
+    public static NumberAllocator open(final Path directory, final int leaseSize) throws IOException {
+        Objects.requireNonNull(directory, "O diretório é obrigatório.");
+        if (leaseSize < 1) {
+            throw new IllegalArgumentException("A quantidade concedida deve ser maior que zero: " + leaseSize);
+        }
+        return new NumberAllocator(Files.createDirectories(directory), leaseSize);
+    }
+
+    /**
+     * Obtém a numeração da série, criando o arquivo na primeira vez (começando em 1).
+     *
+     * @param state  UF do emitente
+     * @param cnpj   CNPJ do emitente
+     * @param model  modelo do documento
+     * @param series série (0 a 999)
+     * @return numeração da série
+     * @throws UncheckedIOException se o arquivo não puder ser aberto
+     * @throws IllegalStateException se o arquivo já estiver aberto por outro alocador
+     */
+    public NumberSequence sequence(final State state, final String cnpj, final Model model, final int series) {
+        Objects.requireNonNull(state, "O código do estado (UF) é obrigatório.");
+        Objects.requireNonNull(model, "O modelo é obrigatório.");
+        final String name = String.format("%02d-%s-%02d-%03d",
+                state.getCode(), CNPJ.of(cnpj).getValue(), model.getCode(), Series.of(series).getCode());
+        if (closed) {
+            throw new IllegalStateException("O alocador de números foi fechado.");
+        }
+        final NumberSequence sequence = sequences.get(name);
+        return sequence != null ? sequence : sequences.computeIfAbsent(name, this::map);
+    }
+
+    /**
+     * Grava em disco a numeração de todas as séries abertas.
+     */
+    public void force() {
+        sequences.values().forEach(NumberSequence::force);
+    }
+
+    /**
+     * Grava a numeração em disco e impede novas alocações.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        IOException failure = null;
+        for (NumberSequence sequence : sequences.values()) {
+            try {
+                sequence.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private NumberSequence map(final String name) {
+        final Path file = directory.resolve(name + EXTENSION);
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            // o bloqueio dura enquanto a série estiver aberta: só um alocador usa o arquivo por vez
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                lock = null;
+            }
+            if (lock == null) {
+                throw new IllegalStateException("A numeração já está aberta por outro alocador: " + file);
+            }
+            if (channel.size() == 0) {
+                final ByteBuffer header = ByteBuffer.allocate(NumberSequence.FILE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(NumberSequence.MAGIC_OFFSET, NumberSequence.MAGIC);
+                header.putInt(NumberSequence.VERSION_OFFSET, NumberSequence.VERSION);
+                header.putLong(NumberSequence.NEXT_OFFSET, 1L);
+                header.putLong(NumberSequence.LEASE_OFFSET, 1L);
+                header.putInt(NumberSequence.STATE_OFFSET, NumberSequence.CLOSED);
+                channel.write(header, 0);
+                channel.force(true);
+            } else if (channel.size() == NumberSequence.VERSION_1_FILE_SIZE) {
+                upgrade(channel);
+            }
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, NumberSequence.FILE_SIZE);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (channel.size() != NumberSequence.FILE_SIZE
+                    || buffer.getInt(NumberSequence.MAGIC_OFFSET) != NumberSequence.MAGIC
+                    || buffer.getInt(NumberSequence.VERSION_OFFSET) != NumberSequence.VERSION) {
+                throw new IOException("Arquivo de numeração inválido: " + file);
+            }
+            return new NumberSequence(name, channel, lock, buffer, leaseSize);
+        } catch (IOException | RuntimeException e) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            if (e instanceof IOException) {
+                throw new UncheckedIOException((IOException) e);
+            }
+            throw (RuntimeException) e;
+        }
+    }
+
+    /**
+     * Converte um arquivo da versão 1 (sem bloco concedido). O próximo número da versão 1 era gravado
+     * a cada alocação, então serve como fim do bloco concedido.
+     */
+    private static void upgrade(final FileChannel channel) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(NumberSequence.VERSION_1_FILE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(header, 0);
+        if (header.getInt(NumberSequence.MAGIC_OFFSET) != NumberSequence.MAGIC
+                || header.getInt(NumberSequence.VERSION_OFFSET) != NumberSequence.VERSION_1) {
+            return;
+        }
+        final ByteBuffer upgraded = ByteBuffer.allocate(NumberSequence.FILE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        upgraded.putInt(NumberSequence.MAGIC_OFFSET, NumberSequence.MAGIC);
+        upgraded.putInt(NumberSequence.VERSION_OFFSET, NumberSequence.VERSION);
+        upgraded.putLong(NumberSequence.NEXT_OFFSET, header.getLong(NumberSequence.NEXT_OFFSET));
+        upgraded.putLong(NumberSequence.LEASE_OFFSET, header.getLong(NumberSequence.NEXT_OFFSET));
+        upgraded.putInt(NumberSequence.STATE_OFFSET, NumberSequence.OPEN);
+        channel.write(upgraded, 0);
+        channel.force(true);
+    }
+}
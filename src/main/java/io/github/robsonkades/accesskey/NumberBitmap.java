@@ -0,0 +1,426 @@
+package io.github.robsonkades.accesskey;
+
+import io.github.robsonkades.accesskey.SeriesNumbers.RangeConsumer;
+
+import java.util.Arrays;
+
+/**
+ * Conjunto de inteiros não negativos comprimido no formato do Roaring Bitmap.
+ *
+ * <p>Os 16 bits altos de cada valor escolhem um contêiner e os 16 bits baixos são guardados nele. O
+ * contêiner começa como array ordenado (até {@value #ARRAY_MAX} valores), passa a bitmap de 8 KB
+ * quando fica denso e a lista de intervalos quando os valores formam sequências. Números de
+ * documentos emitidos em ordem ocupam poucos bytes por contêiner; o pior caso é de 8 KB para cada
+ * 65.536 valores possíveis.</p>
+ *
+ * <p>Não é thread-safe.</p>
+ */
+final class NumberBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+
+    /**
+     * Quantidade de intervalos a partir da qual o bitmap ocupa menos memória.
+     */
+    private static final int RUNS_MAX = 2048;
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+    private long cardinality;
+
+    boolean contains(final int value) {
+        final int index = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+        return index >= 0 && containers[index].contains(value & 0xFFFF);
+    }
+
+    /**
+     * @return {@code false} se o valor já estava no conjunto
+     */
+    boolean add(final int value) {
+        final char key = (char) (value >>> 16);
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            index = -index - 1;
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                containers = Arrays.copyOf(containers, size * 2);
+            }
+            System.arraycopy(keys, index, keys, index + 1, size - index);
+            System.arraycopy(containers, index, containers, index + 1, size - index);
+            keys[index] = key;
+            containers[index] = new ArrayContainer();
+            size++;
+        }
+        final Container container = containers[index];
+        final int low = value & 0xFFFF;
+        if (container.contains(low)) {
+            return false;
+        }
+        containers[index] = container.add(low);
+        cardinality++;
+        return true;
+    }
+
+    long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * @return menor valor ou {@code -1} se o conjunto estiver vazio
+     */
+    int first() {
+        return size == 0 ? -1 : keys[0] << 16 | containers[0].first();
+    }
+
+    /**
+     * @return maior valor ou {@code -1} se o conjunto estiver vazio
+     */
+    int last() {
+        return size == 0 ? -1 : keys[size - 1] << 16 | containers[size - 1].last();
+    }
+
+    /**
+     * Percorre os intervalos máximos de valores presentes, em ordem crescente.
+     */
+    void forEachRun(final RangeConsumer consumer) {
+        final long[] pending = {-2L, -2L};
+        final RangeConsumer merger = (first, last) -> {
+            if (first == pending[1] + 1) {
+                pending[1] = last;
+            } else {
+                if (pending[0] >= 0) {
+                    consumer.accept((int) pending[0], (int) pending[1]);
+                }
+                pending[0] = first;
+                pending[1] = last;
+            }
+        };
+        for (int i = 0; i < size; i++) {
+            containers[i].forEachRun(keys[i] << 16, merger);
+        }
+        if (pending[0] >= 0) {
+            consumer.accept((int) pending[0], (int) pending[1]);
+        }
+    }
+
+    /**
+     * @return bytes ocupados pelos contêineres, aproximadamente
+     */
+    long sizeInBytes() {
+        long bytes = keys.length * 2L + containers.length * 8L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private abstract static class Container {
+
+        abstract boolean contains(int low);
+
+        /**
+         * Adiciona um valor ausente.
+         *
+         * @return o próprio contêiner ou o que o substitui
+         */
+        abstract Container add(int low);
+
+        abstract int first();
+
+        abstract int last();
+
+        abstract void forEachRun(int base, RangeConsumer consumer);
+
+        abstract int sizeInBytes();
+    }
+
+    /**
+     * Valores ordenados em um {@code char[]}.
+     */
+    private static final class ArrayContainer extends Container {
+
+        private char[] values = new char[4];
+        private int size;
+
+        @Override
+        boolean contains(final int low) {
+            return Arrays.binarySearch(values, 0, size, (char) low) >= 0;
+        }
+
+        @Override
+        Container add(final int low) {
+            if (size == ARRAY_MAX) {
+                final Container converted = runs() < RUNS_MAX / 2 ? toRuns() : toBitmap();
+                return converted.add(low);
+            }
+            final int index = -Arrays.binarySearch(values, 0, size, (char) low) - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, size * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = (char) low;
+            size++;
+            return this;
+        }
+
+        private int runs() {
+            int runs = size == 0 ? 0 : 1;
+            for (int i = 1; i < size; i++) {
+                if (values[i] != values[i - 1] + 1) {
+                    runs++;
+                }
+            }
+            return runs;
+        }
+
+        private Container toRuns() {
+            final RunContainer runs = new RunContainer();
+            for (int i = 0; i < size; i++) {
+                runs.add(values[i]);
+            }
+            return runs;
+        }
+
+        private Container toBitmap() {
+            final BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.set(values[i]);
+            }
+            return bitmap;
+        }
+
+        @Override
+        int first() {
+            return values[0];
+        }
+
+        @Override
+        int last() {
+            return values[size - 1];
+        }
+
+        @Override
+        void forEachRun(final int base, final RangeConsumer consumer) {
+            int start = 0;
+            for (int i = 1; i <= size; i++) {
+                if (i == size || values[i] != values[i - 1] + 1) {
+                    consumer.accept(base | values[start], base | values[i - 1]);
+                    start = i;
+                }
+            }
+        }
+
+        @Override
+        int sizeInBytes() {
+            return values.length * 2 + 16;
+        }
+    }
+
+    /**
+     * Um bit para cada um dos 65.536 valores.
+     */
+    private static final class BitmapContainer extends Container {
+
+        private final long[] words = new long[1024];
+        private int cardinality;
+
+        @Override
+        boolean contains(final int low) {
+            return (words[low >>> 6] & 1L << low) != 0L;
+        }
+
+        void set(final int low) {
+            words[low >>> 6] |= 1L << low;
+            cardinality++;
+        }
+
+        @Override
+        Container add(final int low) {
+            set(low);
+            // reavalia periodicamente se os valores já formam poucos intervalos
+            if ((cardinality & (ARRAY_MAX - 1)) == 0 && runs() < RUNS_MAX / 2) {
+                final RunContainer runs = new RunContainer();
+                forEachRun(0, runs::appendRun);
+                return runs;
+            }
+            return this;
+        }
+
+        private int runs() {
+            int runs = 0;
+            long previous = 0L;
+            for (long word : words) {
+                // bits que iniciam um intervalo: ligados e com o bit anterior desligado
+                runs += Long.bitCount(word & ~(word << 1 | previous >>> 63));
+                previous = word;
+            }
+            return runs;
+        }
+
+        @Override
+        int first() {
+            int i = 0;
+            while (words[i] == 0L) {
+                i++;
+            }
+            return i << 6 | Long.numberOfTrailingZeros(words[i]);
+        }
+
+        @Override
+        int last() {
+            int i = words.length - 1;
+            while (words[i] == 0L) {
+                i--;
+            }
+            return i << 6 | 63 - Long.numberOfLeadingZeros(words[i]);
+        }
+
+        @Override
+        void forEachRun(final int base, final RangeConsumer consumer) {
+            int start = nextSetBit(0);
+            while (start >= 0) {
+                final int end = nextClearBit(start);
+                consumer.accept(base | start, base | end - 1);
+                start = end < 65536 ? nextSetBit(end) : -1;
+            }
+        }
+
+        private int nextSetBit(final int from) {
+            int i = from >>> 6;
+            long word = words[i] & -1L << from;
+            while (word == 0L) {
+                if (++i == words.length) {
+                    return -1;
+                }
+                word = words[i];
+            }
+            return i << 6 | Long.numberOfTrailingZeros(word);
+        }
+
+        private int nextClearBit(final int from) {
+            int i = from >>> 6;
+            long word = ~words[i] & -1L << from;
+            while (word == 0L) {
+                if (++i == words.length) {
+                    return 65536;
+                }
+                word = ~words[i];
+            }
+            return i << 6 | Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        int sizeInBytes() {
+            return words.length * 8 + 16;
+        }
+    }
+
+    /**
+     * Intervalos fechados ordenados e disjuntos, guardados em dois {@code char[]}.
+     */
+    private static final class RunContainer extends Container {
+
+        private char[] starts = new char[4];
+        private char[] ends = new char[4];
+        private int runs;
+
+        /**
+         * @return índice do último intervalo que começa em {@code low} ou antes, ou {@code -1}
+         */
+        private int floor(final int low) {
+            int from = 0;
+            int to = runs - 1;
+            while (from <= to) {
+                final int middle = (from + to) >>> 1;
+                if (starts[middle] <= low) {
+                    from = middle + 1;
+                } else {
+                    to = middle - 1;
+                }
+            }
+            return to;
+        }
+
+        @Override
+        boolean contains(final int low) {
+            final int index = floor(low);
+            return index >= 0 && ends[index] >= low;
+        }
+
+        @Override
+        Container add(final int low) {
+            final int index = floor(low);
+            final boolean joinsPrevious = index >= 0 && ends[index] + 1 == low;
+            final boolean joinsNext = index + 1 < runs && starts[index + 1] == low + 1;
+            if (joinsPrevious && joinsNext) {
+                ends[index] = ends[index + 1];
+                remove(index + 1);
+            } else if (joinsPrevious) {
+                ends[index] = (char) low;
+            } else if (joinsNext) {
+                starts[index + 1] = (char) low;
+            } else {
+                if (runs == RUNS_MAX) {
+                    final BitmapContainer bitmap = new BitmapContainer();
+                    forEachRun(0, (first, last) -> {
+                        for (int v = first; v <= last; v++) {
+                            bitmap.set(v);
+                        }
+                    });
+                    bitmap.set(low);
+                    return bitmap;
+                }
+                insert(index + 1, low, low);
+            }
+            return this;
+        }
+
+        /**
+         * Acrescenta um intervalo posterior a todos os existentes.
+         */
+        void appendRun(final int first, final int last) {
+            insert(runs, first, last);
+        }
+
+        private void insert(final int index, final int first, final int last) {
+            if (runs == starts.length) {
+                starts = Arrays.copyOf(starts, runs * 2);
+                ends = Arrays.copyOf(ends, runs * 2);
+            }
+            System.arraycopy(starts, index, starts, index + 1, runs - index);
+            System.arraycopy(ends, index, ends, index + 1, runs - index);
+            starts[index] = (char) first;
+            ends[index] = (char) last;
+            runs++;
+        }
+
+        private void remove(final int index) {
+            System.arraycopy(starts, index + 1, starts, index, runs - index - 1);
+            System.arraycopy(ends, index + 1, ends, index, runs - index - 1);
+            runs--;
+        }
+
+        @Override
+        int first() {
+            return starts[0];
+        }
+
+        @Override
+        int last() {
+            return ends[runs - 1];
+        }
+
+        @Override
+        void forEachRun(final int base, final RangeConsumer consumer) {
+            for (int i = 0; i < runs; i++) {
+                consumer.accept(base | starts[i], base | ends[i]);
+            }
+        }
+
+        @Override
+        int sizeInBytes() {
+            return starts.length * 4 + 16;
+        }
+    }
+}
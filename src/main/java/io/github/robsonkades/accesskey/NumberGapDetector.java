@@ -0,0 +1,173 @@
+package io.github.robsonkades.accesskey;
+
+import io.github.robsonkades.cnpj.CNPJ;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * Detecta números de documento (nNF) pulados e repetidos em cada combinação de CNPJ, modelo e série.
+ *
+ * <p>As chaves podem chegar em qualquer ordem e de várias threads. Cada série guarda os números em
+ * um bitmap comprimido ({@link SeriesNumbers}), de modo que a memória depende de quão espalhada é a
+ * numeração e não da quantidade de documentos: uma série contígua de um bilhão de números ocupa
+ * alguns kilobytes, enquanto um {@code TreeSet<Integer>} precisaria de dezenas de gigabytes.</p>
+ *
+ * <p>Os repetidos são avisados no momento do registro ({@link #onDuplicate(Consumer)} e o retorno de
+ * {@code add}); as lacunas podem ser consultadas a qualquer momento, sem interromper o registro, com
+ * {@link SeriesNumbers#forEachGap(SeriesNumbers.RangeConsumer)}.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * NumberGapDetector detector = new NumberGapDetector()
+ *         .onDuplicate(key -> log.warn("Número repetido: {}", key.generate()));
+ * try (AccessKeyReader reader = AccessKeyReader.open(path)) {
+ *     reader.stream().forEach(detector::add);
+ * }
+ * detector.forEachSeries(series -> series.forEachGap((first, last) -> inutilizar(series, first, last)));
+ * }</pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class NumberGapDetector {
+
+    private static final long NUMBER_MASK = 0x3FFF_FFFFL << PackedAccessKey.NUMBER_SHIFT;
+
+    private final ConcurrentMap<SeriesKey, SeriesNumbers> series = new ConcurrentHashMap<>();
+    private Consumer<PackedAccessKey> duplicateListener = key -> { };
+
+    /**
+     * @param listener chamado, na thread que registrou a chave, para cada chave cujo número já tinha
+     *                 sido registrado na mesma série
+     */
+    public NumberGapDetector onDuplicate(final Consumer<PackedAccessKey> listener) {
+        this.duplicateListener = Objects.requireNonNull(listener, "O listener é obrigatório.");
+        return this;
+    }
+
+    /**
+     * Valida a chave e registra o seu número.
+     *
+     * @param key chave com 44 caracteres
+     * @return {@code false} se o número já tinha sido registrado na série
+     * @throws AccessKeyException se a chave for inválida
+     */
+    public boolean add(final CharSequence key) {
+        AccessKeyParser.requireValid(key);
+        return add(PackedAccessKey.high(key), PackedAccessKey.middle(key), null, key);
+    }
+
+    /**
+     * Registra o número da chave.
+     *
+     * @param key chave de acesso
+     * @return {@code false} se o número já tinha sido registrado na série
+     */
+    public boolean add(final AccessKey key) {
+        return add(PackedAccessKey.of(key));
+    }
+
+    /**
+     * Registra o número da chave.
+     *
+     * @param key chave compactada
+     * @return {@code false} se o número já tinha sido registrado na série
+     */
+    public boolean add(final PackedAccessKey key) {
+        Objects.requireNonNull(key, "A chave de acesso é obrigatória.");
+        return add(key.getHigh(), key.getMiddle(), key, null);
+    }
+
+    private boolean add(final long high, final long middle, final PackedAccessKey packed, final CharSequence source) {
+        final SeriesKey id = new SeriesKey(high, middle & ~NUMBER_MASK);
+        SeriesNumbers numbers = series.get(id);
+        if (numbers == null) {
+            numbers = series.computeIfAbsent(id, SeriesKey::create);
+        }
+        if (numbers.add((int) ((middle & NUMBER_MASK) >>> PackedAccessKey.NUMBER_SHIFT))) {
+            return true;
+        }
+        duplicateListener.accept(packed != null ? packed : PackedAccessKey.pack(source));
+        return false;
+    }
+
+    /**
+     * @param cnpj   CNPJ do emitente (14 caracteres)
+     * @param model  modelo do documento
+     * @param series série
+     * @return números registrados na série ou {@code null} se nenhuma chave da série foi registrada
+     */
+    public SeriesNumbers series(final String cnpj, final Model model, final int series) {
+        Objects.requireNonNull(model, "O modelo é obrigatório.");
+        final CNPJ value = CNPJ.of(cnpj);
+        return this.series.get(new SeriesKey(PackedAccessKey.high(value),
+                PackedAccessKey.middle(value, model, Series.of(series))));
+    }
+
+    /**
+     * Percorre as séries registradas, ordenadas por CNPJ, modelo e série.
+     *
+     * @param consumer recebe cada série
+     */
+    public void forEachSeries(final Consumer<SeriesNumbers> consumer) {
+        final List<SeriesKey> keys = new ArrayList<>(series.keySet());
+        keys.sort(Comparator.comparingLong(SeriesKey::high).thenComparingLong(SeriesKey::middle));
+        for (SeriesKey key : keys) {
+            consumer.accept(series.get(key));
+        }
+    }
+
+    /**
+     * @return quantidade de séries com ao menos uma chave registrada
+     */
+    public int getSeriesCount() {
+        return series.size();
+    }
+
+    /**
+     * Identificação da série: {@code high} e {@code middle} de {@link PackedAccessKey} sem o número.
+     */
+    private static final class SeriesKey {
+
+        private final long high;
+        private final long middle;
+
+        SeriesKey(final long high, final long middle) {
+            this.high = high;
+            this.middle = middle;
+        }
+
+        long high() {
+            return high;
+        }
+
+        long middle() {
+            return middle;
+        }
+
+        SeriesNumbers create() {
+            // UF, ano/mês, código e número não importam para obter CNPJ, modelo e série
+            final PackedAccessKey packed = new PackedAccessKey(high, middle, 0L);
+            return new SeriesNumbers(packed.getCnpj(), Model.fromCode(packed.getModelCode()), packed.getSeries());
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            SeriesKey other = (SeriesKey) o;
+            return high == other.high && middle == other.middle;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(PackedAccessKey.hash(high, middle, 0L));
+        }
+    }
+}
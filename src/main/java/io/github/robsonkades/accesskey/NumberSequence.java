@@ -0,0 +1,277 @@
+package io.github.robsonkades.accesskey;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Numeração (nNF) de uma série de um emitente, obtida de {@link NumberAllocator}.
+ *
+ * <p>O próximo número fica em um {@code long} de um arquivo mapeado em memória e é incrementado com
+ * {@code compareAndExchange} diretamente na página mapeada, sem locks. Para que um número nunca seja
+ * entregue duas vezes, nem após uma queda da máquina, o arquivo guarda também uma concessão: o
+ * primeiro número ainda não coberto por um bloco gravado em disco. Antes de entregar um número além
+ * da concessão, um novo bloco é concedido e gravado com {@link MappedByteBuffer#force()}; os demais
+ * números do bloco são entregues sem E/S.</p>
+ *
+ * <p>Ao reabrir um arquivo que não foi fechado (término abrupto do processo ou queda da máquina), a
+ * numeração continua do fim da concessão. Os números entre o último entregue e o fim da concessão
+ * ficam sem uso e devem ser inutilizados, assim como os números alocados e não usados antes da
+ * queda. Após um {@link NumberAllocator#close()} a numeração continua sem lacunas.</p>
+ *
+ * <p>Os números são entregues em sequência até {@code 999.999.999}; depois disso {@link #next()}
+ * lança {@link AccessKeyException}. O arquivo fica bloqueado ({@link FileLock}) enquanto a série
+ * estiver aberta, por isso só um {@link NumberAllocator} por vez pode usá-lo.</p>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class NumberSequence {
+
+    static final int MAGIC = 0x414B_5351;
+    static final int VERSION = 2;
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int NEXT_OFFSET = 8;
+    static final int LEASE_OFFSET = 16;
+    static final int STATE_OFFSET = 24;
+    static final int FILE_SIZE = 32;
+
+    /**
+     * Valores de {@link #STATE_OFFSET}: aberto ou fechado corretamente.
+     */
+    static final int OPEN = 1;
+    static final int CLOSED = 0;
+
+    /**
+     * Formato anterior, de 16 bytes e sem concessão, convertido ao abrir.
+     */
+    static final int VERSION_1 = 1;
+    static final int VERSION_1_FILE_SIZE = 16;
+
+    /**
+     * Valor máximo permitido para o número (9 dígitos).
+     */
+    private static final long MAX_VALUE = 999_999_999L;
+
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final String name;
+    private final FileChannel channel;
+    private final FileLock lock;
+    private final MappedByteBuffer buffer;
+    private final int leaseSize;
+
+    /**
+     * Concessão já gravada em disco por esta instância: números abaixo dela podem ser entregues.
+     */
+    private volatile long lease;
+    private volatile boolean closed;
+    private boolean released;
+
+    /**
+     * Alocações em andamento; {@link #close()} espera que terminem antes de gravar o contador e
+     * marcar o arquivo como fechado.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Recupera a numeração e marca o arquivo como aberto. O arquivo deve estar bloqueado.
+     */
+    NumberSequence(final String name, final FileChannel channel, final FileLock lock,
+                   final MappedByteBuffer buffer, final int leaseSize) {
+        this.name = name;
+        this.channel = channel;
+        this.lock = lock;
+        this.buffer = buffer;
+        this.leaseSize = leaseSize;
+        long next = buffer.getLong(NEXT_OFFSET);
+        if (buffer.getInt(STATE_OFFSET) != CLOSED) {
+            // não foi fechado: o contador pode não ter chegado ao disco, a concessão sim
+            next = Math.max(next, buffer.getLong(LEASE_OFFSET));
+        }
+        buffer.putLong(NEXT_OFFSET, next);
+        buffer.putLong(LEASE_OFFSET, next);
+        buffer.putInt(STATE_OFFSET, OPEN);
+        buffer.force();
+        this.lease = next;
+    }
+
+    /**
+     * @return nome da série ({@code cUF-CNPJ-mod-serie}), também usado como nome do arquivo
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Aloca o próximo número.
+     *
+     * @return número entre 1 e 999.999.999
+     * @throws AccessKeyException se a numeração estiver esgotada
+     * @throws IllegalStateException se o alocador tiver sido fechado
+     */
+    public int next() {
+        return reserve(1);
+    }
+
+    /**
+     * Aloca o próximo número como {@link Number}.
+     *
+     * @return número do documento
+     */
+    public Number nextNumber() {
+        return new Number(next());
+    }
+
+    /**
+     * Aloca {@code count} números consecutivos com uma única operação atômica. Se não houver números
+     * suficientes nada é alocado, preservando os números restantes.
+     *
+     * @param count quantidade de números (maior que zero)
+     * @return primeiro número do bloco; o bloco vai até {@code primeiro + count - 1}
+     * @throws AccessKeyException se não houver números suficientes
+     */
+    public int reserve(final int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("A quantidade deve ser maior que zero: " + count);
+        }
+        enter();
+        try {
+            long first = (long) LONG.getVolatile(buffer, NEXT_OFFSET);
+            while (true) {
+                if (first + count - 1 > MAX_VALUE) {
+                    throw new AccessKeyException("Numeração esgotada para a série " + name + " (max: 999,999,999)");
+                }
+                final long witness = (long) LONG.compareAndExchange(buffer, NEXT_OFFSET, first, first + count);
+                if (witness == first) {
+                    ensureLease(first + count);
+                    return (int) first;
+                }
+                first = witness;
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return próximo número que será entregue, sem alocá-lo
+     */
+    public long peek() {
+        ensureOpen();
+        return (long) LONG.getVolatile(buffer, NEXT_OFFSET);
+    }
+
+    /**
+     * Avança a numeração para que o próximo número seja pelo menos {@code next}; nunca retrocede.
+     * Útil para continuar uma numeração que já existia antes do alocador.
+     *
+     * @param next próximo número desejado
+     * @return próximo número efetivo (maior entre {@code next} e o atual)
+     */
+    public long advanceTo(final int next) {
+        Number.validate(next);
+        enter();
+        try {
+            long current = (long) LONG.getVolatile(buffer, NEXT_OFFSET);
+            while (current < next) {
+                final long witness = (long) LONG.compareAndExchange(buffer, NEXT_OFFSET, current, (long) next);
+                if (witness == current) {
+                    ensureLease(next);
+                    return next;
+                }
+                current = witness;
+            }
+            return current;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Garante que a concessão gravada em disco cubra os números abaixo de {@code end}.
+     */
+    private void ensureLease(final long end) {
+        if (end > lease) {
+            extendLease(end);
+        }
+    }
+
+    private synchronized void extendLease(final long end) {
+        ensureOpen();
+        if (end > lease) {
+            final long extended = Math.min(MAX_VALUE + 1, end + leaseSize);
+            LONG.setVolatile(buffer, LEASE_OFFSET, extended);
+            buffer.force();
+            lease = extended;
+        }
+    }
+
+    /**
+     * Grava o contador em disco. Não é necessário para evitar repetições (a concessão já é gravada
+     * antes de ser usada); apenas reduz os números a inutilizar após uma queda da máquina.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * Impede novas alocações, espera as que estão em andamento, grava o contador, marca o arquivo
+     * como fechado e libera o bloqueio.
+     */
+    void close() throws IOException {
+        closed = true;
+        // fora do monitor: uma alocação em andamento pode precisar de extendLease
+        while (inFlight.get() != 0) {
+            Thread.onSpinWait();
+        }
+        release();
+    }
+
+    private synchronized void release() throws IOException {
+        if (released) {
+            return;
+        }
+        released = true;
+        buffer.force();
+        buffer.putInt(STATE_OFFSET, CLOSED);
+        buffer.force();
+        try {
+            lock.release();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Registra uma alocação em andamento. O registro vem antes da leitura de {@link #closed}, então
+     * {@link #close()} ou vê a alocação e espera por ela, ou a alocação vê o fechamento.
+     */
+    private void enter() {
+        inFlight.incrementAndGet();
+        if (closed) {
+            inFlight.decrementAndGet();
+            throw new IllegalStateException("O alocador de números foi fechado.");
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("O alocador de números foi fechado.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NumberSequence{" +
+                "name='" + name + '\'' +
+                ", next=" + LONG.getVolatile(buffer, NEXT_OFFSET) +
+                '}';
+    }
+}
@@ -0,0 +1,357 @@
+package io.github.robsonkades.accesskey;
+
+import io.github.robsonkades.cnpj.CNPJ;
+
+import java.util.Objects;
+
+/**
+ * Representação compacta e imutável de uma chave de acesso válida em três {@code long}s.
+ *
+ * <p>As 44 posições são codificadas sem perda, incluindo os 12 caracteres alfanuméricos (base 36)
+ * da raiz e da ordem do CNPJ. Só a parte alfanumérica do CNPJ já exige 62 bits e a chave completa
+ * carrega cerca de 148 bits de informação, por isso são usados 192 bits em vez de 128. Ainda assim
+ * a instância ocupa uma fração do grafo de objetos de {@link AccessKey}, e os três valores podem ser
+ * guardados diretamente em arrays de {@code long} (ver {@link #writeTo(long[], int)}).</p>
+ *
+ * <p>Layout (bits mais significativos primeiro):</p>
+ * <pre>
+ *  high   : raiz + ordem do CNPJ em base 36 (63 bits)
+ *  middle : mod (7) | serie (10) | nNF (30) | DVs do CNPJ (7)
+ *  low    : cUF (7) | AA (7) | MM (4) | tpEmis (4) | cNF (27) | cDV (4)
+ * </pre>
+ *
+ * <p>A ordem natural ({@link #compareTo}) compara {@code high}, {@code middle} e {@code low}, o que
+ * equivale a ordenar por CNPJ, modelo, série, número, UF, ano/mês, tipo de emissão e código.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * PackedAccessKey packed = PackedAccessKey.of("352410KSP416L8000109550010000001231999999993");
+ * String key = packed.generate();
+ * AccessKey accessKey = packed.toAccessKey();
+ * }</pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class PackedAccessKey implements Comparable<PackedAccessKey> {
+
+    /**
+     * Quantidade de {@code long}s usados por chave em {@link #writeTo(long[], int)}.
+     */
+    public static final int LONGS = 3;
+
+    static final int MODEL_SHIFT = 47;
+    static final int SERIES_SHIFT = 37;
+    static final int NUMBER_SHIFT = 7;
+
+    static final int STATE_SHIFT = 46;
+    static final int YEAR_SHIFT = 39;
+    static final int MONTH_SHIFT = 35;
+    static final int ISSUE_MODE_SHIFT = 31;
+    static final int CODE_SHIFT = 4;
+
+    private final long high;
+    private final long middle;
+    private final long low;
+
+    PackedAccessKey(final long high, final long middle, final long low) {
+        this.high = high;
+        this.middle = middle;
+        this.low = low;
+    }
+
+    /**
+     * Valida e compacta a chave.
+     *
+     * @param key chave com 44 caracteres
+     * @return chave compactada
+     * @throws AccessKeyException se a chave for inválida
+     */
+    public static PackedAccessKey of(final CharSequence key) {
+        AccessKeyParser.requireValid(key);
+        return pack(key);
+    }
+
+    /**
+     * Compacta uma chave de acesso.
+     *
+     * @param key chave de acesso
+     * @return chave compactada
+     */
+    public static PackedAccessKey of(final AccessKey key) {
+        return Objects.requireNonNull(key, "A chave de acesso é obrigatória.").packed();
+    }
+
+    /**
+     * Compacta uma chave já validada.
+     */
+    static PackedAccessKey pack(final CharSequence key) {
+        return new PackedAccessKey(high(key), middle(key), low(key));
+    }
+
+    /**
+     * Lê uma chave gravada por {@link #writeTo(long[], int)}. Os valores não são revalidados, exceto
+     * pela posição vazia ({@code low} zero), que nenhuma chave válida produz.
+     *
+     * @param src    origem
+     * @param offset posição do primeiro dos três {@code long}s
+     * @return chave compactada
+     * @throws IllegalArgumentException se os três {@code long}s não forem de uma chave gravada
+     */
+    public static PackedAccessKey readFrom(final long[] src, final int offset) {
+        Objects.checkFromIndexSize(offset, LONGS, src.length);
+        if (src[offset + 2] == 0L) {
+            throw new IllegalArgumentException("Chave compactada inválida na posição " + offset + ".");
+        }
+        return new PackedAccessKey(src[offset], src[offset + 1], src[offset + 2]);
+    }
+
+    /**
+     * Grava os três {@code long}s da chave em {@code dest}.
+     *
+     * @param dest   destino
+     * @param offset posição do primeiro {@code long}
+     * @return posição seguinte ao último {@code long} gravado
+     */
+    public int writeTo(final long[] dest, final int offset) {
+        Objects.checkFromIndexSize(offset, LONGS, dest.length);
+        dest[offset] = high;
+        dest[offset + 1] = middle;
+        dest[offset + 2] = low;
+        return offset + LONGS;
+    }
+
+    /**
+     * Escreve os 44 caracteres da chave em {@code dest} a partir de {@code offset}.
+     *
+     * @return posição seguinte ao último caractere escrito
+     */
+    public int writeTo(final char[] dest, final int offset) {
+        Objects.checkFromIndexSize(offset, AccessKeyGenerator.LENGTH, dest.length);
+        long cnpj = high;
+        for (int i = 17; i >= 6; i--) {
+            dest[offset + i] = base36(cnpj % 36);
+            cnpj /= 36;
+        }
+        putDigits(dest, offset, 18, 2, middle & 0x7F);
+        putDigits(dest, offset, 20, 2, middle >>> MODEL_SHIFT);
+        putDigits(dest, offset, 22, 3, (middle >>> SERIES_SHIFT) & 0x3FF);
+        putDigits(dest, offset, 25, 9, (middle >>> NUMBER_SHIFT) & 0x3FFF_FFFF);
+        putDigits(dest, offset, 0, 2, low >>> STATE_SHIFT);
+        putDigits(dest, offset, 2, 2, (low >>> YEAR_SHIFT) & 0x7F);
+        putDigits(dest, offset, 4, 2, (low >>> MONTH_SHIFT) & 0xF);
+        putDigits(dest, offset, 34, 1, (low >>> ISSUE_MODE_SHIFT) & 0xF);
+        putDigits(dest, offset, 35, 8, (low >>> CODE_SHIFT) & 0x7FF_FFFF);
+        putDigits(dest, offset, 43, 1, low & 0xF);
+        return offset + AccessKeyGenerator.LENGTH;
+    }
+
+    /**
+     * @return chave de acesso com 44 caracteres
+     */
+    public String generate() {
+        final char[] chars = new char[AccessKeyGenerator.LENGTH];
+        writeTo(chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Converte para {@link AccessKey}.
+     *
+     * @return chave de acesso equivalente
+     */
+    public AccessKey toAccessKey() {
+        return new AccessKey(
+                State.fromCode(getStateCode()),
+                AccessKeyParser.yearMonth(getYearMonthCode() / 100, getYearMonthCode() % 100),
+                CNPJ.of(getCnpj()),
+                Model.fromCode(getModelCode()),
+                Series.of(getSeries()),
+                Number.of(getNumber()),
+                IssueMode.fromCode(getIssueModeCode()),
+                new Code(getCode()));
+    }
+
+    /**
+     * @return código da UF (cUF)
+     */
+    public int getStateCode() {
+        return (int) (low >>> STATE_SHIFT);
+    }
+
+    /**
+     * @return ano e mês de emissão no formato AAMM (ex: 2410)
+     */
+    public int getYearMonthCode() {
+        return (int) ((low >>> YEAR_SHIFT) & 0x7F) * 100 + (int) ((low >>> MONTH_SHIFT) & 0xF);
+    }
+
+    /**
+     * @return CNPJ do emitente com 14 caracteres
+     */
+    public String getCnpj() {
+        final char[] chars = new char[14];
+        long cnpj = high;
+        for (int i = 11; i >= 0; i--) {
+            chars[i] = base36(cnpj % 36);
+            cnpj /= 36;
+        }
+        putDigits(chars, 0, 12, 2, middle & 0x7F);
+        return new String(chars);
+    }
+
+    public int getModelCode() {
+        return (int) (middle >>> MODEL_SHIFT);
+    }
+
+    public int getSeries() {
+        return (int) ((middle >>> SERIES_SHIFT) & 0x3FF);
+    }
+
+    public int getNumber() {
+        return (int) ((middle >>> NUMBER_SHIFT) & 0x3FFF_FFFF);
+    }
+
+    public int getIssueModeCode() {
+        return (int) ((low >>> ISSUE_MODE_SHIFT) & 0xF);
+    }
+
+    public int getCode() {
+        return (int) ((low >>> CODE_SHIFT) & 0x7FF_FFFF);
+    }
+
+    public int getCheckDigit() {
+        return (int) (low & 0xF);
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public long getMiddle() {
+        return middle;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * Raiz e ordem do CNPJ (posições 6 a 17) em base 36. A chave deve ter sido validada.
+     */
+    static long high(final CharSequence key) {
+        return base36(key, 6);
+    }
+
+    /**
+     * Raiz e ordem do CNPJ em base 36, com o mesmo valor de {@link #getHigh()} para as chaves do emitente.
+     */
+    static long high(final CNPJ cnpj) {
+        return base36(cnpj.getValue(), 0);
+    }
+
+    /**
+     * Modelo, série, número e DVs do CNPJ. A chave deve ter sido validada.
+     */
+    static long middle(final CharSequence key) {
+        return digits(key, 20, 22) << MODEL_SHIFT
+                | digits(key, 22, 25) << SERIES_SHIFT
+                | digits(key, 25, 34) << NUMBER_SHIFT
+                | digits(key, 18, 20);
+    }
+
+    /**
+     * Modelo, série e DVs do CNPJ: o {@link #getMiddle()} das chaves da série com o número zerado.
+     */
+    static long middle(final CNPJ cnpj, final Model model, final Series series) {
+        return (long) model.getCode() << MODEL_SHIFT
+                | (long) series.getCode() << SERIES_SHIFT
+                | digits(cnpj.getValue(), 12, 14);
+    }
+
+    /**
+     * UF, ano, mês, tipo de emissão, código numérico e DV. A chave deve ter sido validada.
+     */
+    static long low(final CharSequence key) {
+        return digits(key, 0, 2) << STATE_SHIFT
+                | digits(key, 2, 4) << YEAR_SHIFT
+                | digits(key, 4, 6) << MONTH_SHIFT
+                | digits(key, 34, 35) << ISSUE_MODE_SHIFT
+                | digits(key, 35, 43) << CODE_SHIFT
+                | digits(key, 43, 44);
+    }
+
+    /**
+     * Espalha os bits dos três valores (finalizador do MurmurHash3) para uso em tabelas hash.
+     */
+    static long hash(final long high, final long middle, final long low) {
+        long h = high * 0x9E3779B97F4A7C15L + middle;
+        h = h * 0x9E3779B97F4A7C15L + low;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static long base36(final CharSequence text, final int offset) {
+        long value = 0L;
+        for (int i = offset; i < offset + 12; i++) {
+            final char c = text.charAt(i);
+            value = value * 36 + (c <= '9' ? c - '0' : c - 'A' + 10);
+        }
+        return value;
+    }
+
+    private static long digits(final CharSequence key, final int from, final int to) {
+        long value = 0L;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (key.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static char base36(final long value) {
+        return (char) (value < 10 ? '0' + value : 'A' + value - 10);
+    }
+
+    private static void putDigits(final char[] dest, final int offset, final int from, final int width, long value) {
+        for (int i = from + width - 1; i >= from; i--) {
+            dest[offset + i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    @Override
+    public int compareTo(final PackedAccessKey other) {
+        int result = Long.compare(high, other.high);
+        if (result == 0) {
+            result = Long.compare(middle, other.middle);
+            if (result == 0) {
+                result = Long.compare(low, other.low);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PackedAccessKey other = (PackedAccessKey) o;
+        return high == other.high && middle == other.middle && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash(high, middle, low));
+    }
+
+    @Override
+    public String toString() {
+        return "PackedAccessKey{" +
+                "key='" + generate() + '\'' +
+                '}';
+    }
+}
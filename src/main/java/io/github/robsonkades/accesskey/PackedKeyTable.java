@@ -0,0 +1,212 @@
+package io.github.robsonkades.accesskey;
+
+import java.util.Arrays;
+
+/**
+ * Tabela hash de endereçamento aberto (sondagem linear) indexada pelos três {@code long}s de
+ * {@link PackedAccessKey}, base de {@link AccessKeySet} e {@link AccessKeyMap}.
+ *
+ * <p>As chaves ficam em um único {@code long[]} (três posições por slot) e os valores, quando
+ * existem, em um {@code Object[]} paralelo; não há objetos por entrada. Um slot com {@code low == 0}
+ * está livre: em uma chave válida o mês nunca é zero, então {@code low} nunca é zero.</p>
+ *
+ * <p>A capacidade não precisa ser potência de 2: o slot inicial é obtido por multiplicação
+ * ({@code (hash * capacity) >>> 32}), o que permite dimensionar a tabela sem desperdício.</p>
+ */
+final class PackedKeyTable {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - 8) / PackedAccessKey.LONGS;
+    private static final double LOAD_FACTOR = 0.75;
+
+    private final boolean withValues;
+    private long[] keys;
+    private Object[] values;
+    private int capacity;
+    private int size;
+    private int resizeAt;
+
+    PackedKeyTable(final int expectedSize, final boolean withValues) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("O tamanho esperado não pode ser negativo: " + expectedSize);
+        }
+        this.withValues = withValues;
+        allocate(capacityFor(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return slot da chave ou {@code -1} se ela não estiver na tabela
+     */
+    int indexOf(final long high, final long middle, final long low) {
+        final long[] keys = this.keys;
+        int slot = home(high, middle, low);
+        while (true) {
+            final int base = slot * PackedAccessKey.LONGS;
+            final long current = keys[base + 2];
+            if (current == 0L) {
+                return -1;
+            }
+            if (current == low && keys[base] == high && keys[base + 1] == middle) {
+                return slot;
+            }
+            if (++slot == capacity) {
+                slot = 0;
+            }
+        }
+    }
+
+    /**
+     * Insere a chave se ainda não estiver presente.
+     *
+     * @return slot da chave já existente ou {@code ~slot} quando a chave foi inserida
+     * @throws IllegalArgumentException se {@code low} for zero, valor reservado para slots livres
+     */
+    int insert(final long high, final long middle, final long low) {
+        if (low == 0L) {
+            throw new IllegalArgumentException("Chave compactada inválida: o mês e a UF não podem ser zero.");
+        }
+        if (size >= resizeAt) {
+            grow();
+        }
+        final long[] keys = this.keys;
+        int slot = home(high, middle, low);
+        while (true) {
+            final int base = slot * PackedAccessKey.LONGS;
+            final long current = keys[base + 2];
+            if (current == 0L) {
+                keys[base] = high;
+                keys[base + 1] = middle;
+                keys[base + 2] = low;
+                size++;
+                return ~slot;
+            }
+            if (current == low && keys[base] == high && keys[base + 1] == middle) {
+                return slot;
+            }
+            if (++slot == capacity) {
+                slot = 0;
+            }
+        }
+    }
+
+    /**
+     * Remove o slot, deslocando para trás as entradas seguintes da mesma sequência de sondagem.
+     */
+    void removeAt(int slot) {
+        final long[] keys = this.keys;
+        int next = slot;
+        while (true) {
+            if (++next == capacity) {
+                next = 0;
+            }
+            final int nextBase = next * PackedAccessKey.LONGS;
+            if (keys[nextBase + 2] == 0L) {
+                break;
+            }
+            final int home = home(keys[nextBase], keys[nextBase + 1], keys[nextBase + 2]);
+            // a entrada pode ocupar o slot livre se este estiver entre a sua posição ideal e a atual
+            final boolean movable = slot <= next
+                    ? home <= slot || home > next
+                    : home <= slot && home > next;
+            if (movable) {
+                final int base = slot * PackedAccessKey.LONGS;
+                keys[base] = keys[nextBase];
+                keys[base + 1] = keys[nextBase + 1];
+                keys[base + 2] = keys[nextBase + 2];
+                if (withValues) {
+                    values[slot] = values[next];
+                }
+                slot = next;
+            }
+        }
+        final int base = slot * PackedAccessKey.LONGS;
+        keys[base] = 0L;
+        keys[base + 1] = 0L;
+        keys[base + 2] = 0L;
+        if (withValues) {
+            values[slot] = null;
+        }
+        size--;
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0L);
+        if (withValues) {
+            Arrays.fill(values, null);
+        }
+        size = 0;
+    }
+
+    boolean isFree(final int slot) {
+        return keys[slot * PackedAccessKey.LONGS + 2] == 0L;
+    }
+
+    long high(final int slot) {
+        return keys[slot * PackedAccessKey.LONGS];
+    }
+
+    long middle(final int slot) {
+        return keys[slot * PackedAccessKey.LONGS + 1];
+    }
+
+    long low(final int slot) {
+        return keys[slot * PackedAccessKey.LONGS + 2];
+    }
+
+    PackedAccessKey keyAt(final int slot) {
+        return PackedAccessKey.readFrom(keys, slot * PackedAccessKey.LONGS);
+    }
+
+    Object valueAt(final int slot) {
+        return values[slot];
+    }
+
+    void valueAt(final int slot, final Object value) {
+        values[slot] = value;
+    }
+
+    private int home(final long high, final long middle, final long low) {
+        final long hash = PackedAccessKey.hash(high, middle, low);
+        return (int) (((hash >>> 32) * capacity) >>> 32);
+    }
+
+    private void grow() {
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("Capacidade máxima atingida: " + size + " chaves.");
+        }
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        final int oldCapacity = capacity;
+        allocate((int) Math.min(MAX_CAPACITY, oldCapacity * 2L));
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            final int base = slot * PackedAccessKey.LONGS;
+            if (oldKeys[base + 2] != 0L) {
+                final int inserted = ~insert(oldKeys[base], oldKeys[base + 1], oldKeys[base + 2]);
+                if (withValues) {
+                    values[inserted] = oldValues[slot];
+                }
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        this.capacity = capacity;
+        this.keys = new long[capacity * PackedAccessKey.LONGS];
+        this.values = withValues ? new Object[capacity] : null;
+        this.size = 0;
+        this.resizeAt = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        final long capacity = (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1;
+        return (int) Math.max(MIN_CAPACITY, Math.min(MAX_CAPACITY, capacity));
+    }
+}
@@ -0,0 +1,399 @@
+package io.github.robsonkades.accesskey;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Gera códigos numéricos (cNF) aleatórios respeitando as regras da chave de acesso.
+ *
+ * <p>Cada thread mantém um lote de códigos já sorteados, reabastecido de uma só vez a partir de um
+ * {@link SecureRandom} compartilhado. Assim a fonte forte é consultada uma vez a cada
+ * {@value #BATCH} códigos e a geração de um código custa poucos nanossegundos, sem disputa entre
+ * threads.</p>
+ *
+ * <p>São recusados os códigos iguais ao número do documento e as sequências triviais (todos os
+ * dígitos iguais ou em ordem crescente/decrescente, como {@code 12345678}). Opcionalmente
+ * ({@link #recentCodes(int)}) o gerador lembra os últimos códigos de cada emitente em um bitmap
+ * compacto e não os repete. São lembrados até {@link #maxEmitters(int)} emitentes; acima disso os
+ * usados há mais tempo são esquecidos e podem voltar a receber um código recente.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ * RandomCodeGenerator codes = new RandomCodeGenerator().recentCodes(100_000);
+ * int code = codes.next("KSP416L8000109", number);
+ * }</pre>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class RandomCodeGenerator implements CodeStrategy {
+
+    private static final int MAX_VALUE = 99_999_999;
+
+    /**
+     * Quantidade de códigos sorteados a cada consulta à fonte aleatória.
+     */
+    private static final int BATCH = 512;
+
+    /**
+     * Quantidade padrão de emitentes com códigos recentes guardados.
+     */
+    public static final int DEFAULT_MAX_EMITTERS = 10_000;
+
+    private static final int MIN_EMITTER_SLOTS = 16;
+
+    private final ThreadLocal<Batch> batches = ThreadLocal.withInitial(Batch::new);
+
+    /**
+     * Emitentes por endereçamento aberto, indexados pelo id do emitente sem criar {@link Long}s. A
+     * leitura não usa lock; inclusões e remoções são feitas sob o monitor e, quando removem
+     * emitentes, publicam uma tabela nova. A ocupação fica abaixo da metade.
+     */
+    private volatile AtomicReferenceArray<RecentCodes> emitters = new AtomicReferenceArray<>(MIN_EMITTER_SLOTS);
+    private int emitterCount;
+    private Random source = new SecureRandom();
+    private int recentCodes;
+    private int maxEmitters = DEFAULT_MAX_EMITTERS;
+
+    /**
+     * Relógio lógico avançado a cada emitente incluído, usado para esquecer os menos usados.
+     */
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * @param source fonte aleatória compartilhada pelos lotes; por padrão um {@link SecureRandom}
+     */
+    public RandomCodeGenerator source(final Random source) {
+        this.source = Objects.requireNonNull(source, "A fonte aleatória é obrigatória.");
+        return this;
+    }
+
+    /**
+     * Ativa o controle de códigos recentes por emitente.
+     *
+     * @param count quantidade de códigos mais recentes de cada emitente que não podem se repetir
+     *              ({@code 0} desativa)
+     */
+    public RandomCodeGenerator recentCodes(final int count) {
+        if (count < 0 || count > 1 << 24) {
+            throw new IllegalArgumentException("A quantidade deve estar entre 0 e " + (1 << 24) + ": " + count);
+        }
+        this.recentCodes = count;
+        return this;
+    }
+
+    /**
+     * @param maxEmitters quantidade máxima de emitentes com códigos recentes guardados; por padrão
+     *                    {@value #DEFAULT_MAX_EMITTERS}. Cada emitente ocupa cerca de
+     *                    {@code 2 * recentCodes} bytes.
+     */
+    public RandomCodeGenerator maxEmitters(final int maxEmitters) {
+        if (maxEmitters < 1) {
+            throw new IllegalArgumentException("A quantidade de emitentes deve ser maior que zero: " + maxEmitters);
+        }
+        this.maxEmitters = maxEmitters;
+        return this;
+    }
+
+    /**
+     * Sorteia um código permitido para o número informado.
+     *
+     * @param number número do documento (nNF)
+     * @return código entre 0 e 99.999.999
+     */
+    public int next(final int number) {
+        final Batch batch = batches.get();
+        while (true) {
+            final int code = batch.next(source);
+            if (isAllowed(code, number)) {
+                return code;
+            }
+        }
+    }
+
+    /**
+     * Sorteia um código permitido que não tenha sido usado recentemente pelo emitente (quando
+     * {@link #recentCodes(int)} estiver ativo).
+     *
+     * @param cnpj   CNPJ do emitente (14 caracteres)
+     * @param number número do documento (nNF)
+     * @return código entre 0 e 99.999.999
+     */
+    public int next(final CharSequence cnpj, final int number) {
+        return next(cnpj, 0, number);
+    }
+
+    /**
+     * @param number número do documento (nNF)
+     * @return código permitido como {@link Code}
+     */
+    public Code nextCode(final int number) {
+        return new Code(next(number));
+    }
+
+    @Override
+    public int code(final CharSequence key, final int number) {
+        return next(key, 6, number);
+    }
+
+    /**
+     * Indica se o código pode ser usado com o número do documento.
+     *
+     * @param code   código numérico
+     * @param number número do documento (nNF)
+     * @return {@code false} se o código estiver fora da faixa, for igual ao número ou for uma
+     * sequência trivial
+     */
+    public static boolean isAllowed(final int code, final int number) {
+        return code >= 0 && code <= MAX_VALUE && code != number && !isTrivial(code);
+    }
+
+    /**
+     * Todos os dígitos iguais ou em progressão de um em um ({@code 12345678}, {@code 98765432}).
+     */
+    private static boolean isTrivial(int code) {
+        int previous = code % 10;
+        code /= 10;
+        final int step = previous - code % 10;
+        if (step < -1 || step > 1) {
+            return false;
+        }
+        for (int i = 1; i < 8; i++) {
+            final int digit = code % 10;
+            if (previous - digit != step) {
+                return false;
+            }
+            previous = digit;
+            code /= 10;
+        }
+        return true;
+    }
+
+    private int next(final CharSequence cnpj, final int offset, final int number) {
+        if (recentCodes == 0) {
+            return next(number);
+        }
+        final RecentCodes recent = recent(emitter(cnpj, offset));
+        while (true) {
+            final int code = next(number);
+            if (recent.tryUse(code)) {
+                return code;
+            }
+        }
+    }
+
+    private RecentCodes recent(final long emitter) {
+        final RecentCodes recent = find(emitters, emitter);
+        if (recent != null) {
+            recent.touch(clock.get());
+            return recent;
+        }
+        return add(emitter);
+    }
+
+    private static RecentCodes find(final AtomicReferenceArray<RecentCodes> table, final long emitter) {
+        final int mask = table.length() - 1;
+        for (int i = slot(emitter, mask); ; i = (i + 1) & mask) {
+            final RecentCodes recent = table.get(i);
+            if (recent == null || recent.emitter == emitter) {
+                return recent;
+            }
+        }
+    }
+
+    private synchronized RecentCodes add(final long emitter) {
+        AtomicReferenceArray<RecentCodes> table = emitters;
+        RecentCodes recent = find(table, emitter);
+        if (recent != null) {
+            recent.touch(clock.get());
+            return recent;
+        }
+        recent = new RecentCodes(emitter, recentCodes, clock.getAndIncrement());
+        if (emitterCount >= maxEmitters) {
+            table = evict(table);
+        } else if (2 * (emitterCount + 1) > table.length()) {
+            table = rebuild(table, table.length() * 2, Long.MIN_VALUE, false);
+        }
+        insert(table, recent);
+        emitterCount++;
+        emitters = table;
+        return recent;
+    }
+
+    /**
+     * Esquece o quarto de emitentes usados há mais tempo, para que a ordenação seja amortizada entre
+     * as inclusões seguintes.
+     */
+    private AtomicReferenceArray<RecentCodes> evict(final AtomicReferenceArray<RecentCodes> table) {
+        final long[] ticks = new long[emitterCount];
+        int count = 0;
+        for (int i = 0; i < table.length(); i++) {
+            final RecentCodes recent = table.get(i);
+            if (recent != null) {
+                ticks[count++] = recent.lastUse;
+            }
+        }
+        Arrays.sort(ticks, 0, count);
+        final long limit = ticks[Math.min(count - 1, count - maxEmitters + maxEmitters / 4)];
+        final AtomicReferenceArray<RecentCodes> rebuilt = rebuild(table, table.length(), limit, false);
+        // nenhum usado antes do limite: esquece também os empatados nele
+        return emitterCount == count ? rebuild(table, table.length(), limit, true) : rebuilt;
+    }
+
+    /**
+     * Copia para uma tabela nova os emitentes usados depois de {@code limit} (ou a partir dele, se
+     * {@code inclusive} for falso), atualizando {@link #emitterCount}.
+     */
+    private AtomicReferenceArray<RecentCodes> rebuild(final AtomicReferenceArray<RecentCodes> table, final int slots,
+                                                      final long limit, final boolean inclusive) {
+        final AtomicReferenceArray<RecentCodes> rebuilt = new AtomicReferenceArray<>(slots);
+        int count = 0;
+        for (int i = 0; i < table.length(); i++) {
+            final RecentCodes recent = table.get(i);
+            if (recent != null && (inclusive ? recent.lastUse > limit : recent.lastUse >= limit)) {
+                insert(rebuilt, recent);
+                count++;
+            }
+        }
+        emitterCount = count;
+        return rebuilt;
+    }
+
+    private static void insert(final AtomicReferenceArray<RecentCodes> table, final RecentCodes recent) {
+        final int mask = table.length() - 1;
+        int i = slot(recent.emitter, mask);
+        while (table.get(i) != null) {
+            i = (i + 1) & mask;
+        }
+        table.set(i, recent);
+    }
+
+    private static int slot(final long emitter, final int mask) {
+        return (int) PackedAccessKey.hash(emitter, 0L, 0L) & mask;
+    }
+
+    /**
+     * Raiz e ordem do CNPJ em base 36, que identificam o emitente.
+     */
+    private static long emitter(final CharSequence cnpj, final int offset) {
+        Objects.requireNonNull(cnpj, "O CNPJ é obrigatório.");
+        long value = 0L;
+        for (int i = offset; i < offset + 12; i++) {
+            final char c = cnpj.charAt(i);
+            value = value * 36 + (c <= '9' ? c - '0' : c - 'A' + 10);
+        }
+        return value;
+    }
+
+    /**
+     * Lote de códigos sorteados de uma thread.
+     */
+    private static final class Batch {
+
+        private final byte[] bytes = new byte[BATCH * 4];
+        private final int[] codes = new int[BATCH];
+        private int size;
+        private int index;
+
+        int next(final Random source) {
+            if (index == size) {
+                refill(source);
+            }
+            return codes[index++];
+        }
+
+        /**
+         * Converte 27 bits aleatórios por código, descartando os valores acima de 99.999.999 para
+         * manter a distribuição uniforme.
+         */
+        private void refill(final Random source) {
+            size = 0;
+            index = 0;
+            while (size == 0) {
+                source.nextBytes(bytes);
+                for (int i = 0; i < bytes.length; i += 4) {
+                    final int value = ((bytes[i] & 0x07) << 24)
+                            | ((bytes[i + 1] & 0xFF) << 16)
+                            | ((bytes[i + 2] & 0xFF) << 8)
+                            | (bytes[i + 3] & 0xFF);
+                    if (value <= MAX_VALUE) {
+                        codes[size++] = value;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Códigos usados recentemente por um emitente, em dois bitmaps indexados por hash: a geração
+     * atual e a anterior. A cada {@code count} códigos a geração atual passa a ser a anterior, de
+     * modo que os últimos {@code count} códigos estão sempre marcados. Colisões apenas recusam um
+     * código a mais, que é sorteado novamente.
+     */
+    private static final class RecentCodes {
+
+        private final long emitter;
+        private final int count;
+        private final int shift;
+        private final AtomicInteger used = new AtomicInteger();
+        private volatile AtomicLongArray current;
+        private volatile AtomicLongArray previous;
+        private volatile long lastUse;
+
+        RecentCodes(final long emitter, final int count, final long lastUse) {
+            this.emitter = emitter;
+            this.count = count;
+            this.lastUse = lastUse;
+            // 8 bits por código mantém a taxa de colisão das duas gerações abaixo de 25%
+            final int bits = Math.max(64, Integer.highestOneBit(count * 8 - 1) << 1);
+            this.shift = 32 - Integer.numberOfTrailingZeros(bits);
+            this.current = new AtomicLongArray(bits >>> 6);
+            this.previous = new AtomicLongArray(bits >>> 6);
+        }
+
+        void touch(final long tick) {
+            if (lastUse != tick) {
+                lastUse = tick;
+            }
+        }
+
+        boolean tryUse(final int code) {
+            final int bit = code * 0x9E3779B9 >>> shift;
+            final int word = bit >>> 6;
+            final long flag = 1L << bit;
+            if ((previous.get(word) & flag) != 0) {
+                return false;
+            }
+            final AtomicLongArray bitmap = current;
+            long value = bitmap.get(word);
+            while (true) {
+                if ((value & flag) != 0) {
+                    return false;
+                }
+                final long witness = bitmap.compareAndExchange(word, value, value | flag);
+                if (witness == value) {
+                    break;
+                }
+                value = witness;
+            }
+            if (used.incrementAndGet() >= count) {
+                rotate(bitmap);
+            }
+            return true;
+        }
+
+        private synchronized void rotate(final AtomicLongArray full) {
+            if (current == full) {
+                previous = full;
+                current = new AtomicLongArray(full.length());
+                used.set(0);
+            }
+        }
+    }
+}
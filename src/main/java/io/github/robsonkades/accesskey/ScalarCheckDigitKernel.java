@@ -0,0 +1,23 @@
+package io.github.robsonkades.accesskey;
+
+/**
+ * Soma ponderada do DV posição a posição, usada no Java 11 e como alternativa à Vector API.
+ */
+final class ScalarCheckDigitKernel {
+
+    private ScalarCheckDigitKernel() {
+        // empty constructor
+    }
+
+    static void weightedSums(final byte[] records, final int offset, final int count, final int[] sums) {
+        final int[] weights = AccessKeyGenerator.WEIGHTS;
+        for (int k = 0; k < count; k++) {
+            final int base = offset + k * AccessKeyGenerator.LENGTH;
+            int sum = 0;
+            for (int i = 0; i < 43; i++) {
+                sum += (records[base + i] - '0') * weights[i];
+            }
+            sums[k] = sum;
+        }
+    }
+}
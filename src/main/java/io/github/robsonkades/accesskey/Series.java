@@ -24,6 +24,17 @@ package io.github.robsonkades.accesskey;
  */
 public class Series {
 
+    /**
+     * Instâncias de todas as 1.000 séries, devolvidas por {@link #of(int)}.
+     */
+    private static final Series[] CACHE = new Series[1_000];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Series(i);
+        }
+    }
+
     private final int code;
 
     /**
@@ -37,6 +48,17 @@ public class Series {
         this.code = code;
     }
 
+    /**
+     * Obtém a instância compartilhada da série, sem criar objetos.
+     *
+     * @param code valor numérico da série (0 a 999)
+     * @return série
+     * @throws AccessKeyException se a série for negativa ou possuir mais de 3 dígitos
+     */
+    public static Series of(final int code) {
+        return code >= 0 && code < CACHE.length ? CACHE[code] : new Series(code);
+    }
+
     /**
      * Retorna o valor numérico da série.
      *
@@ -0,0 +1,200 @@
+package io.github.robsonkades.accesskey;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Números de documento (nNF) registrados por um {@link NumberGapDetector} para uma combinação de
+ * CNPJ, modelo e série.
+ *
+ * <p>Os números ficam em um bitmap comprimido no formato do Roaring Bitmap: blocos de 65.536 números
+ * guardados como array ordenado, bitmap ou lista de intervalos, o que for menor. Numerações
+ * contíguas, o caso comum, ocupam poucos bytes independentemente da quantidade de documentos, e o
+ * pior caso fica limitado a cerca de 8 KB por bloco (125 MB para todos os 999.999.999 números). Os
+ * números repetidos são guardados em um segundo bitmap.</p>
+ *
+ * <p>As consultas podem ser feitas a qualquer momento, inclusive enquanto outras threads registram
+ * chaves; cada chamada enxerga um estado consistente. Os consumidores são chamados com a série
+ * bloqueada e não devem registrar chaves no mesmo detector.</p>
+ *
+ * @author Robson Kades
+ * @since 1.0.0
+ */
+public final class SeriesNumbers {
+
+    /**
+     * Recebe intervalos fechados de números.
+     */
+    @FunctionalInterface
+    public interface RangeConsumer {
+
+        /**
+         * @param first primeiro número do intervalo
+         * @param last  último número do intervalo (inclusive)
+         */
+        void accept(int first, int last);
+    }
+
+    private final String cnpj;
+    private final Model model;
+    private final int series;
+    private final NumberBitmap numbers = new NumberBitmap();
+    private final NumberBitmap duplicates = new NumberBitmap();
+    private long duplicateCount;
+
+    SeriesNumbers(final String cnpj, final Model model, final int series) {
+        this.cnpj = cnpj;
+        this.model = model;
+        this.series = series;
+    }
+
+    /**
+     * @return {@code false} se o número já tinha sido registrado
+     */
+    synchronized boolean add(final int number) {
+        if (numbers.add(number)) {
+            return true;
+        }
+        duplicates.add(number);
+        duplicateCount++;
+        return false;
+    }
+
+    /**
+     * @return CNPJ do emitente com 14 caracteres
+     */
+    public String getCnpj() {
+        return cnpj;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public int getSeries() {
+        return series;
+    }
+
+    /**
+     * @param number número do documento
+     * @return {@code true} se o número foi registrado
+     */
+    public synchronized boolean contains(final int number) {
+        return number >= 0 && numbers.contains(number);
+    }
+
+    /**
+     * @return quantidade de números distintos registrados
+     */
+    public synchronized long getCount() {
+        return numbers.cardinality();
+    }
+
+    /**
+     * @return menor número registrado ou {@code -1} se não houver nenhum
+     */
+    public synchronized int getFirst() {
+        return numbers.first();
+    }
+
+    /**
+     * @return maior número registrado ou {@code -1} se não houver nenhum
+     */
+    public synchronized int getLast() {
+        return numbers.last();
+    }
+
+    /**
+     * @return quantidade de números ausentes entre {@link #getFirst()} e {@link #getLast()}
+     */
+    public synchronized long getMissingCount() {
+        return numbers.cardinality() == 0 ? 0L : (long) numbers.last() - numbers.first() + 1 - numbers.cardinality();
+    }
+
+    /**
+     * @return quantidade de registros repetidos (um número registrado três vezes conta duas)
+     */
+    public synchronized long getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    /**
+     * Percorre, em ordem crescente, os intervalos de números ausentes entre {@link #getFirst()} e
+     * {@link #getLast()}.
+     *
+     * @param consumer recebe cada intervalo ausente
+     */
+    public synchronized void forEachGap(final RangeConsumer consumer) {
+        if (numbers.cardinality() > 0) {
+            forEachGap(numbers.first(), numbers.last(), consumer);
+        }
+    }
+
+    /**
+     * Percorre, em ordem crescente, os intervalos de números ausentes entre {@code from} e {@code to}.
+     * Use {@code from = 1} para incluir os números anteriores ao primeiro documento registrado.
+     *
+     * @param from     primeiro número considerado
+     * @param to       último número considerado (inclusive)
+     * @param consumer recebe cada intervalo ausente
+     * @throws IllegalArgumentException se o intervalo for inválido
+     */
+    public synchronized void forEachGap(final int from, final int to, final RangeConsumer consumer) {
+        if (from < 0 || to < from) {
+            throw new IllegalArgumentException("Intervalo inválido: " + from + " a " + to);
+        }
+        final long[] next = {from};
+        numbers.forEachRun((first, last) -> {
+            if (last < next[0] || next[0] > to) {
+                return;
+            }
+            if (first > next[0]) {
+                consumer.accept((int) next[0], Math.min(first - 1, to));
+            }
+            next[0] = (long) last + 1;
+        });
+        if (next[0] <= to) {
+            consumer.accept((int) next[0], to);
+        }
+    }
+
+    /**
+     * Percorre, em ordem crescente, os intervalos de números registrados.
+     *
+     * @param consumer recebe cada intervalo contíguo
+     */
+    public synchronized void forEachRange(final RangeConsumer consumer) {
+        numbers.forEachRun(consumer);
+    }
+
+    /**
+     * Percorre, em ordem crescente, os números registrados mais de uma vez.
+     *
+     * @param consumer recebe cada número repetido
+     */
+    public synchronized void forEachDuplicate(final IntConsumer consumer) {
+        duplicates.forEachRun((first, last) -> {
+            for (int number = first; number <= last; number++) {
+                consumer.accept(number);
+            }
+        });
+    }
+
+    /**
+     * @return memória ocupada pelos bitmaps, aproximadamente
+     */
+    public synchronized long getSizeInBytes() {
+        return numbers.sizeInBytes() + duplicates.sizeInBytes();
+    }
+
+    @Override
+    public String toString() {
+        return "SeriesNumbers{" +
+                "cnpj='" + cnpj + '\'' +
+                ", model=" + model +
+                ", series=" + series +
+                ", count=" + getCount() +
+                ", missing=" + getMissingCount() +
+                ", duplicates=" + getDuplicateCount() +
+                '}';
+    }
+}
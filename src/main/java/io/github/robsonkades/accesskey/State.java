@@ -50,6 +50,17 @@ public enum State {
     SE(28, "Sergipe"),
     TO(17, "Tocantins");
 
+    /**
+     * Estados indexados pelo código (0 a 99); posições sem estado ficam {@code null}.
+     */
+    private static final State[] BY_CODE = new State[100];
+
+    static {
+        for (State state : values()) {
+            BY_CODE[state.code] = state;
+        }
+    }
+
     private final int code;
     private final String name;
 
@@ -72,12 +83,11 @@ public enum State {
      * @throws AccessKeyException caso o código seja inválido
      */
     public static State fromCode(final int codigo) {
-        for (State m : values()) {
-            if (m.code == codigo) {
-                return m;
-            }
+        final State state = find(codigo);
+        if (state == null) {
+            throw new AccessKeyException("Código do estado inválido: " + codigo);
         }
-        throw new AccessKeyException("Código do estado inválido: " + codigo);
+        return state;
     }
 
     /**
@@ -88,11 +98,45 @@ public enum State {
      * @throws AccessKeyException se não for possível converter para número
      */
     public static State fromCode(final String codigo) {
-        try {
-            return fromCode(Integer.parseInt(codigo));
-        } catch (NumberFormatException e) {
+        final long value = AccessKeyParser.parseInt(codigo);
+        if (value == AccessKeyParser.NOT_A_NUMBER) {
             throw new AccessKeyException("Código do estado deve ser numérico: " + codigo);
         }
+        return fromCode((int) value);
+    }
+
+    /**
+     * Decodifica os dois dígitos ASCII em {@code offset}, sem criar objetos nem lançar exceção.
+     *
+     * @param text   texto que contém o código, como uma chave de acesso
+     * @param offset posição do primeiro dígito
+     * @return estado correspondente ou {@code null} se os caracteres não formarem um código válido
+     * @throws IndexOutOfBoundsException se não houver dois caracteres a partir de {@code offset}
+     */
+    public static State decode(final CharSequence text, final int offset) {
+        return find(AccessKeyParser.twoDigits(text.charAt(offset), text.charAt(offset + 1)));
+    }
+
+    /**
+     * Decodifica os dois dígitos ASCII em {@code offset}, sem criar objetos nem lançar exceção.
+     *
+     * @param bytes  bytes ASCII que contêm o código
+     * @param offset posição do primeiro dígito
+     * @return estado correspondente ou {@code null} se os bytes não formarem um código válido
+     * @throws IndexOutOfBoundsException se não houver dois bytes a partir de {@code offset}
+     */
+    public static State decode(final byte[] bytes, final int offset) {
+        return find(AccessKeyParser.twoDigits((char) bytes[offset], (char) bytes[offset + 1]));
+    }
+
+    /**
+     * Obtém o estado a partir do código numérico sem lançar exceção.
+     *
+     * @param codigo código do estado
+     * @return estado correspondente ou {@code null} se o código for inválido
+     */
+    static State find(final int codigo) {
+        return codigo >= 0 && codigo < BY_CODE.length ? BY_CODE[codigo] : null;
     }
 
     /**
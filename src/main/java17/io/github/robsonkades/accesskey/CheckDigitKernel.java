@@ -0,0 +1,44 @@
+package io.github.robsonkades.accesskey;
+
+/**
+ * Ponto de troca da implementação do cálculo em lote no Java 17 ou superior: usa
+ * {@link VectorCheckDigitKernel} quando o módulo {@code jdk.incubator.vector} está presente e o
+ * processador tem vetores de 256 bits, senão {@link ScalarCheckDigitKernel}.
+ *
+ * <p>{@link VectorCheckDigitKernel} só é carregada depois de confirmar que o módulo existe, para
+ * que a ausência dele não cause {@link NoClassDefFoundError}.</p>
+ */
+final class CheckDigitKernel {
+
+    static final String VECTOR_PROPERTY = "io.github.robsonkades.accesskey.vector";
+
+    private static final boolean VECTOR = vectorSupported();
+
+    private CheckDigitKernel() {
+        // empty constructor
+    }
+
+    static String implementation() {
+        return VECTOR ? "vector" : "scalar";
+    }
+
+    static void weightedSums(final byte[] records, final int offset, final int count, final int[] sums) {
+        if (VECTOR) {
+            VectorCheckDigitKernel.weightedSums(records, offset, count, sums);
+        } else {
+            ScalarCheckDigitKernel.weightedSums(records, offset, count, sums);
+        }
+    }
+
+    private static boolean vectorSupported() {
+        if (!Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorCheckDigitKernel.isSupported();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.robsonkades.accesskey;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Soma ponderada do DV com a Vector API.
+ *
+ * <p>Cada chave é lida em três blocos de 16 bytes (posições 0..15, 16..31 e 28..43), convertidos
+ * para 16 {@code short}s e multiplicados por vetores de pesos fixos. O terceiro bloco se sobrepõe ao
+ * segundo para não precisar de máscara: as posições 28..31 e o próprio DV (43) têm peso zero nele.
+ * Os produtos cabem em {@code short} (no máximo {@code 42 * 9} por posição e 16.254 no total).</p>
+ */
+final class VectorCheckDigitKernel {
+
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_128;
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_256;
+
+    private static final ShortVector ZERO = ShortVector.broadcast(SHORTS, (short) '0');
+    private static final ShortVector WEIGHTS_0 = weights(0, 0);
+    private static final ShortVector WEIGHTS_1 = weights(16, 16);
+    private static final ShortVector WEIGHTS_2 = weights(28, 32);
+
+    private VectorCheckDigitKernel() {
+        // empty constructor
+    }
+
+    /**
+     * @return {@code true} se o processador tem vetores de pelo menos 256 bits
+     */
+    static boolean isSupported() {
+        return ShortVector.SPECIES_PREFERRED.vectorBitSize() >= SHORTS.vectorBitSize();
+    }
+
+    static void weightedSums(final byte[] records, final int offset, final int count, final int[] sums) {
+        for (int k = 0; k < count; k++) {
+            final int base = offset + k * AccessKeyGenerator.LENGTH;
+            final ShortVector sum = chars(records, base).sub(ZERO).mul(WEIGHTS_0)
+                    .add(chars(records, base + 16).sub(ZERO).mul(WEIGHTS_1))
+                    .add(chars(records, base + 28).sub(ZERO).mul(WEIGHTS_2));
+            sums[k] = sum.reduceLanes(VectorOperators.ADD);
+        }
+    }
+
+    private static ShortVector chars(final byte[] records, final int offset) {
+        return (ShortVector) ByteVector.fromArray(BYTES, records, offset).convertShape(VectorOperators.B2S, SHORTS, 0);
+    }
+
+    /**
+     * Pesos das 16 posições a partir de {@code from}; as posições antes de {@code firstWeighted} e
+     * a posição 43 (o DV) recebem peso zero.
+     */
+    private static ShortVector weights(final int from, final int firstWeighted) {
+        final short[] weights = new short[16];
+        for (int i = 0; i < 16; i++) {
+            final int position = from + i;
+            weights[i] = position >= firstWeighted && position < 43 ? (short) AccessKeyGenerator.WEIGHTS[position] : 0;
+        }
+        return ShortVector.fromArray(SHORTS, weights, 0);
+    }
+}
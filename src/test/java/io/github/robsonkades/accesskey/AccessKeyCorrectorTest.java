@@ -0,0 +1,155 @@
+package io.github.robsonkades.accesskey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para AccessKeyCorrector")
+class AccessKeyCorrectorTest {
+
+    private static final String KEY = "352410KSP416L8000109550010000001231999999993";
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private final AccessKeyCorrector corrector = new AccessKeyCorrector();
+
+    private static String replace(final String key, final int position, final char c) {
+        final char[] chars = key.toCharArray();
+        chars[position] = c;
+        return new String(chars);
+    }
+
+    private static String swap(final String key, final int position) {
+        final char[] chars = key.toCharArray();
+        final char c = chars[position];
+        chars[position] = chars[position + 1];
+        chars[position + 1] = c;
+        return new String(chars);
+    }
+
+    /**
+     * Gera todas as candidatas por força bruta com {@link AccessKey#isValid(CharSequence)}.
+     */
+    private static Set<String> bruteForce(final String key) {
+        final Set<String> candidates = new TreeSet<>();
+        for (int i = 0; i < key.length(); i++) {
+            for (char c : ALPHABET.toCharArray()) {
+                final String candidate = replace(key, i, c);
+                if (!candidate.equals(key) && AccessKey.isValid(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+            if (i + 1 < key.length()) {
+                final String candidate = swap(key, i);
+                if (!candidate.equals(key) && AccessKey.isValid(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static Set<String> keys(final List<AccessKeyCorrection> corrections) {
+        return corrections.stream().map(AccessKeyCorrection::getKey).collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar a chave original para um caractere trocado")
+    void shouldCorrectSubstitution() {
+        final List<AccessKeyCorrection> corrections = corrector.correct(replace(KEY, 40, '5'));
+
+        assertTrue(corrections.contains(new AccessKeyCorrection(KEY, AccessKeyCorrection.Kind.SUBSTITUTION, 40, false)));
+        corrections.forEach(correction -> assertTrue(AccessKey.isValid(correction.getKey())));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar a chave original para caracteres vizinhos invertidos")
+    void shouldCorrectTransposition() {
+        final List<AccessKeyCorrection> corrections = corrector.correct(swap(KEY, 31));
+
+        assertTrue(corrections.contains(new AccessKeyCorrection(KEY, AccessKeyCorrection.Kind.TRANSPOSITION, 31, false)));
+        assertTrue(corrector.correct(swap(KEY, 42)).stream().anyMatch(c -> c.getKey().equals(KEY) && c.getPosition() == 42));
+    }
+
+    @Test
+    @DisplayName("Deve corrigir caractere fora do alfabeto apenas na sua posição")
+    void shouldCorrectInvalidCharacter() {
+        final List<AccessKeyCorrection> corrections = corrector.correct(replace(KEY, 28, 'O'));
+
+        assertTrue(keys(corrections).contains(KEY));
+        corrections.forEach(correction -> assertEquals(28, correction.getPosition()));
+    }
+
+    @Test
+    @DisplayName("Deve sugerir o DV correto e as alterações compatíveis com o DV digitado")
+    void shouldCorrectCheckDigit() {
+        final String typed = replace(KEY, 43, '0');
+        final List<AccessKeyCorrection> corrections = corrector.correct(typed);
+
+        assertTrue(corrections.contains(new AccessKeyCorrection(KEY, AccessKeyCorrection.Kind.SUBSTITUTION, 43, false)));
+        assertEquals(bruteForce(typed), keys(corrections));
+    }
+
+    @Test
+    @DisplayName("Deve listar exatamente as mesmas candidatas que a força bruta")
+    void shouldMatchBruteForce() {
+        final Random random = new Random(7);
+        for (int n = 0; n < 200; n++) {
+            final int position = random.nextInt(44);
+            final String typed = random.nextBoolean() && position < 43
+                    ? swap(KEY, position)
+                    : replace(KEY, position, ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            assertEquals(bruteForce(typed), keys(corrector.correct(typed)), typed);
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve sugerir correções que não alcançam um campo inválido")
+    void shouldRespectInvalidFields() {
+        // UF e modelo inválidos: nenhuma alteração única corrige os dois
+        final String typed = "992410KSP416L8000109990010000001231999999993";
+        assertTrue(corrector.correct(typed).isEmpty());
+        assertTrue(bruteForce(typed).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve listar primeiro as candidatas de emitentes conhecidos")
+    void shouldRankKnownEmitters() {
+        // OCR leu '0' no lugar de 'K': há várias raízes de CNPJ possíveis
+        final String typed = replace(KEY, 6, '0');
+        final List<AccessKeyCorrection> plain = corrector.correct(typed);
+        final List<AccessKeyCorrection> ranked = new AccessKeyCorrector()
+                .knownEmitters(Arrays.asList("KSP416L8000109"))
+                .correct(typed);
+
+        assertEquals(keys(plain), keys(ranked));
+        final long known = ranked.stream().filter(AccessKeyCorrection::isKnownEmitter).count();
+        assertEquals(1, known);
+        assertTrue(ranked.size() > 1);
+        assertEquals(KEY, ranked.get(0).getKey());
+        for (int i = 0; i < ranked.size(); i++) {
+            assertEquals(i < known, ranked.get(i).isKnownEmitter());
+            assertEquals(ranked.get(i).getKey().startsWith("KSP416L8000109", 6), ranked.get(i).isKnownEmitter());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar lista vazia para tamanho inválido e não incluir a própria chave")
+    void shouldHandleEdgeCases() {
+        assertTrue(corrector.correct("123").isEmpty());
+        assertFalse(keys(corrector.correct(KEY)).contains(KEY));
+        assertThrows(NullPointerException.class, () -> corrector.correct(null));
+        assertTrue(corrector.correct(replace(KEY, 43, '0')).stream()
+                .anyMatch(correction -> correction.getPosition() == 43 && correction.toAccessKey().generate().equals(KEY)));
+    }
+}
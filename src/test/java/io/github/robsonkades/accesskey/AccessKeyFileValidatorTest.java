@@ -0,0 +1,131 @@
+package io.github.robsonkades.accesskey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes para AccessKeyFileValidator")
+class AccessKeyFileValidatorTest {
+
+    private static final String VALID = "352410KSP416L8000109550010000001231999999993";
+    private static final String BAD_DV = "352410KSP416L8000109550010000001231999999990";
+
+    @Test
+    @DisplayName("Deve contar chaves válidas e inválidas e informar a posição das inválidas")
+    void shouldReportCountsAndOffsets(@TempDir final Path dir) throws IOException {
+        String content = VALID + "\n" + BAD_DV + "\r\n" + "\n" + "123\n" + VALID;
+        Path file = Files.write(dir.resolve("keys.txt"), content.getBytes(StandardCharsets.US_ASCII));
+
+        AccessKeyFileReport report = new AccessKeyFileValidator().validate(file);
+
+        assertEquals(4, report.getTotalCount());
+        assertEquals(2, report.getValidCount());
+        assertEquals(2, report.getInvalidCount());
+        assertEquals(1, report.getErrorCount(AccessKeyError.CHECK_DIGIT));
+        assertEquals(1, report.getErrorCount(AccessKeyError.LENGTH));
+        assertArrayEquals(new long[]{45, 92}, report.getInvalidOffsets());
+    }
+
+    @Test
+    @DisplayName("Deve produzir o mesmo resultado com blocos pequenos em paralelo")
+    void shouldSplitIntoManyChunks(@TempDir final Path dir) throws IOException {
+        Random random = new Random(3);
+        List<String> lines = new ArrayList<>();
+        List<Long> expectedOffsets = new ArrayList<>();
+        long offset = 0;
+        int valid = 0;
+        for (int i = 0; i < 5_000; i++) {
+            String line = random.nextInt(10) == 0 ? BAD_DV : VALID;
+            if (line.equals(BAD_DV)) {
+                expectedOffsets.add(offset);
+            } else {
+                valid++;
+            }
+            lines.add(line);
+            offset += line.length() + 1;
+        }
+        Path file = Files.write(dir.resolve("keys.txt"), lines, StandardCharsets.US_ASCII);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        AccessKeyFileReport report;
+        try {
+            report = new AccessKeyFileValidator()
+                    .pool(pool)
+                    .chunkSize(1000)
+                    .validate(file);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(valid, report.getValidCount());
+        assertEquals(expectedOffsets.size(), report.getInvalidCount());
+        assertArrayEquals(expectedOffsets.stream().mapToLong(Long::longValue).toArray(), report.getInvalidOffsets());
+
+        AccessKeyFileReport limited = new AccessKeyFileValidator().chunkSize(1000).maxInvalidOffsets(5).validate(file);
+        assertEquals(expectedOffsets.size(), limited.getInvalidCount());
+        assertEquals(5, limited.getInvalidOffsets().length);
+    }
+
+    @Test
+    @DisplayName("Deve limitar as posições guardadas por padrão e contar as demais")
+    void shouldBoundInvalidOffsetsByDefault(@TempDir final Path dir) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < AccessKeyFileValidator.DEFAULT_MAX_INVALID_OFFSETS + 500; i++) {
+            lines.add(BAD_DV);
+        }
+        Path file = Files.write(dir.resolve("keys.txt"), lines, StandardCharsets.US_ASCII);
+
+        AccessKeyFileReport report = new AccessKeyFileValidator().chunkSize(100_000).validate(file);
+
+        assertEquals(lines.size(), report.getInvalidCount());
+        assertEquals(AccessKeyFileValidator.DEFAULT_MAX_INVALID_OFFSETS, report.getInvalidOffsets().length);
+        assertEquals(0, report.getInvalidOffsets()[0]);
+    }
+
+    @Test
+    @DisplayName("Deve contar como inválida uma linha maior que o trecho mapeado")
+    void shouldRejectLineLongerThanMappedRange(@TempDir final Path dir) throws IOException {
+        StringBuilder content = new StringBuilder(VALID).append('\n').append(VALID).append('\n');
+        for (int i = 0; i < 1_000; i++) {
+            content.append('9');
+        }
+        content.append('\n').append(VALID).append('\n');
+        Path file = Files.write(dir.resolve("keys.txt"), content.toString().getBytes(StandardCharsets.US_ASCII));
+
+        AccessKeyFileReport report = new AccessKeyFileValidator()
+                .chunkSize(100)
+                .maxMappedSize(200)
+                .validate(file);
+
+        assertEquals(3, report.getValidCount());
+        assertEquals(1, report.getInvalidCount());
+        assertEquals(1, report.getErrorCount(AccessKeyError.LENGTH));
+        assertArrayEquals(new long[]{90}, report.getInvalidOffsets());
+    }
+
+    @Test
+    @DisplayName("Deve validar arquivo vazio")
+    void shouldValidateEmptyFile(@TempDir final Path dir) throws IOException {
+        Path file = Files.write(dir.resolve("empty.txt"), new byte[0]);
+        assertEquals(0, new AccessKeyFileValidator().validate(file).getTotalCount());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de bloco inválido")
+    void shouldRejectInvalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new AccessKeyFileValidator().chunkSize(0));
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.robsonkades.accesskey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes para AccessKeyGenerator")
+class AccessKeyGeneratorTest {
+
+    private static final String KEY = "352410KSP416L8000109550010000001231999999993";
+
+    private final AccessKey accessKey = new AccessKeyBuilder()
+            .state(State.SP)
+            .yearMonth(YearMonth.of(2024, 10))
+            .cnpj("KSP416L8000109")
+            .model(Model.NFE)
+            .series(1)
+            .number(123)
+            .issueMode(IssueMode.NORMAL)
+            .code(99999999)
+            .build();
+
+    @Test
+    @DisplayName("generate() deve produzir a chave com o DV correto")
+    void shouldGenerateString() {
+        assertEquals(KEY, AccessKeyGenerator.generate(accessKey));
+    }
+
+    @Test
+    @DisplayName("Deve escrever a chave em um char[] a partir do offset informado")
+    void shouldGenerateIntoCharArray() {
+        char[] dest = new char[50];
+        int next = AccessKeyGenerator.generate(accessKey, dest, 3);
+
+        assertEquals(47, next);
+        assertEquals(KEY, new String(dest, 3, 44));
+        assertEquals('\0', dest[2]);
+        assertEquals('\0', dest[47]);
+    }
+
+    @Test
+    @DisplayName("Deve escrever a chave em um byte[] ASCII a partir do offset informado")
+    void shouldGenerateIntoByteArray() {
+        byte[] dest = new byte[88];
+        int next = AccessKeyGenerator.generate(accessKey, dest, 44);
+
+        assertEquals(88, next);
+        assertEquals(KEY, new String(dest, 44, 44, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("Deve escrever a chave em CharBuffer baseado em array e avançar a posição")
+    void shouldGenerateIntoHeapCharBuffer() {
+        CharBuffer buffer = CharBuffer.allocate(60);
+        buffer.position(5);
+        AccessKeyGenerator.generate(accessKey, buffer);
+
+        assertEquals(49, buffer.position());
+        buffer.flip().position(5);
+        assertEquals(KEY, buffer.toString());
+    }
+
+    @Test
+    @DisplayName("Deve escrever a chave em CharBuffer sem array de suporte")
+    void shouldGenerateIntoDirectCharBuffer() {
+        CharBuffer buffer = ByteBuffer.allocateDirect(88).asCharBuffer();
+        AccessKeyGenerator.generate(accessKey, buffer);
+
+        assertEquals(44, buffer.position());
+        buffer.flip();
+        assertEquals(KEY, buffer.toString());
+    }
+
+    @Test
+    @DisplayName("Deve escrever a chave em ByteBuffer baseado em array e avançar a posição")
+    void shouldGenerateIntoHeapByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(60);
+        buffer.position(5);
+        AccessKeyGenerator.generate(accessKey, buffer);
+
+        assertEquals(49, buffer.position());
+        assertEquals(KEY, new String(buffer.array(), 5, 44, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("Deve escrever a chave em ByteBuffer direto")
+    void shouldGenerateIntoDirectByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(88);
+        AccessKeyGenerator.generate(accessKey, buffer);
+        AccessKeyGenerator.generate(accessKey, buffer);
+
+        assertEquals(88, buffer.position());
+        buffer.flip();
+        byte[] bytes = new byte[88];
+        buffer.get(bytes);
+        assertEquals(KEY + KEY, new String(bytes, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o destino não comporta 44 caracteres")
+    void shouldThrowExceptionWhenDestinationIsTooSmall() {
+        assertThrows(IndexOutOfBoundsException.class, () -> AccessKeyGenerator.generate(accessKey, new char[50], 7));
+        assertThrows(IndexOutOfBoundsException.class, () -> AccessKeyGenerator.generate(accessKey, new byte[43], 0));
+        assertThrows(BufferOverflowException.class, () -> AccessKeyGenerator.generate(accessKey, CharBuffer.allocate(43)));
+        assertThrows(BufferOverflowException.class, () -> AccessKeyGenerator.generate(accessKey, ByteBuffer.allocate(43)));
+        assertThrows(ReadOnlyBufferException.class, () -> AccessKeyGenerator.generate(accessKey, ByteBuffer.allocate(44).asReadOnlyBuffer()));
+    }
+}
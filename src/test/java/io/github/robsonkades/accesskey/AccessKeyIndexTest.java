@@ -0,0 +1,198 @@
+package io.github.robsonkades.accesskey;
+
+import io.github.robsonkades.cnpj.CNPJ;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para AccessKeyIndex")
+class AccessKeyIndexTest {
+
+    private static final String[] CNPJS = {"11222333000181", "KSP416L8000109"};
+
+    /**
+     * Mesma ordem do resultado das consultas: ano/mês, modelo, série, UF e número.
+     */
+    private static final Comparator<PackedAccessKey> ORDER = Comparator
+            .comparingInt(PackedAccessKey::getYearMonthCode)
+            .thenComparingInt(PackedAccessKey::getModelCode)
+            .thenComparingInt(PackedAccessKey::getSeries)
+            .thenComparingInt(PackedAccessKey::getStateCode)
+            .thenComparingInt(PackedAccessKey::getNumber)
+            .thenComparingInt(PackedAccessKey::getIssueModeCode)
+            .thenComparingInt(PackedAccessKey::getCode);
+
+    private static List<PackedAccessKey> keys(final int count, final long seed) {
+        final Random random = new Random(seed);
+        final List<PackedAccessKey> keys = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            keys.add(PackedAccessKey.of(AccessKey.of(
+                    random.nextBoolean() ? State.SP : State.PR,
+                    2400 + 1 + random.nextInt(12),
+                    CNPJ.of(CNPJS[random.nextInt(CNPJS.length)]),
+                    random.nextBoolean() ? Model.NFE : Model.NFCE,
+                    random.nextInt(3),
+                    random.nextInt(5_000),
+                    random.nextBoolean() ? IssueMode.NORMAL : IssueMode.SVC_AN,
+                    random.nextInt(100_000_000))));
+        }
+        return keys;
+    }
+
+    private static List<PackedAccessKey> expected(final List<PackedAccessKey> keys, final Predicate<PackedAccessKey> filter) {
+        return keys.stream().filter(filter).distinct().sorted(ORDER).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Deve responder consultas por CNPJ, ano/mês, modelo, série e faixa de números")
+    void shouldAnswerQueries() {
+        final List<PackedAccessKey> keys = keys(20_000, 25);
+        final AccessKeyIndex index = new AccessKeyIndex();
+        keys.forEach(index::add);
+        assertEquals(keys.stream().distinct().count(), index.size());
+
+        final String cnpj = CNPJS[1];
+        final Predicate<PackedAccessKey> emitter = key -> key.getCnpj().equals(cnpj);
+        assertEquals(expected(keys, emitter), index.query(cnpj).list());
+
+        final Predicate<PackedAccessKey> exact = emitter
+                .and(key -> key.getYearMonthCode() == 2410 && key.getModelCode() == 55 && key.getSeries() == 1)
+                .and(key -> key.getNumber() >= 1000 && key.getNumber() <= 2000);
+        final AccessKeyIndex.Query query = index.query(cnpj)
+                .yearMonth(YearMonth.of(2024, 10))
+                .model(Model.NFE)
+                .series(1)
+                .numbers(1000, 2000);
+        assertEquals(expected(keys, exact), query.list());
+        assertEquals(expected(keys, exact).size(), query.count());
+
+        final Predicate<PackedAccessKey> months = emitter
+                .and(key -> key.getYearMonthCode() >= 2403 && key.getYearMonthCode() <= 2406 && key.getSeries() == 2);
+        assertEquals(expected(keys, months), index.query(cnpj)
+                .yearMonth(YearMonth.of(2024, 3), YearMonth.of(2024, 6))
+                .series(2)
+                .list());
+
+        final Predicate<PackedAccessKey> model = emitter.and(key -> key.getModelCode() == 65 && key.getNumber() <= 10);
+        assertEquals(expected(keys, model), index.query(cnpj).model(Model.NFCE).numbers(0, 10).list());
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir as chaves originais, inclusive o DV")
+    void shouldRebuildKeys() {
+        final AccessKeyIndex index = new AccessKeyIndex();
+        final String key = "352410KSP416L8000109550010000001231999999993";
+        assertTrue(index.add(key));
+        assertFalse(index.add(key));
+        assertFalse(index.add(AccessKey.from(key)));
+        assertEquals(1, index.size());
+
+        final List<PackedAccessKey> found = index.query("KSP416L8000109").list();
+        assertEquals(1, found.size());
+        assertEquals(key, found.get(0).generate());
+        assertTrue(index.query("11222333000181").list().isEmpty());
+        assertEquals(0, index.query("KSP416L8000109").yearMonth(YearMonth.of(2024, 9)).count());
+    }
+
+    @Test
+    @DisplayName("Deve manter as chaves ordenadas com inserções fora de ordem")
+    void shouldSortOutOfOrderKeys() {
+        final AccessKeyIndex index = new AccessKeyIndex();
+        final Random random = new Random(3);
+        final List<PackedAccessKey> keys = new ArrayList<>();
+        final Set<PackedAccessKey> seen = new HashSet<>();
+        for (int i = 0; i < 30_000; i++) {
+            final int number = i % 10 == 0 ? random.nextInt(30_000) : i;
+            final PackedAccessKey key = PackedAccessKey.of(AccessKey.of(State.SP, 2410, CNPJ.of(CNPJS[0]),
+                    Model.NFE, 1, number, IssueMode.NORMAL, 12345678));
+            assertEquals(seen.add(key), index.add(key));
+            keys.add(key);
+        }
+        final List<PackedAccessKey> expected = expected(keys, key -> true);
+        assertEquals(expected, index.query(CNPJS[0]).list());
+        assertEquals(expected.size(), index.size());
+        assertEquals(expected(keys, key -> key.getNumber() >= 500 && key.getNumber() < 20_000),
+                index.query(CNPJS[0]).numbers(500, 19_999).list());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar chaves em ordem aleatória e intercalar as pendentes com as em ordem")
+    void shouldIndexRandomOrderKeys() {
+        final AccessKeyIndex index = new AccessKeyIndex();
+        final Random random = new Random(5);
+        final Set<Integer> numbers = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            // metade aleatória, metade crescente, com repetições
+            final int number = i % 2 == 0 ? 1 + random.nextInt(200_000) : 200_000 + i;
+            final PackedAccessKey key = PackedAccessKey.of(AccessKey.of(State.SP, 2410, CNPJ.of(CNPJS[0]),
+                    Model.NFE, 1, number, IssueMode.NORMAL, 12345678));
+            assertEquals(numbers.add(number), index.add(key));
+            if (i % 25_000 == 0) {
+                assertEquals(numbers.size(), index.query(CNPJS[0]).count());
+            }
+        }
+        final List<Integer> expected = numbers.stream().sorted().collect(Collectors.toList());
+        assertEquals(expected, index.query(CNPJS[0]).list().stream()
+                .map(PackedAccessKey::getNumber).collect(Collectors.toList()));
+        assertEquals(numbers.stream().filter(n -> n >= 1_000 && n <= 150_000).count(),
+                index.query(CNPJS[0]).numbers(1_000, 150_000).count());
+    }
+
+    @Test
+    @DisplayName("Deve permitir consultas durante a escrita")
+    void shouldReadWhileWriting() throws InterruptedException {
+        final List<PackedAccessKey> keys = keys(50_000, 9);
+        final AccessKeyIndex index = new AccessKeyIndex();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread reader = new Thread(() -> {
+            try {
+                long previous = 0;
+                while (previous < index.size() || index.size() < keys.stream().distinct().count()) {
+                    final long size = index.size();
+                    final List<PackedAccessKey> found = new ArrayList<>();
+                    for (String cnpj : CNPJS) {
+                        found.addAll(index.query(cnpj).list());
+                    }
+                    assertTrue(found.size() >= size, found.size() + " < " + size);
+                    assertEquals(found.stream().distinct().count(), found.size());
+                    previous = size;
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        reader.start();
+        keys.forEach(index::add);
+        reader.join(60_000);
+        assertNull(failure.get());
+        assertFalse(reader.isAlive());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar filtros inválidos")
+    void shouldRejectInvalidFilters() {
+        final AccessKeyIndex index = new AccessKeyIndex();
+        assertThrows(IllegalArgumentException.class, () -> index.query(CNPJS[0]).numbers(10, 5));
+        assertThrows(IllegalArgumentException.class, () -> index.query(CNPJS[0]).numbers(0, 1_000_000_000));
+        assertThrows(IllegalArgumentException.class,
+                () -> index.query(CNPJS[0]).yearMonth(YearMonth.of(2024, 5), YearMonth.of(2024, 4)));
+        assertThrows(AccessKeyException.class, () -> index.query(CNPJS[0]).series(1000));
+        assertThrows(AccessKeyException.class, () -> index.add("352410KSP416L8000109550010000001231999999994"));
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.robsonkades.accesskey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para AccessKeyMap")
+class AccessKeyMapTest {
+
+    private static final String KEY = "352410KSP416L8000109550010000001231999999993";
+
+    @Test
+    @DisplayName("Deve associar, consultar e remover valores")
+    void shouldPutGetAndRemove() {
+        AccessKeyMap<String> map = new AccessKeyMap<>();
+
+        assertNull(map.put(KEY, "a"));
+        assertEquals("a", map.put(new StringBuilder(KEY), "b"));
+        assertEquals("b", map.get(KEY));
+        assertEquals("b", map.get(PackedAccessKey.of(KEY)));
+        assertTrue(map.containsKey(KEY));
+        assertEquals(1, map.size());
+
+        assertEquals("b", map.remove(KEY));
+        assertNull(map.remove(KEY));
+        assertFalse(map.containsKey(PackedAccessKey.of(KEY)));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Consultas com chave inválida devem retornar null e put() deve lançar exceção")
+    void shouldHandleInvalidKeys() {
+        AccessKeyMap<String> map = new AccessKeyMap<>();
+
+        assertNull(map.get("352410KSP416L8000109550010000001231999999990"));
+        assertFalse(map.containsKey("x"));
+        assertThrows(AccessKeyException.class, () -> map.put("x", "a"));
+    }
+
+    @Test
+    @DisplayName("Deve se comportar como HashMap ao crescer e remover muitas entradas")
+    void shouldMatchHashMap() {
+        Random random = new Random(11);
+        List<String> keys = AccessKeySetTest.keys(random, 20_000);
+        AccessKeyMap<Integer> map = new AccessKeyMap<>(100);
+        Map<String, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(expected.put(keys.get(i), i), map.put(keys.get(i), i));
+        }
+        for (int i = 0; i < keys.size(); i += 2) {
+            assertEquals(expected.remove(keys.get(i)), map.remove(keys.get(i)));
+        }
+        assertEquals(expected.size(), map.size());
+        for (String key : keys) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+
+        Map<String, Integer> iterated = new HashMap<>();
+        map.forEach((key, value) -> iterated.put(key.generate(), value));
+        assertEquals(expected, iterated);
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.robsonkades.accesskey;
+
+import io.github.robsonkades.cnpj.CNPJ;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para AccessKeyOrder")
+class AccessKeyOrderTest {
+
+    private static AccessKey key(final State state, final int yymm, final String cnpj, final int series, final int number) {
+        return AccessKey.of(state, yymm, CNPJ.of(cnpj), Model.NFE, series, number, IssueMode.NORMAL, 1);
+    }
+
+    private final AccessKey a = key(State.SP, 2410, "11222333000181", 1, 10);
+    private final AccessKey b = key(State.RJ, 2409, "11222333000181", 1, 11);
+    private final AccessKey c = key(State.AC, 2411, "11222333000181", 2, 1);
+    private final AccessKey d = key(State.SP, 2401, "KSP416L8000109", 1, 5);
+
+    @Test
+    @DisplayName("EMITTER deve ordenar por CNPJ, modelo, série e número")
+    void shouldOrderByEmitter() {
+        List<AccessKey> keys = new ArrayList<>(Arrays.asList(d, c, b, a));
+        keys.sort(AccessKeyOrder.EMITTER.comparator());
+
+        assertEquals(Arrays.asList(a, b, c, d), keys);
+    }
+
+    @Test
+    @DisplayName("YEAR_MONTH deve ordenar por ano/mês e depois pela ordem do emitente")
+    void shouldOrderByYearMonth() {
+        AccessKey sameMonth = key(State.SP, 2410, "11222333000181", 1, 9);
+        List<AccessKey> keys = new ArrayList<>(Arrays.asList(a, b, c, d, sameMonth));
+        keys.sort(AccessKeyOrder.YEAR_MONTH.comparator());
+
+        assertEquals(Arrays.asList(d, b, sameMonth, a, c), keys);
+    }
+
+    @Test
+    @DisplayName("Os comparadores de AccessKey e PackedAccessKey devem concordar")
+    void shouldMatchPackedComparator() {
+        for (AccessKeyOrder order : AccessKeyOrder.values()) {
+            List<AccessKey> keys = new ArrayList<>(Arrays.asList(a, b, c, d));
+            keys.sort(order.comparator());
+            List<PackedAccessKey> packed = Arrays.asList(a, b, c, d).stream().map(PackedAccessKey::of).collect(Collectors.toList());
+            packed.sort(order.packedComparator());
+
+            assertEquals(keys.stream().map(AccessKey::generate).collect(Collectors.toList()),
+                    packed.stream().map(PackedAccessKey::generate).collect(Collectors.toList()));
+            assertTrue(order.comparator().compare(a, AccessKey.from(a.generate())) == 0);
+        }
+    }
+}
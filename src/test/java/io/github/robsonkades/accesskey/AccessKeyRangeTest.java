@@ -0,0 +1,131 @@
+package io.github.robsonkades.accesskey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para AccessKeyRange")
+class AccessKeyRangeTest {
+
+    private static final CodeStrategy CODE_FROM_NUMBER = (key, number) -> (number * 31) % 100_000_000;
+
+    private static AccessKeyRange.Builder range() {
+        return AccessKeyRange.builder()
+                .state(State.SP)
+                .yearMonth(YearMonth.of(2024, 10))
+                .cnpj("KSP416L8000109")
+                .model(Model.NFE)
+                .series(1)
+                .issueMode(IssueMode.NORMAL)
+                .code(CODE_FROM_NUMBER);
+    }
+
+    private static String expected(final int number) {
+        return new AccessKeyBuilder()
+                .state(State.SP)
+                .yearMonth(YearMonth.of(2024, 10))
+                .cnpj("KSP416L8000109")
+                .model(Model.NFE)
+                .series(1)
+                .number(number)
+                .issueMode(IssueMode.NORMAL)
+                .code((number * 31) % 100_000_000)
+                .build()
+                .generate();
+    }
+
+    @Test
+    @DisplayName("Deve gerar as mesmas chaves do AccessKeyBuilder, inclusive com \"vai um\"")
+    void shouldMatchBuilder() {
+        AccessKeyRange range = range().numbers(99_990, 100_010).build();
+
+        List<String> keys = range.stream().collect(Collectors.toList());
+
+        assertEquals(21, range.size());
+        assertEquals(21, keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(expected(99_990 + i), keys.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gerar até o número máximo")
+    void shouldReachMaxNumber() {
+        List<String> keys = range().numbers(999_999_990, 999_999_999).build().stream().collect(Collectors.toList());
+
+        assertEquals(10, keys.size());
+        assertEquals(expected(999_999_999), keys.get(9));
+    }
+
+    @Test
+    @DisplayName("Stream paralelo deve produzir as mesmas chaves, na mesma ordem")
+    void shouldProduceSameKeysInParallel() {
+        AccessKeyRange range = range().numbers(0, 200_000).build();
+
+        List<String> sequential = range.stream().collect(Collectors.toList());
+        List<String> parallel = range.stream().parallel().collect(Collectors.toList());
+
+        assertEquals(sequential, parallel);
+        assertTrue(parallel.stream().allMatch(AccessKey::isValid));
+    }
+
+    @Test
+    @DisplayName("Spliterator deve dividir o intervalo ao meio")
+    void shouldSplitEvenly() {
+        Spliterator<String> spliterator = range().numbers(1, 10_000).build().spliterator();
+
+        Spliterator<String> head = spliterator.trySplit();
+
+        assertNotNull(head);
+        assertEquals(5_000, head.estimateSize());
+        assertEquals(5_000, spliterator.estimateSize());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        head.tryAdvance(key -> assertEquals(expected(1), key));
+        spliterator.tryAdvance(key -> assertEquals(expected(5_001), key));
+        assertNull(range().numbers(1, 10).build().spliterator().trySplit());
+    }
+
+    @Test
+    @DisplayName("forEachKey() deve percorrer as chaves sem criar Strings")
+    void shouldIterateWithoutStrings() {
+        List<String> keys = new ArrayList<>();
+        range().numbers(8, 12).build().forEachKey(key -> keys.add(key.toString()));
+
+        assertEquals(List.of(expected(8), expected(9), expected(10), expected(11), expected(12)), keys);
+    }
+
+    @Test
+    @DisplayName("Deve repassar à estratégia a chave até o tipo de emissão")
+    void shouldPassPrefixToCodeStrategy() {
+        List<String> prefixes = new ArrayList<>();
+        range().numbers(123, 123).code((key, number) -> {
+            prefixes.add(key.toString());
+            return 0;
+        }).build().stream().forEach(key -> { });
+
+        assertEquals(List.of(expected(123).substring(0, 35)), prefixes);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar intervalos e códigos inválidos")
+    void shouldRejectInvalidValues() {
+        assertThrows(AccessKeyException.class, () -> range().numbers(10, 9).build());
+        assertThrows(AccessKeyException.class, () -> range().numbers(-1, 9).build());
+        assertThrows(AccessKeyException.class, () -> range().numbers(1, 1_000_000_000).build());
+        assertThrows(AccessKeyException.class, () -> CodeStrategy.fixed(100_000_000));
+        assertThrows(AccessKeyException.class,
+                () -> range().numbers(1, 2).code((key, number) -> -1).build().forEachKey(key -> { }));
+        assertThrows(NullPointerException.class, () -> range().numbers(1, 2).state(null).build());
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.robsonkades.accesskey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para AccessKeyReader")
+class AccessKeyReaderTest {
+
+    private static final String VALID = "352410KSP416L8000109550010000001231999999993";
+    private static final String BAD_DV = "352410KSP416L8000109550010000001231999999990";
+    private static final String CONTENT = VALID + "\n" + BAD_DV + "\r\n\n123\n" + VALID + "\r\n" + VALID;
+
+    private final List<String> errors = new ArrayList<>();
+    private final AccessKeyErrorHandler collect = (lineNumber, line, validation) ->
+            errors.add(lineNumber + ":" + line + ":" + validation.getError());
+
+    @Test
+    @DisplayName("Deve ler as chaves válidas de um Reader e entregar as inválidas ao handler")
+    void shouldStreamFromReader() {
+        try (Stream<AccessKey> keys = AccessKeyReader.of(new StringReader(CONTENT), collect).stream()) {
+            List<String> generated = keys.map(AccessKey::generate).collect(Collectors.toList());
+            assertEquals(List.of(VALID, VALID, VALID), generated);
+        }
+        assertEquals(List.of("2:" + BAD_DV + ":CHECK_DIGIT", "4:123:LENGTH"), errors);
+    }
+
+    @Test
+    @DisplayName("Deve ler as chaves de um InputStream e de um channel")
+    void shouldStreamFromBytes() {
+        byte[] bytes = CONTENT.getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(3, AccessKeyReader.of(new ByteArrayInputStream(bytes), collect).stream().count());
+        assertEquals(3, AccessKeyReader.of(Channels.newChannel(new ByteArrayInputStream(bytes)), collect).stream().count());
+        assertEquals(4, errors.size());
+    }
+
+    @Test
+    @DisplayName("Cursor deve expor a linha e a chave atual, convertida uma única vez")
+    void shouldIterateWithCursor() throws IOException {
+        try (AccessKeyReader reader = AccessKeyReader.of(new StringReader(CONTENT), collect)) {
+            assertTrue(reader.next());
+            assertEquals(1, reader.lineNumber());
+            assertEquals(VALID, reader.key().toString());
+            assertEquals(PackedAccessKey.of(VALID), reader.toPackedAccessKey());
+
+            assertTrue(reader.next());
+            assertEquals(5, reader.lineNumber());
+            assertEquals(VALID, reader.toAccessKey().generate());
+            assertSame(reader.toAccessKey(), reader.toAccessKey());
+
+            assertTrue(reader.next());
+            assertEquals(6, reader.lineNumber());
+            assertFalse(reader.next());
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve tratar chaves que atravessam o limite do buffer de leitura")
+    void shouldHandleKeysAcrossBufferBoundaries() {
+        StringBuilder content = new StringBuilder();
+        int count = 5_000;
+        for (int i = 0; i < count; i++) {
+            content.append(i % 7 == 0 ? BAD_DV : VALID).append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.US_ASCII);
+
+        long valid = AccessKeyReader.of(new ByteArrayInputStream(bytes), collect).stream().count();
+
+        assertEquals(count - errors.size(), valid);
+        assertEquals((count + 6) / 7, errors.size());
+    }
+
+    @Test
+    @DisplayName("Deve truncar linhas muito longas e informar erro de tamanho")
+    void shouldReportVeryLongLines() {
+        String longLine = VALID.repeat(10);
+
+        long valid = AccessKeyReader.of(new StringReader(longLine + "\n" + VALID), (lineNumber, line, validation) -> {
+            assertEquals(1, lineNumber);
+            assertEquals(128, line.length());
+            assertEquals(AccessKeyError.LENGTH, validation.getError());
+            assertEquals(longLine.length(), validation.getPosition());
+            errors.add(line.toString());
+        }).stream().count();
+
+        assertEquals(1, valid);
+        assertEquals(1, errors.size());
+    }
+
+    @Test
+    @DisplayName("Handler throwing() deve interromper a leitura")
+    void shouldStopWithThrowingHandler() {
+        Stream<AccessKey> keys = AccessKeyReader.of(new StringReader(CONTENT), AccessKeyErrorHandler.throwing()).stream();
+
+        AccessKeyValidationException exception = assertThrows(AccessKeyValidationException.class, keys::count);
+        assertEquals(AccessKeyError.CHECK_DIGIT, exception.getError());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar channel não bloqueante")
+    void shouldRejectNonBlockingChannel() throws IOException {
+        Pipe pipe = Pipe.open();
+        try (Pipe.SourceChannel source = pipe.source(); Pipe.SinkChannel sink = pipe.sink()) {
+            source.configureBlocking(false);
+
+            assertTrue(sink.isOpen());
+            assertThrows(IllegalArgumentException.class, () -> AccessKeyReader.of(source, collect));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.robsonkades.accesskey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para AccessKeySet")
+class AccessKeySetTest {
+
+    private static final String KEY = "352410KSP416L8000109550010000001231999999993";
+
+    @Test
+    @DisplayName("Deve adicionar, consultar e remover chaves por CharSequence e PackedAccessKey")
+    void shouldAddContainsAndRemove() {
+        AccessKeySet set = new AccessKeySet();
+
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(KEY));
+        assertFalse(set.add(new StringBuilder(KEY)));
+        assertFalse(set.add(PackedAccessKey.of(KEY)));
+        assertEquals(1, set.size());
+        assertTrue(set.contains(KEY));
+        assertTrue(set.contains(PackedAccessKey.of(KEY)));
+
+        assertTrue(set.remove(KEY));
+        assertFalse(set.remove(KEY));
+        assertFalse(set.contains(KEY));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    @DisplayName("contains() e remove() devem retornar false para chaves inválidas")
+    void shouldIgnoreInvalidKeysOnLookup() {
+        AccessKeySet set = new AccessKeySet();
+        set.add(KEY);
+
+        assertFalse(set.contains("352410KSP416L8000109550010000001231999999990"));
+        assertFalse(set.contains((CharSequence) null));
+        assertFalse(set.remove("invalid"));
+    }
+
+    @Test
+    @DisplayName("add() deve lançar exceção para chave inválida")
+    void shouldRejectInvalidKeyOnAdd() {
+        AccessKeySet set = new AccessKeySet();
+        assertThrows(AccessKeyException.class, () -> set.add("352410KSP416L8000109550010000001231999999990"));
+        assertThrows(IllegalArgumentException.class, () -> set.add(new PackedAccessKey(1L, 2L, 0L)));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve se comportar como HashSet ao crescer e remover muitas chaves")
+    void shouldMatchHashSet() {
+        Random random = new Random(7);
+        List<String> keys = keys(random, 20_000);
+        AccessKeySet set = new AccessKeySet();
+        Set<String> expected = new HashSet<>();
+
+        for (String key : keys) {
+            assertEquals(expected.add(key), set.add(key));
+        }
+        for (int i = 0; i < keys.size(); i += 3) {
+            String key = keys.get(i);
+            assertEquals(expected.remove(key), set.remove(key));
+        }
+        assertEquals(expected.size(), set.size());
+        for (String key : keys) {
+            assertEquals(expected.contains(key), set.contains(key));
+        }
+
+        Set<String> iterated = new HashSet<>();
+        set.forEach(key -> iterated.add(key.generate()));
+        assertEquals(expected, iterated);
+
+        set.clear();
+        assertEquals(0, set.size());
+        assertFalse(set.contains(keys.get(1)));
+    }
+
+    static List<String> keys(final Random random, final int count) {
+        String[] cnpjs = {"KSP416L8000109", "06546178000119", "12345678000195"};
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add(new AccessKeyBuilder()
+                    .state(State.SP)
+                    .yearMonth(YearMonth.of(2024, 1 + random.nextInt(12)))
+                    .cnpj(cnpjs[random.nextInt(cnpjs.length)])
+                    .model(Model.NFE)
+                    .series(random.nextInt(3))
+                    .number(random.nextInt(5_000))
+                    .issueMode(IssueMode.NORMAL)
+                    .code(12345678)
+                    .build()
+                    .generate());
+        }
+        return keys;
+    }
+}
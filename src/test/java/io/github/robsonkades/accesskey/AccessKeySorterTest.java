@@ -0,0 +1,112 @@
+package io.github.robsonkades.accesskey;
+
+import io.github.robsonkades.cnpj.CNPJ;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes para AccessKeySorter")
+class AccessKeySorterTest {
+
+    private static final String[] CNPJS = {"11222333000181", "KSP416L8000109", "06546178000119"};
+
+    private static PackedAccessKey[] keys(final int count, final long seed) {
+        final Random random = new Random(seed);
+        final State[] states = State.values();
+        final Model[] models = Model.values();
+        final PackedAccessKey[] keys = new PackedAccessKey[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = PackedAccessKey.of(AccessKey.of(
+                    states[random.nextInt(states.length)],
+                    (20 + random.nextInt(6)) * 100 + 1 + random.nextInt(12),
+                    CNPJ.of(CNPJS[random.nextInt(CNPJS.length)]),
+                    models[random.nextInt(models.length)],
+                    random.nextInt(3),
+                    random.nextInt(1_000_000),
+                    IssueMode.NORMAL,
+                    random.nextInt(100_000_000)));
+        }
+        return keys;
+    }
+
+    private static long[] pack(final PackedAccessKey[] keys, final int offset) {
+        final long[] packed = new long[offset + keys.length * PackedAccessKey.LONGS];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i].writeTo(packed, offset + i * PackedAccessKey.LONGS);
+        }
+        return packed;
+    }
+
+    private static void assertSorted(final PackedAccessKey[] keys, final AccessKeyOrder order, final AccessKeySorter sorter) {
+        final PackedAccessKey[] expected = keys.clone();
+        Arrays.sort(expected, order.packedComparator());
+
+        final long[] packed = pack(keys, 5);
+        sorter.order(order).sort(packed, 5, keys.length);
+        assertArrayEquals(pack(expected, 5), packed);
+
+        final byte[] records = new byte[2 + keys.length * AccessKeyGenerator.LENGTH];
+        for (int i = 0; i < keys.length; i++) {
+            final byte[] key = keys[i].generate().getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(key, 0, records, 2 + i * AccessKeyGenerator.LENGTH, key.length);
+        }
+        sorter.sort(records, 2, keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(expected[i].generate(), new String(records, 2 + i * AccessKeyGenerator.LENGTH, AccessKeyGenerator.LENGTH,
+                    StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ordenar chaves compactadas e registros de 44 bytes nas duas ordenações")
+    void shouldSort() {
+        for (AccessKeyOrder order : AccessKeyOrder.values()) {
+            assertSorted(keys(5_000, 1), order, new AccessKeySorter());
+            assertSorted(keys(20, 2), order, new AccessKeySorter());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ordenar em paralelo com o mesmo resultado")
+    void shouldSortInParallel() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (AccessKeyOrder order : AccessKeyOrder.values()) {
+                assertSorted(keys(150_000, 3), order, new AccessKeySorter().pool(pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter chaves repetidas e aceitar lotes vazios")
+    void shouldHandleDuplicatesAndEmpty() {
+        final PackedAccessKey[] keys = keys(100, 4);
+        final PackedAccessKey[] doubled = Arrays.copyOf(keys, 200);
+        System.arraycopy(keys, 0, doubled, 100, 100);
+        assertSorted(doubled, AccessKeyOrder.EMITTER, new AccessKeySorter());
+
+        new AccessKeySorter().sort(new long[0], 0, 0);
+        new AccessKeySorter().sort(new byte[0], 0, 0);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para intervalo fora dos limites")
+    void shouldRejectInvalidRange() {
+        final AccessKeySorter sorter = new AccessKeySorter();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(new long[5], 0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(new byte[44], 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(new long[3], 0, -1));
+        assertThrows(NullPointerException.class, () -> sorter.order(null));
+    }
+}
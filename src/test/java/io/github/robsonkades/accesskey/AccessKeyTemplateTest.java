@@ -0,0 +1,126 @@
+package io.github.robsonkades.accesskey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes para AccessKeyTemplate")
+class AccessKeyTemplateTest {
+
+    private static final ZoneId SAO_PAULO = ZoneId.of("America/Sao_Paulo");
+    private static final String KEY = "352410KSP416L8000109550010000001231999999993";
+
+    /**
+     * Relógio cujo instante pode ser alterado durante o teste.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return SAO_PAULO;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private final MutableClock clock = new MutableClock(ZonedDateTime.of(2024, 10, 15, 12, 0, 0, 0, SAO_PAULO).toInstant());
+
+    private final AccessKeyTemplate template = AccessKeyTemplate.builder()
+            .state(State.SP)
+            .cnpj("KSP416L8000109")
+            .model(Model.NFE)
+            .series(1)
+            .clock(clock)
+            .build();
+
+    private static String expected(final YearMonth yearMonth, final int number, final IssueMode issueMode, final int code) {
+        return new AccessKeyBuilder()
+                .state(State.SP)
+                .yearMonth(yearMonth)
+                .cnpj("KSP416L8000109")
+                .model(Model.NFE)
+                .series(1)
+                .number(number)
+                .issueMode(issueMode)
+                .code(code)
+                .build()
+                .generate();
+    }
+
+    @Test
+    @DisplayName("Deve gerar as mesmas chaves do AccessKeyBuilder")
+    void shouldMatchBuilder() {
+        assertEquals(KEY, template.generate(123, IssueMode.NORMAL, 99999999));
+        for (int number = 0; number < 2_000; number += 7) {
+            int code = number * 4_999 % 100_000_000;
+            assertEquals(expected(YearMonth.of(2024, 10), number, IssueMode.SVC_AN, code),
+                    template.generate(number, IssueMode.SVC_AN, code));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve escrever em byte[] e char[] a partir do offset")
+    void shouldGenerateIntoArrays() {
+        byte[] bytes = new byte[50];
+        char[] chars = new char[50];
+
+        assertEquals(47, template.generate(123, IssueMode.NORMAL, 99999999, bytes, 3));
+        assertEquals(46, template.generate(123, IssueMode.NORMAL, 99999999, chars, 2));
+
+        assertEquals(KEY, new String(bytes, 3, 44, StandardCharsets.US_ASCII));
+        assertEquals(KEY, new String(chars, 2, 44));
+        assertThrows(IndexOutOfBoundsException.class, () -> template.generate(1, IssueMode.NORMAL, 1, new byte[43], 0));
+    }
+
+    @Test
+    @DisplayName("Deve trocar o mês na virada, no fuso do relógio")
+    void shouldSwitchMonth() {
+        clock.instant = ZonedDateTime.of(2024, 10, 31, 23, 59, 59, 0, SAO_PAULO).toInstant();
+        assertEquals(YearMonth.of(2024, 10), template.getYearMonth());
+
+        clock.instant = ZonedDateTime.of(2024, 11, 1, 0, 0, 0, 0, SAO_PAULO).toInstant();
+        assertEquals(YearMonth.of(2024, 11), template.getYearMonth());
+        assertEquals(expected(YearMonth.of(2024, 11), 1, IssueMode.NORMAL, 5), template.generate(1, IssueMode.NORMAL, 5));
+
+        clock.instant = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, SAO_PAULO).toInstant();
+        assertEquals(expected(YearMonth.of(2025, 1), 1, IssueMode.NORMAL, 5), template.generate(1, IssueMode.NORMAL, 5));
+
+        clock.instant = ZonedDateTime.of(2024, 9, 30, 12, 0, 0, 0, SAO_PAULO).toInstant();
+        assertEquals(YearMonth.of(2024, 9), template.getYearMonth());
+    }
+
+    @Test
+    @DisplayName("Deve validar os argumentos")
+    void shouldValidateArguments() {
+        assertThrows(AccessKeyException.class, () -> template.generate(-1, IssueMode.NORMAL, 1));
+        assertThrows(AccessKeyException.class, () -> template.generate(1, IssueMode.NORMAL, 100_000_000));
+        assertThrows(NullPointerException.class, () -> template.generate(1, null, 1));
+        assertThrows(AccessKeyException.class, () -> AccessKeyTemplate.builder()
+                .state(State.SP).cnpj("KSP416L8000109").model(Model.NFE).series(1_000).build());
+        assertThrows(NullPointerException.class, () -> AccessKeyTemplate.builder()
+                .cnpj("KSP416L8000109").model(Model.NFE).series(1).build());
+    }
+}
@@ -4,10 +4,17 @@ import io.github.robsonkades.cnpj.CNPJ;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -98,6 +105,96 @@ class AccessKeyTest {
         assertTrue(exception.getMessage().contains("Chave de acesso inválida"));
     }
 
+    @Test
+    @DisplayName("Deve aceitar qualquer CharSequence como chave de acesso")
+    void shouldParseFromCharSequence() {
+        AccessKey accessKey = AccessKey.from(new StringBuilder("352410KSP416L8000109550010000001231999999993"));
+        assertEquals("352410KSP416L8000109550010000001231999999993", accessKey.generate());
+    }
+
+    @Test
+    @DisplayName("generate() deve reproduzir a chave informada em from()")
+    void shouldRoundTripParsedKey() {
+        String key = new AccessKey(state, yearMonth, cnpj, model, series, number, issueMode, code).generate();
+        assertEquals(key, AccessKey.from(key).generate());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção se o mês de emissão for inválido")
+    void shouldThrowExceptionWhenMonthIsInvalid() {
+        AccessKeyException exception = assertThrows(
+                AccessKeyException.class,
+                () -> AccessKey.from("352413KSP416L8000109550010000001231999999993")
+        );
+        assertEquals("Ano e mês de emissão inválidos: 2413", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção se um campo numérico contiver letras")
+    void shouldThrowExceptionWhenNumericFieldContainsLetters() {
+        AccessKeyException exception = assertThrows(
+                AccessKeyException.class,
+                () -> AccessKey.from("352410KSP416L80001095500A0000001231999999993")
+        );
+        assertEquals("Série deve ser numérica: 00A", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve validar o formato antes dos campos")
+    void shouldValidateFormatBeforeFields() {
+        AccessKeyException exception = assertThrows(
+                AccessKeyException.class,
+                () -> AccessKey.from("AA2410KSP416L8000109550010000001231999999a93")
+        );
+        assertEquals("A chave de acesso deve conter exatamente 44 caracteres alfanuméricos.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("isValid() deve aceitar chaves válidas com CNPJ numérico e alfanumérico")
+    void shouldValidateValidKeys() {
+        assertTrue(AccessKey.isValid("352410KSP416L8000109550010000001231999999993"));
+        assertTrue(AccessKey.isValid(new AccessKey(state, yearMonth, cnpj, model, series, number, issueMode, code).generate()));
+    }
+
+    @Test
+    @DisplayName("isValid() deve rejeitar chaves inválidas sem lançar exceção")
+    void shouldRejectInvalidKeysWithoutException() {
+        assertFalse(AccessKey.isValid(null));
+        assertFalse(AccessKey.isValid("123"));
+        assertFalse(AccessKey.isValid("352410KSP416L8000109550010000001231999999994")); // DV
+        assertFalse(AccessKey.isValid("992410KSP416L8000109550010000001231999999993")); // UF
+        assertFalse(AccessKey.isValid("352413KSP416L8000109550010000001231999999993")); // mês
+        assertFalse(AccessKey.isValid("352410KSP416L8000108550010000001231999999993")); // DV do CNPJ
+        assertFalse(AccessKey.isValid("352410KSP416L8000109560010000001231999999993")); // modelo
+        assertFalse(AccessKey.isValid("352410KSP416L8000109550010000001238999999993")); // tipo de emissão
+        assertFalse(AccessKey.isValid("352410ksp416l8000109550010000001231999999993")); // alfabeto
+        assertFalse(AccessKey.isValid("352410KSP416L80001095500A0000001231999999993")); // série
+    }
+
+    @Test
+    @DisplayName("isValid() deve concordar com from() para chaves com um caractere alterado")
+    void shouldAgreeWithFromForMutatedKeys() {
+        String key = "352410KSP416L8000109550010000001231999999993";
+        char[] replacements = {'0', '1', '5', '9', 'A', 'Z', '#'};
+        for (int i = 0; i < key.length(); i++) {
+            if (i >= 6 && i < 20) {
+                continue; // a validação do CNPJ em from() é delegada à biblioteca cnpj
+            }
+            for (char replacement : replacements) {
+                StringBuilder mutated = new StringBuilder(key);
+                mutated.setCharAt(i, replacement);
+                boolean parsed;
+                try {
+                    AccessKey.from(mutated);
+                    parsed = true;
+                } catch (AccessKeyException e) {
+                    parsed = false;
+                }
+                assertEquals(parsed, AccessKey.isValid(mutated), mutated.toString());
+            }
+        }
+    }
+
     @Test
     @DisplayName("Método generate() deve retornar chave válida")
     void shouldGenerateValidAccessKey() {
@@ -131,4 +228,176 @@ class AccessKeyTest {
         assertThrows(NullPointerException.class, () -> new AccessKey(state, yearMonth, cnpj, model, series, number, null, code));
         assertThrows(NullPointerException.class, () -> new AccessKey(state, yearMonth, cnpj, model, series, number, issueMode, null));
     }
+
+    @Test
+    @DisplayName("of() deve criar a chave a partir de valores primitivos")
+    void shouldCreateFromPrimitives() {
+        AccessKey accessKey = AccessKey.of(state, 2410, cnpj, model, 1, 123, issueMode, 99999999);
+
+        assertEquals(new AccessKey(state, yearMonth, cnpj, model, series, number, issueMode, code).generate(), accessKey.generate());
+        assertSame(Series.of(1), accessKey.getSeries());
+        assertSame(Number.of(123), accessKey.getNumber());
+        assertSame(accessKey.getYearMonth(), AccessKey.of(state, 2410, cnpj, model, 2, 5, issueMode, 1).getYearMonth());
+    }
+
+    @Test
+    @DisplayName("of() deve validar os valores primitivos")
+    void shouldValidatePrimitivesInOf() {
+        assertThrows(AccessKeyException.class, () -> AccessKey.of(state, 2413, cnpj, model, 1, 123, issueMode, 1));
+        assertThrows(AccessKeyException.class, () -> AccessKey.of(state, 2400, cnpj, model, 1, 123, issueMode, 1));
+        assertThrows(AccessKeyException.class, () -> AccessKey.of(state, 10_001, cnpj, model, 1, 123, issueMode, 1));
+        assertThrows(AccessKeyException.class, () -> AccessKey.of(state, 2410, cnpj, model, 1_000, 123, issueMode, 1));
+        assertThrows(AccessKeyException.class, () -> AccessKey.of(state, 2410, cnpj, model, 1, -1, issueMode, 1));
+        assertThrows(AccessKeyException.class, () -> AccessKey.of(state, 2410, cnpj, model, 1, 123, issueMode, 100_000_000));
+        assertThrows(NullPointerException.class, () -> AccessKey.of(null, 2410, cnpj, model, 1, 123, issueMode, 1));
+    }
+
+    @Test
+    @DisplayName("from() deve converter a chave a partir de bytes ASCII em array e em buffer")
+    void shouldParseFromBytes() {
+        String key = "352410KSP416L8000109550010000001231999999993";
+        byte[] bytes = ("xx" + key + "\n").getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(key, AccessKey.from(bytes, 2, 44).generate());
+
+        ByteBuffer heap = ByteBuffer.wrap(bytes, 1, 46).slice();
+        assertEquals(key, AccessKey.from(heap, 1, 44).generate());
+        assertEquals(0, heap.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(50);
+        direct.position(3);
+        direct.put(key.getBytes(StandardCharsets.US_ASCII));
+        assertEquals(key, AccessKey.from(direct, 3, 44).generate());
+        assertEquals(47, direct.position());
+        assertEquals(50, direct.limit());
+    }
+
+    @Test
+    @DisplayName("from() com bytes deve rejeitar chave inválida e intervalo fora dos limites")
+    void shouldRejectInvalidBytes() {
+        byte[] bytes = "352410KSP416L8000109550010000001231999999990".getBytes(StandardCharsets.US_ASCII);
+
+        assertThrows(AccessKeyException.class, () -> AccessKey.from(bytes, 0, 44));
+        assertThrows(AccessKeyException.class, () -> AccessKey.from(bytes, 0, 43));
+        assertThrows(AccessKeyException.class, () -> AccessKey.from(ByteBuffer.wrap(bytes), 0, 44));
+        assertThrows(IndexOutOfBoundsException.class, () -> AccessKey.from(bytes, 1, 44));
+        assertThrows(IndexOutOfBoundsException.class, () -> AccessKey.from(ByteBuffer.wrap(bytes).limit(40), 0, 44));
+
+        byte[] latin1 = "352410KSP416L8000109550010000001231999999993".getBytes(StandardCharsets.US_ASCII);
+        latin1[30] = (byte) 0xB0;
+        assertThrows(AccessKeyException.class, () -> AccessKey.from(latin1, 0, 44));
+    }
+
+    @Test
+    @DisplayName("isValid() deve aceitar bytes ASCII em array e em buffer")
+    void shouldValidateBytes() {
+        byte[] valid = "352410KSP416L8000109550010000001231999999993".getBytes(StandardCharsets.US_ASCII);
+        byte[] invalid = "352410KSP416L8000109550010000001231999999990".getBytes(StandardCharsets.US_ASCII);
+
+        assertTrue(AccessKey.isValid(valid, 0, 44));
+        assertFalse(AccessKey.isValid(valid, 0, 43));
+        assertFalse(AccessKey.isValid(invalid, 0, 44));
+        assertTrue(AccessKey.isValid(ByteBuffer.wrap(valid), 0, 44));
+        assertFalse(AccessKey.isValid(ByteBuffer.wrap(invalid), 0, 44));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(44).put(valid);
+        assertTrue(AccessKey.isValid(direct, 0, 44));
+        assertEquals(44, direct.position());
+    }
+
+    @Test
+    @DisplayName("lazy() deve devolver a chave de origem e decodificar os campos sob demanda")
+    void shouldCreateLazyAccessKey() {
+        String key = "352410KSP416L8000109550010000001231999999993";
+        AccessKey lazy = AccessKey.lazy(key);
+        AccessKey eager = AccessKey.from(key);
+
+        assertSame(key, lazy.generate());
+        assertSame(key, AccessKeyGenerator.generate(lazy));
+        assertEquals(eager.getState(), lazy.getState());
+        assertEquals(eager.getYearMonth(), lazy.getYearMonth());
+        assertEquals(eager.getCnpj(), lazy.getCnpj());
+        assertEquals(eager.getModel(), lazy.getModel());
+        assertEquals(eager.getSeries(), lazy.getSeries());
+        assertEquals(eager.getNumber(), lazy.getNumber());
+        assertEquals(eager.getIssueMode(), lazy.getIssueMode());
+        assertEquals(eager.getCode(), lazy.getCode());
+        assertSame(lazy.getCnpj(), lazy.getCnpj());
+        assertEquals(eager.toString(), lazy.toString());
+        assertEquals(key, PackedAccessKey.of(lazy).generate());
+    }
+
+    @Test
+    @DisplayName("lazy() deve escrever a chave de origem nos destinos do gerador")
+    void shouldGenerateLazyAccessKeyIntoBuffers() {
+        String key = "352410KSP416L8000109550010000001231999999993";
+        AccessKey lazy = AccessKey.lazy(key);
+
+        char[] chars = new char[46];
+        assertEquals(46, AccessKeyGenerator.generate(lazy, chars, 2));
+        assertEquals(key, new String(chars, 2, 44));
+
+        byte[] bytes = new byte[44];
+        AccessKeyGenerator.generate(lazy, bytes, 0);
+        assertEquals(key, new String(bytes, StandardCharsets.US_ASCII));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(44);
+        AccessKeyGenerator.generate(lazy, direct);
+        assertEquals(44, direct.position());
+        assertTrue(AccessKey.isValid(direct, 0, 44));
+
+        CharBuffer charBuffer = ByteBuffer.allocateDirect(88).asCharBuffer();
+        AccessKeyGenerator.generate(lazy, charBuffer);
+        charBuffer.flip();
+        assertEquals(key, charBuffer.toString());
+    }
+
+    @Test
+    @DisplayName("lazy() deve validar a chave e copiar a origem mutável")
+    void shouldValidateLazyAccessKey() {
+        assertThrows(AccessKeyException.class, () -> AccessKey.lazy("352410KSP416L8000109550010000001231999999990"));
+        assertThrows(AccessKeyException.class, () -> AccessKey.lazy(null));
+
+        StringBuilder source = new StringBuilder("352410KSP416L8000109550010000001231999999993");
+        AccessKey lazy = AccessKey.lazy(source);
+        source.setCharAt(0, '4');
+        assertEquals(State.SP, lazy.getState());
+    }
+
+    @Test
+    @DisplayName("Chaves iguais devem ser iguais e ter o mesmo hash, independentemente da origem")
+    void shouldHaveValueSemantics() {
+        String key = "352410KSP416L8000109550010000001231999999993";
+        AccessKey parsed = AccessKey.from(key);
+        AccessKey other = AccessKey.from(new String(key.toCharArray()));
+        AccessKey lazy = AccessKey.lazy(key);
+        AccessKey built = AccessKey.of(State.SP, 2410, CNPJ.of("KSP416L8000109"), Model.NFE, 1, 123, IssueMode.NORMAL, 99999999);
+
+        assertEquals(parsed, other);
+        assertEquals(parsed, lazy);
+        assertEquals(lazy, parsed);
+        assertEquals(parsed, built);
+        assertEquals(parsed.hashCode(), other.hashCode());
+        assertEquals(parsed.hashCode(), lazy.hashCode());
+        assertEquals(PackedAccessKey.of(key).hashCode(), parsed.hashCode());
+
+        assertFalse(parsed.equals(AccessKey.from("352410KSP416L8000109550010000001241999999990")));
+        assertFalse(parsed.equals(key));
+        assertFalse(parsed.equals(null));
+
+        Map<AccessKey, String> map = new HashMap<>();
+        map.put(parsed, "a");
+        assertEquals("a", map.get(lazy));
+    }
+
+    @Test
+    @DisplayName("generate() deve calcular a chave uma única vez")
+    void shouldMemoizeGenerate() {
+        AccessKey accessKey = new AccessKey(state, yearMonth, cnpj, model, series, number, issueMode, code);
+
+        String first = accessKey.generate();
+        assertSame(first, accessKey.generate());
+        assertSame(PackedAccessKey.of(accessKey), PackedAccessKey.of(accessKey));
+        assertEquals(first, AccessKeyGenerator.generate(accessKey));
+    }
 }
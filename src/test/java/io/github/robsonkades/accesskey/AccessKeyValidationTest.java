@@ -0,0 +1,163 @@
+package io.github.robsonkades.accesskey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para AccessKeyValidation")
+class AccessKeyValidationTest {
+
+    private static final String KEY = "352410KSP416L8000109550010000001231999999993";
+
+    private final AccessKeyValidation validation = new AccessKeyValidation();
+
+    @Test
+    @DisplayName("Deve indicar sucesso para chave válida")
+    void shouldReportValidKey() {
+        assertTrue(AccessKey.validate(KEY, validation));
+        assertTrue(validation.isValid());
+        assertNull(validation.getError());
+        assertNull(validation.getMessage());
+        assertEquals(-1, validation.getPosition());
+    }
+
+    @Test
+    @DisplayName("Deve informar tamanho inválido")
+    void shouldReportLength() {
+        assertFalse(AccessKey.validate("123", validation));
+        assertEquals(AccessKeyError.LENGTH, validation.getError());
+        assertEquals(3, validation.getPosition());
+        assertEquals("A chave de acesso deve conter exatamente 44 caracteres alfanuméricos.", validation.getMessage());
+
+        assertFalse(AccessKey.validate(null, validation));
+        assertEquals(AccessKeyError.LENGTH, validation.getError());
+        assertEquals(-1, validation.getPosition());
+    }
+
+    @Test
+    @DisplayName("Deve informar a posição do caractere inválido")
+    void shouldReportCharacterPosition() {
+        assertFalse(AccessKey.validate("352410KSP416L80001095500A0000001231999999993", validation));
+        assertEquals(AccessKeyError.CHARACTER, validation.getError());
+        assertEquals(24, validation.getPosition());
+
+        assertFalse(AccessKey.validate("352410KSP416L8000109550010000001231999999#93", validation));
+        assertEquals(AccessKeyError.CHARACTER, validation.getError());
+        assertEquals(41, validation.getPosition());
+    }
+
+    @Test
+    @DisplayName("Deve informar UF, mês, CNPJ, modelo e tipo de emissão inválidos")
+    void shouldReportFieldErrors() {
+        assertFalse(AccessKey.validate("992410KSP416L8000109550010000001231999999993", validation));
+        assertEquals(AccessKeyError.STATE, validation.getError());
+        assertEquals(0, validation.getPosition());
+        assertEquals(99, validation.getValue());
+        assertEquals("Código do estado inválido: 99", validation.getMessage());
+
+        assertFalse(AccessKey.validate("352413KSP416L8000109550010000001231999999993", validation));
+        assertEquals(AccessKeyError.MONTH, validation.getError());
+        assertEquals(2, validation.getPosition());
+        assertEquals(2413, validation.getValue());
+
+        assertFalse(AccessKey.validate("352410KSP416L8000108550010000001231999999993", validation));
+        assertEquals(AccessKeyError.CNPJ, validation.getError());
+        assertEquals(6, validation.getPosition());
+
+        assertFalse(AccessKey.validate("352410KSP416L8000109560010000001231999999993", validation));
+        assertEquals(AccessKeyError.MODEL, validation.getError());
+        assertEquals(20, validation.getPosition());
+        assertEquals(56, validation.getValue());
+
+        assertFalse(AccessKey.validate("352410KSP416L8000109550010000001238999999993", validation));
+        assertEquals(AccessKeyError.ISSUE_MODE, validation.getError());
+        assertEquals(34, validation.getPosition());
+        assertEquals(8, validation.getValue());
+    }
+
+    @Test
+    @DisplayName("Deve informar o DV esperado e o encontrado")
+    void shouldReportCheckDigit() {
+        assertFalse(AccessKey.validate("352410KSP416L8000109550010000001231999999990", validation));
+        assertEquals(AccessKeyError.CHECK_DIGIT, validation.getError());
+        assertEquals(43, validation.getPosition());
+        assertEquals(3, validation.getExpectedCheckDigit());
+        assertEquals(0, validation.getActualCheckDigit());
+        assertEquals("Chave de acesso inválida. Esperado DV=3 mas foi encontrado 0.", validation.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve limpar o resultado anterior ao reutilizar a instância")
+    void shouldResetWhenReused() {
+        assertFalse(AccessKey.validate("352410KSP416L8000109550010000001231999999990", validation));
+        assertTrue(AccessKey.validate(KEY, validation));
+        assertNull(validation.getError());
+        assertEquals(-1, validation.getExpectedCheckDigit());
+        assertEquals(-1, validation.getActualCheckDigit());
+    }
+
+    @Test
+    @DisplayName("toException() deve criar exceção sem stack trace")
+    void shouldCreateStacklessException() {
+        assertFalse(AccessKey.validate("992410KSP416L8000109550010000001231999999993", validation));
+        AccessKeyValidationException exception = validation.toException();
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(AccessKeyError.STATE, exception.getError());
+        assertEquals(0, exception.getPosition());
+        assertEquals("Código do estado inválido: 99", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("toException() deve falhar para chave válida")
+    void shouldNotCreateExceptionForValidKey() {
+        assertTrue(AccessKey.validate(KEY, validation));
+        assertThrows(IllegalStateException.class, validation::toException);
+    }
+
+    @Test
+    @DisplayName("tryFrom() deve retornar a chave ou null sem lançar exceção")
+    void shouldTryFrom() {
+        assertNotNull(AccessKey.tryFrom(KEY, validation));
+        assertNull(AccessKey.tryFrom("352410KSP416L8000109550010000001231999999990", validation));
+        assertEquals(AccessKeyError.CHECK_DIGIT, validation.getError());
+    }
+
+    @Test
+    @DisplayName("tryFrom() deve decodificar os mesmos campos que from()")
+    void shouldTryFromSameFieldsAsFrom() {
+        final String numeric = "35241011222333000181650010000001231999999994";
+        assertTrue(AccessKey.isValid(numeric));
+
+        assertEquals(AccessKey.from(KEY), AccessKey.tryFrom(KEY, validation));
+        assertTrue(validation.isValid());
+        assertEquals(AccessKey.from(numeric), AccessKey.tryFrom(numeric, validation));
+        assertEquals(numeric, AccessKey.tryFrom(numeric, validation).generate());
+    }
+
+    @Test
+    @DisplayName("Deve validar bytes ASCII com posição relativa ao início da chave")
+    void shouldValidateBytes() {
+        byte[] bytes = "--352413KSP416L8000109550010000001231999999993".getBytes(StandardCharsets.US_ASCII);
+
+        assertFalse(AccessKey.validate(bytes, 2, 44, validation));
+        assertEquals(AccessKeyError.MONTH, validation.getError());
+        assertEquals(2, validation.getPosition());
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(44).put(KEY.getBytes(StandardCharsets.US_ASCII));
+        assertTrue(AccessKey.validate(buffer, 0, 44, validation));
+
+        assertFalse(AccessKey.validate(ByteBuffer.wrap(bytes), 0, 46, validation));
+        assertEquals(AccessKeyError.LENGTH, validation.getError());
+        assertEquals(46, validation.getPosition());
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.robsonkades.accesskey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Testes para CheckDigits")
+class CheckDigitsTest {
+
+    private static final String KEY = "352410KSP416L8000109550010000001231999999993";
+    private static final int COUNT = 500;
+
+    private static byte[] records(final int offset) {
+        final Random random = new Random(42);
+        final State[] states = State.values();
+        final Model[] models = Model.values();
+        final byte[] records = new byte[offset + COUNT * AccessKeyGenerator.LENGTH];
+        for (int i = 0; i < COUNT; i++) {
+            final AccessKey key = new AccessKeyBuilder()
+                    .state(states[random.nextInt(states.length)])
+                    .yearMonth(YearMonth.of(2020 + random.nextInt(10), 1 + random.nextInt(12)))
+                    .cnpj(i % 2 == 0 ? "KSP416L8000109" : "11222333000181")
+                    .model(models[random.nextInt(models.length)])
+                    .series(random.nextInt(1_000))
+                    .number(1 + random.nextInt(999_999_999))
+                    .issueMode(IssueMode.NORMAL)
+                    .code(random.nextInt(100_000_000))
+                    .build();
+            AccessKeyGenerator.generate(key, records, offset + i * AccessKeyGenerator.LENGTH);
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("Deve calcular o mesmo DV que o gerador para cada chave do lote")
+    void shouldComputeCheckDigits() {
+        final byte[] records = records(3);
+        final int[] digits = new int[COUNT];
+        CheckDigits.compute(records, 3, COUNT, digits);
+
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(records[3 + i * AccessKeyGenerator.LENGTH + 43] - '0', digits[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("verify() deve contar as chaves válidas e indicar as inválidas")
+    void shouldVerifyCheckDigits() {
+        final byte[] records = records(0);
+        final boolean[] valid = new boolean[COUNT];
+        assertEquals(COUNT, CheckDigits.verify(records, 0, COUNT, valid));
+        assertEquals(COUNT, CheckDigits.verify(records, 0, COUNT, null));
+
+        final int wrong = 7 * AccessKeyGenerator.LENGTH + 43;
+        records[wrong] = (byte) (records[wrong] == '9' ? '0' : records[wrong] + 1);
+        assertEquals(COUNT - 1, CheckDigits.verify(records, 0, COUNT, valid));
+        assertFalse(valid[7]);
+        assertTrue(valid[6]);
+        assertTrue(valid[8]);
+    }
+
+    @Test
+    @DisplayName("fill() deve gravar o DV na posição 43 de cada chave")
+    void shouldFillCheckDigits() {
+        final byte[] expected = records(0);
+        final byte[] records = expected.clone();
+        for (int i = 0; i < COUNT; i++) {
+            records[i * AccessKeyGenerator.LENGTH + 43] = '?';
+        }
+        CheckDigits.fill(records, 0, COUNT);
+
+        assertArrayEquals(expected, records);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar CNPJ alfanumérico")
+    void shouldAcceptAlphanumericCnpj() {
+        final byte[] records = KEY.getBytes(StandardCharsets.US_ASCII);
+        final int[] digits = new int[1];
+        CheckDigits.compute(records, 0, 1, digits);
+
+        assertEquals(3, digits[0]);
+    }
+
+    @Test
+    @DisplayName("Deve informar a implementação em uso")
+    void shouldReportImplementation() {
+        assertTrue(CheckDigits.implementation().equals("scalar") || CheckDigits.implementation().equals("vector"));
+    }
+
+    @Test
+    @DisplayName("Deve usar a implementação esperada pela execução do perfil java17-vector")
+    void shouldUseExpectedImplementation() {
+        final String expected = System.getProperty("io.github.robsonkades.accesskey.expectedImplementation");
+        assumeTrue(expected != null, "Sem implementação esperada nesta execução");
+
+        assertEquals(expected, CheckDigits.implementation());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para intervalo fora dos limites")
+    void shouldRejectInvalidRange() {
+        final byte[] records = new byte[2 * AccessKeyGenerator.LENGTH];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> CheckDigits.verify(records, 1, 2, null));
+        assertThrows(IndexOutOfBoundsException.class, () -> CheckDigits.verify(records, -1, 1, null));
+        assertThrows(IndexOutOfBoundsException.class, () -> CheckDigits.compute(records, 0, 2, new int[1]));
+        assertThrows(IllegalArgumentException.class, () -> CheckDigits.fill(records, 0, -1));
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.robsonkades.accesskey;
+
+import io.github.robsonkades.cnpj.CNPJ;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para CnpjCache")
+class CnpjCacheTest {
+
+    private static final String KEY = "352410KSP416L8000109550010000001231999999993";
+
+    @Test
+    @DisplayName("Deve devolver a mesma instância em acertos e contar acertos e faltas")
+    void shouldReuseInstances() {
+        CnpjCache cache = new CnpjCache(16);
+
+        CNPJ first = cache.get("KSP416L8000109");
+        CNPJ second = cache.get(new StringBuilder("KSP416L8000109"));
+
+        assertSame(first, second);
+        assertEquals("KSP416L8000109", first.getValue());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate());
+    }
+
+    @Test
+    @DisplayName("AccessKey.from() deve reutilizar o CNPJ do cache")
+    void shouldBeUsedByFrom() {
+        CnpjCache cache = new CnpjCache(16);
+
+        AccessKey first = AccessKey.from(KEY, cache);
+        AccessKey second = AccessKey.from(KEY, cache);
+
+        assertSame(first.getCnpj(), second.getCnpj());
+        assertSame(first.getCnpj(), cache.get("KSP416L8000109"));
+        assertEquals(KEY, second.generate());
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    @DisplayName("AccessKeyBuilder deve aceitar o CNPJ do cache")
+    void shouldBeUsedByBuilder() {
+        CnpjCache cache = new CnpjCache(16);
+        AccessKey key = new AccessKeyBuilder()
+                .state(State.SP)
+                .yearMonth(YearMonth.of(2024, 10))
+                .cnpj(cache.get("KSP416L8000109"))
+                .model(Model.NFE)
+                .series(1)
+                .number(123)
+                .issueMode(IssueMode.NORMAL)
+                .code(99999999)
+                .build();
+
+        assertEquals(KEY, key.generate());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar CNPJs inválidos")
+    void shouldNotCacheInvalidCnpj() {
+        CnpjCache cache = new CnpjCache(16);
+
+        assertThrows(RuntimeException.class, () -> cache.get("KSP416L8000108"));
+        assertThrows(RuntimeException.class, () -> cache.get("KSP416L8000108"));
+        assertThrows(RuntimeException.class, () -> cache.get("ksp416l8000109"));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar a capacidade, descartando as entradas mais antigas")
+    void shouldBeBounded() {
+        CnpjCache cache = new CnpjCache(4);
+        List<String> cnpjs = cnpjs(new Random(5), 1_000);
+        for (String cnpj : cnpjs) {
+            cache.get(cnpj);
+        }
+
+        assertEquals(4, cache.capacity());
+        assertEquals(1_000, cache.getMissCount());
+
+        CNPJ last = cache.get(cnpjs.get(999));
+        assertSame(last, cache.get(cnpjs.get(999)));
+
+        cache.clear();
+        assertNotSame(last, cache.get(cnpjs.get(999)));
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    @DisplayName("Deve funcionar com várias threads")
+    void shouldBeThreadSafe() throws Exception {
+        CnpjCache cache = new CnpjCache(1024);
+        List<String> cnpjs = cnpjs(new Random(9), 32);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    String cnpj = cnpjs.get(i % cnpjs.size());
+                    if (!cache.get(cnpj).getValue().equals(cnpj)) {
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        }
+        for (Future<Boolean> future : futures) {
+            assertTrue(future.get());
+        }
+        executor.shutdown();
+        assertEquals(80_000, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.getHitRate() > 0.9);
+    }
+
+    private static List<String> cnpjs(final Random random, final int count) {
+        List<String> cnpjs = new ArrayList<>();
+        String alphabet = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        while (cnpjs.size() < count) {
+            StringBuilder base = new StringBuilder();
+            for (int i = 0; i < 12; i++) {
+                base.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String cnpj = base + PackedAccessKeyTest.cnpjCheckDigits(base.toString());
+            if (!cnpjs.contains(cnpj)) {
+                cnpjs.add(cnpj);
+            }
+        }
+        return cnpjs;
+    }
+}
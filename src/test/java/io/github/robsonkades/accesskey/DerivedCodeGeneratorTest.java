@@ -0,0 +1,97 @@
+package io.github.robsonkades.accesskey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para DerivedCodeGenerator")
+class DerivedCodeGeneratorTest {
+
+    private static final String CNPJ = "KSP416L8000109";
+    private static final byte[] SECRET = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15};
+
+    private final DerivedCodeGenerator generator = new DerivedCodeGenerator(SECRET);
+
+    private static AccessKeyBuilder builder(final int number) {
+        return new AccessKeyBuilder()
+                .state(State.SP)
+                .yearMonth(YearMonth.of(2024, 10))
+                .cnpj(CNPJ)
+                .model(Model.NFE)
+                .series(1)
+                .number(number)
+                .issueMode(IssueMode.NORMAL);
+    }
+
+    @Test
+    @DisplayName("SipHash-2-4 deve conferir com o vetor de referência de 24 bytes")
+    void shouldMatchSipHashReferenceVector() {
+        long hash = DerivedCodeGenerator.sipHash(0x0706050403020100L, 0x0F0E0D0C0B0A0908L,
+                0x0706050403020100L, 0x0F0E0D0C0B0A0908L, 0x1716151413121110L);
+
+        assertEquals(0xB8AD50C6F649AF94L, hash);
+    }
+
+    @Test
+    @DisplayName("Deve derivar sempre o mesmo código para os mesmos dados")
+    void shouldBeDeterministic() {
+        int code = generator.derive(CNPJ, YearMonth.of(2024, 10), Model.NFE, 1, 123);
+
+        assertEquals(code, new DerivedCodeGenerator(SECRET.clone()).derive(CNPJ, YearMonth.of(2024, 10), Model.NFE, 1, 123));
+        assertTrue(RandomCodeGenerator.isAllowed(code, 123));
+        assertEquals(builder(123).code(generator).build().generate(), builder(123).code(generator).build().generate());
+        assertEquals(code, builder(123).code(generator).build().getCode().getCode());
+    }
+
+    @Test
+    @DisplayName("Código deve depender do segredo e de cada campo")
+    void shouldDependOnSecretAndFields() {
+        int code = generator.derive(CNPJ, YearMonth.of(2024, 10), Model.NFE, 1, 123);
+        byte[] other = SECRET.clone();
+        other[15] = 16;
+
+        assertNotEquals(code, new DerivedCodeGenerator(other).derive(CNPJ, YearMonth.of(2024, 10), Model.NFE, 1, 123));
+        assertNotEquals(code, generator.derive("11222333000181", YearMonth.of(2024, 10), Model.NFE, 1, 123));
+        assertNotEquals(code, generator.derive(CNPJ, YearMonth.of(2024, 11), Model.NFE, 1, 123));
+        assertNotEquals(code, generator.derive(CNPJ, YearMonth.of(2024, 10), Model.NFCE, 1, 123));
+        assertNotEquals(code, generator.derive(CNPJ, YearMonth.of(2024, 10), Model.NFE, 2, 123));
+        assertNotEquals(code, generator.derive(CNPJ, YearMonth.of(2024, 10), Model.NFE, 1, 124));
+    }
+
+    @Test
+    @DisplayName("Não deve considerar UF nem tipo de emissão")
+    void shouldIgnoreStateAndIssueMode() {
+        AccessKey normal = builder(123).code(generator).build();
+        AccessKey contingency = builder(123).state(State.RJ).issueMode(IssueMode.SVC_AN).code(generator).build();
+
+        assertEquals(normal.getCode(), contingency.getCode());
+    }
+
+    @Test
+    @DisplayName("Deve produzir códigos distintos e permitidos para uma sequência de números")
+    void shouldSpreadCodes() {
+        Set<Integer> codes = new HashSet<>();
+        for (int number = 1; number <= 10_000; number++) {
+            int code = generator.derive(CNPJ, YearMonth.of(2024, 10), Model.NFE, 1, number);
+            assertTrue(RandomCodeGenerator.isAllowed(code, number));
+            codes.add(code);
+        }
+        assertTrue(codes.size() > 9_990);
+    }
+
+    @Test
+    @DisplayName("Deve validar o segredo e o CNPJ")
+    void shouldValidateArguments() {
+        assertThrows(NullPointerException.class, () -> new DerivedCodeGenerator(null));
+        assertThrows(IllegalArgumentException.class, () -> new DerivedCodeGenerator(new byte[8]));
+        assertThrows(AccessKeyException.class, () -> generator.derive("123", YearMonth.of(2024, 10), Model.NFE, 1, 1));
+    }
+}
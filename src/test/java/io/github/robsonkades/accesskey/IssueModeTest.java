@@ -3,7 +3,10 @@ package io.github.robsonkades.accesskey;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class IssueModeTest {
@@ -48,4 +51,18 @@ class IssueModeTest {
         IssueMode issueMode = IssueMode.NORMAL;
         assertEquals("IssueMode{code=1, description='Emissão normal (não em contingência)'}", issueMode.toString());
     }
+
+    @Test
+    @DisplayName("decode() deve ler um dígito ASCII no offset sem lançar exceção")
+    void testDecode() {
+        String key = "352410KSP416L8000109550010000001231999999993";
+        assertEquals(IssueMode.NORMAL, IssueMode.decode(key, 34));
+        assertEquals(IssueMode.NORMAL, IssueMode.decode(key.getBytes(StandardCharsets.US_ASCII), 34));
+        assertEquals(IssueMode.SVC_RS, IssueMode.decode("7", 0));
+        assertNull(IssueMode.decode("8", 0));
+        assertNull(IssueMode.decode("0", 0));
+        assertNull(IssueMode.decode("A", 0));
+        assertNull(IssueMode.decode(new byte[]{'/'}, 0));
+        assertThrows(AccessKeyException.class, () -> IssueMode.fromCode(""));
+    }
 }
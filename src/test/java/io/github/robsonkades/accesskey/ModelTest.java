@@ -3,8 +3,11 @@ package io.github.robsonkades.accesskey;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("Testes do enum Model")
@@ -87,4 +90,17 @@ class ModelTest {
             assertNotNull(model.toString());
         }
     }
+
+    @Test
+    @DisplayName("decode() deve ler dois dígitos ASCII no offset sem lançar exceção")
+    void testDecode() {
+        String key = "352410KSP416L8000109550010000001231999999993";
+        assertEquals(Model.NFE, Model.decode(key, 20));
+        assertEquals(Model.NFE, Model.decode(key.getBytes(StandardCharsets.US_ASCII), 20));
+        assertEquals(Model.MDFE, Model.decode("58", 0));
+        assertNull(Model.decode("56", 0));
+        assertNull(Model.decode("5-", 0));
+        assertEquals(Model.CTE, Model.fromCode("+57"));
+        assertThrows(AccessKeyException.class, () -> Model.fromCode((String) null));
+    }
 }
@@ -0,0 +1,235 @@
+package io.github.robsonkades.accesskey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para NumberAllocator")
+class NumberAllocatorTest {
+
+    private static final String CNPJ = "KSP416L8000109";
+
+    @Test
+    @DisplayName("Deve entregar números sequenciais a partir de 1 por série")
+    void shouldAllocateSequentially(@TempDir final Path dir) throws IOException {
+        try (NumberAllocator allocator = NumberAllocator.open(dir)) {
+            NumberSequence first = allocator.sequence(State.SP, CNPJ, Model.NFE, 1);
+            NumberSequence second = allocator.sequence(State.SP, CNPJ, Model.NFE, 2);
+
+            assertSame(first, allocator.sequence(State.SP, CNPJ, Model.NFE, 1));
+            assertNotSame(first, second);
+            assertEquals("35-KSP416L8000109-55-001", first.getName());
+            assertEquals(1, first.next());
+            assertEquals(2, first.next());
+            assertEquals(new Number(3), first.nextNumber());
+            assertEquals(1, second.next());
+            assertEquals(4, first.peek());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve entregar números únicos e contíguos sob concorrência")
+    void shouldAllocateConcurrently(@TempDir final Path dir) throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        try (NumberAllocator allocator = NumberAllocator.open(dir)) {
+            NumberSequence sequence = allocator.sequence(State.SP, CNPJ, Model.NFE, 1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<int[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    int[] numbers = new int[perThread];
+                    for (int i = 0; i < perThread; i++) {
+                        numbers[i] = sequence.next();
+                    }
+                    return numbers;
+                }));
+            }
+            BitSet seen = new BitSet();
+            for (Future<int[]> future : futures) {
+                for (int number : future.get()) {
+                    assertFalse(seen.get(number), "Número repetido: " + number);
+                    seen.set(number);
+                }
+            }
+            executor.shutdown();
+
+            assertEquals(threads * perThread, seen.cardinality());
+            assertEquals(1, seen.nextSetBit(0));
+            assertEquals(threads * perThread + 1, seen.nextClearBit(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve esperar as alocações em andamento ao fechar e nunca repetir números ao reabrir")
+    void shouldCloseWhileReserving(@TempDir final Path dir) throws Exception {
+        int threads = 4;
+        NumberAllocator allocator = NumberAllocator.open(dir, 10);
+        NumberSequence sequence = allocator.sequence(State.SP, CNPJ, Model.NFE, 1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<BitSet>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    BitSet numbers = new BitSet();
+                    try {
+                        while (true) {
+                            numbers.set(sequence.next());
+                        }
+                    } catch (IllegalStateException closed) {
+                        return numbers;
+                    }
+                }));
+            }
+            while (sequence.peek() < 5_000) {
+                Thread.yield();
+            }
+            allocator.close();
+
+            BitSet seen = new BitSet();
+            for (Future<BitSet> future : futures) {
+                BitSet numbers = future.get();
+                assertFalse(seen.intersects(numbers), "Número repetido");
+                seen.or(numbers);
+            }
+            try (FileChannel channel = FileChannel.open(dir.resolve("35-KSP416L8000109-55-001.seq"), StandardOpenOption.READ)) {
+                ByteBuffer header = ByteBuffer.allocate(NumberSequence.FILE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                channel.read(header, 0);
+                assertEquals(NumberSequence.CLOSED, header.getInt(NumberSequence.STATE_OFFSET));
+                assertTrue(header.getLong(NumberSequence.NEXT_OFFSET) > seen.length() - 1);
+            }
+            try (NumberAllocator reopened = NumberAllocator.open(dir, 10)) {
+                int next = reopened.sequence(State.SP, CNPJ, Model.NFE, 1).next();
+                assertFalse(seen.get(next), "Número repetido: " + next);
+                assertTrue(next >= seen.length());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve continuar a numeração sem lacunas ao reabrir após fechar")
+    void shouldResumeAfterClose(@TempDir final Path dir) throws IOException {
+        try (NumberAllocator allocator = NumberAllocator.open(dir)) {
+            assertEquals(1, allocator.sequence(State.SP, CNPJ, Model.NFE, 1).reserve(10));
+        }
+        try (NumberAllocator allocator = NumberAllocator.open(dir)) {
+            assertEquals(11, allocator.sequence(State.SP, CNPJ, Model.NFE, 1).next());
+        }
+        try (NumberAllocator allocator = NumberAllocator.open(dir)) {
+            assertEquals(12, allocator.sequence(State.SP, CNPJ, Model.NFE, 1).next());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve continuar do fim do bloco concedido ao reabrir sem fechar, sem repetir números")
+    void shouldNeverReuseNumbersAfterCrash(@TempDir final Path dir) throws IOException {
+        final String file = "35-KSP416L8000109-55-001.seq";
+        NumberAllocator crashed = NumberAllocator.open(dir, 100);
+        NumberSequence sequence = crashed.sequence(State.SP, CNPJ, Model.NFE, 1);
+        int last = 0;
+        for (int i = 0; i < 250; i++) {
+            last = sequence.next();
+        }
+        assertEquals(250, last);
+        assertThrows(IllegalStateException.class, () -> NumberAllocator.open(dir).sequence(State.SP, CNPJ, Model.NFE, 1));
+
+        // o arquivo como ficaria após a queda, sem o contador, que não é gravado a cada alocação
+        Path copy = Files.createDirectory(dir.resolve("copy"));
+        Files.copy(dir.resolve(file), copy.resolve(file));
+        try (FileChannel channel = FileChannel.open(copy.resolve(file), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, 1L), NumberSequence.NEXT_OFFSET);
+        }
+        try (NumberAllocator reopened = NumberAllocator.open(copy, 100)) {
+            int next = reopened.sequence(State.SP, CNPJ, Model.NFE, 1).next();
+            assertTrue(next > last, "Número repetido: " + next);
+            assertEquals(304, next);
+        }
+        try (NumberAllocator reopened = NumberAllocator.open(copy, 100)) {
+            assertEquals(305, reopened.sequence(State.SP, CNPJ, Model.NFE, 1).next());
+        }
+        crashed.close();
+    }
+
+    @Test
+    @DisplayName("Deve converter arquivos da versão anterior")
+    void shouldUpgradeVersion1Files(@TempDir final Path dir) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(NumberSequence.MAGIC).putInt(1).putLong(42L);
+        Files.write(dir.resolve("35-KSP416L8000109-55-001.seq"), header.array());
+        try (NumberAllocator allocator = NumberAllocator.open(dir)) {
+            assertEquals(42, allocator.sequence(State.SP, CNPJ, Model.NFE, 1).next());
+        }
+        assertEquals(NumberSequence.FILE_SIZE, Files.size(dir.resolve("35-KSP416L8000109-55-001.seq")));
+    }
+
+    @Test
+    @DisplayName("Deve reservar blocos e avançar sem retroceder")
+    void shouldReserveAndAdvance(@TempDir final Path dir) throws IOException {
+        try (NumberAllocator allocator = NumberAllocator.open(dir)) {
+            NumberSequence sequence = allocator.sequence(State.SP, CNPJ, Model.NFE, 1);
+
+            assertEquals(1, sequence.reserve(100));
+            assertEquals(101, sequence.next());
+            assertEquals(5_000, sequence.advanceTo(5_000));
+            assertEquals(5_000, sequence.advanceTo(10));
+            assertEquals(5_000, sequence.next());
+            assertThrows(IllegalArgumentException.class, () -> sequence.reserve(0));
+            assertThrows(AccessKeyException.class, () -> sequence.advanceTo(1_000_000_000));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao esgotar a numeração sem perder os números restantes")
+    void shouldFailWhenExhausted(@TempDir final Path dir) throws IOException {
+        try (NumberAllocator allocator = NumberAllocator.open(dir)) {
+            NumberSequence sequence = allocator.sequence(State.SP, CNPJ, Model.NFE, 1);
+            sequence.advanceTo(999_999_998);
+
+            assertThrows(AccessKeyException.class, () -> sequence.reserve(3));
+            assertEquals(999_999_998, sequence.next());
+            assertEquals(999_999_999, sequence.next());
+            assertThrows(AccessKeyException.class, sequence::next);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar uso após fechar e arquivos corrompidos")
+    void shouldRejectClosedAndCorrupted(@TempDir final Path dir) throws IOException {
+        NumberAllocator allocator = NumberAllocator.open(dir);
+        NumberSequence sequence = allocator.sequence(State.SP, CNPJ, Model.NFE, 1);
+        allocator.close();
+
+        assertThrows(IllegalStateException.class, sequence::next);
+        assertThrows(IllegalStateException.class, () -> allocator.sequence(State.SP, CNPJ, Model.NFE, 1));
+
+        Files.write(dir.resolve("35-KSP416L8000109-55-002.seq"), new byte[16]);
+        try (NumberAllocator reopened = NumberAllocator.open(dir)) {
+            assertThrows(UncheckedIOException.class, () -> reopened.sequence(State.SP, CNPJ, Model.NFE, 2));
+            assertThrows(AccessKeyException.class, () -> reopened.sequence(State.SP, CNPJ, Model.NFE, 1000));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.robsonkades.accesskey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para NumberBitmap")
+class NumberBitmapTest {
+
+    private static List<long[]> runs(final NumberBitmap bitmap) {
+        final List<long[]> runs = new ArrayList<>();
+        bitmap.forEachRun((first, last) -> runs.add(new long[]{first, last}));
+        return runs;
+    }
+
+    private static List<long[]> runs(final TreeSet<Integer> set) {
+        final List<long[]> runs = new ArrayList<>();
+        long first = -2;
+        long last = -2;
+        for (int value : set) {
+            if (value != last + 1) {
+                if (first >= 0) {
+                    runs.add(new long[]{first, last});
+                }
+                first = value;
+            }
+            last = value;
+        }
+        if (first >= 0) {
+            runs.add(new long[]{first, last});
+        }
+        return runs;
+    }
+
+    private static void assertSame(final TreeSet<Integer> expected, final NumberBitmap bitmap) {
+        assertEquals(expected.size(), bitmap.cardinality());
+        assertEquals(expected.isEmpty() ? -1 : expected.first(), bitmap.first());
+        assertEquals(expected.isEmpty() ? -1 : expected.last(), bitmap.last());
+        final List<long[]> expectedRuns = runs(expected);
+        final List<long[]> actualRuns = runs(bitmap);
+        assertEquals(expectedRuns.size(), actualRuns.size());
+        for (int i = 0; i < expectedRuns.size(); i++) {
+            assertEquals(expectedRuns.get(i)[0], actualRuns.get(i)[0]);
+            assertEquals(expectedRuns.get(i)[1], actualRuns.get(i)[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve se comportar como um conjunto ordenado com valores aleatórios e densos")
+    void shouldMatchTreeSet() {
+        final Random random = new Random(24);
+        for (int bound : new int[]{5_000, 70_000, 300_000, 999_999_999}) {
+            final TreeSet<Integer> expected = new TreeSet<>();
+            final NumberBitmap bitmap = new NumberBitmap();
+            for (int i = 0; i < 60_000; i++) {
+                final int value = random.nextInt(bound);
+                assertEquals(expected.add(value), bitmap.add(value));
+            }
+            assertSame(expected, bitmap);
+            for (int i = 0; i < 1_000; i++) {
+                final int value = random.nextInt(bound);
+                assertEquals(expected.contains(value), bitmap.contains(value));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter intervalos ao preencher lacunas em qualquer ordem")
+    void shouldMergeRuns() {
+        final Random random = new Random(7);
+        final TreeSet<Integer> expected = new TreeSet<>();
+        final NumberBitmap bitmap = new NumberBitmap();
+        for (int block = 0; block < 3_000; block++) {
+            final int start = random.nextInt(200_000);
+            for (int value = start; value < start + random.nextInt(50); value++) {
+                assertEquals(expected.add(value), bitmap.add(value));
+            }
+        }
+        assertSame(expected, bitmap);
+    }
+
+    @Test
+    @DisplayName("Deve ocupar pouca memória com numeração contígua")
+    void shouldCompressContiguousNumbers() {
+        final NumberBitmap bitmap = new NumberBitmap();
+        for (int value = 1; value <= 5_000_000; value++) {
+            assertTrue(bitmap.add(value));
+        }
+        assertFalse(bitmap.add(4_000_000));
+        assertEquals(5_000_000, bitmap.cardinality());
+        assertEquals(1, runs(bitmap).size());
+        assertTrue(bitmap.sizeInBytes() < 10_000, "bytes: " + bitmap.sizeInBytes());
+    }
+
+    @Test
+    @DisplayName("Deve ficar limitado a um bitmap por bloco com numeração espalhada")
+    void shouldBoundSparseNumbers() {
+        final NumberBitmap bitmap = new NumberBitmap();
+        for (int value = 0; value < 1 << 20; value += 2) {
+            bitmap.add(value);
+        }
+        assertEquals(1 << 19, bitmap.cardinality());
+        assertTrue(bitmap.sizeInBytes() <= 16 * 8_300, "bytes: " + bitmap.sizeInBytes());
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.robsonkades.accesskey;
+
+import io.github.robsonkades.cnpj.CNPJ;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para NumberGapDetector")
+class NumberGapDetectorTest {
+
+    private static final String CNPJ_VALUE = "KSP416L8000109";
+
+    private static AccessKey key(final String cnpj, final Model model, final int series, final int number) {
+        return AccessKey.of(State.SP, 2410, CNPJ.of(cnpj), model, series, number, IssueMode.NORMAL, 12345678);
+    }
+
+    private static List<String> gaps(final SeriesNumbers numbers) {
+        final List<String> gaps = new ArrayList<>();
+        numbers.forEachGap((first, last) -> gaps.add(first + "-" + last));
+        return gaps;
+    }
+
+    @Test
+    @DisplayName("Deve separar as séries e informar lacunas e repetidos")
+    void shouldReportGapsAndDuplicates() {
+        final List<PackedAccessKey> duplicates = new ArrayList<>();
+        final NumberGapDetector detector = new NumberGapDetector().onDuplicate(duplicates::add);
+        for (int number : new int[]{1, 2, 3, 7, 8, 10, 3, 3, 8}) {
+            detector.add(key(CNPJ_VALUE, Model.NFE, 1, number));
+        }
+        assertTrue(detector.add(AccessKeyGenerator.generate(key(CNPJ_VALUE, Model.NFE, 2, 3))));
+        assertTrue(detector.add(PackedAccessKey.of(key(CNPJ_VALUE, Model.NFCE, 1, 3))));
+        assertTrue(detector.add(key("11222333000181", Model.NFE, 1, 3)));
+        assertEquals(4, detector.getSeriesCount());
+
+        final SeriesNumbers numbers = detector.series(CNPJ_VALUE, Model.NFE, 1);
+        assertEquals(CNPJ_VALUE, numbers.getCnpj());
+        assertEquals(Model.NFE, numbers.getModel());
+        assertEquals(1, numbers.getSeries());
+        assertEquals(6, numbers.getCount());
+        assertEquals(1, numbers.getFirst());
+        assertEquals(10, numbers.getLast());
+        assertEquals(4, numbers.getMissingCount());
+        assertEquals(List.of("4-6", "9-9"), gaps(numbers));
+        assertEquals(3, numbers.getDuplicateCount());
+        final List<Integer> repeated = new ArrayList<>();
+        numbers.forEachDuplicate(repeated::add);
+        assertEquals(List.of(3, 8), repeated);
+        assertEquals(3, duplicates.size());
+        assertEquals(8, duplicates.get(2).getNumber());
+        assertTrue(numbers.contains(7));
+        assertFalse(numbers.contains(9));
+
+        assertEquals(1, detector.series(CNPJ_VALUE, Model.NFE, 2).getCount());
+        assertNull(detector.series(CNPJ_VALUE, Model.NFE, 3));
+
+        final List<String> order = new ArrayList<>();
+        detector.forEachSeries(series -> order.add(series.getCnpj() + "/" + series.getModel().getCode() + "/" + series.getSeries()));
+        assertEquals(List.of("11222333000181/55/1", CNPJ_VALUE + "/55/1", CNPJ_VALUE + "/55/2", CNPJ_VALUE + "/65/1"), order);
+    }
+
+    @Test
+    @DisplayName("Deve informar lacunas dentro de um intervalo arbitrário")
+    void shouldReportGapsWithinRange() {
+        final NumberGapDetector detector = new NumberGapDetector();
+        for (int number : new int[]{5, 6, 10, 20}) {
+            detector.add(key(CNPJ_VALUE, Model.NFE, 1, number));
+        }
+        final SeriesNumbers numbers = detector.series(CNPJ_VALUE, Model.NFE, 1);
+        final List<String> gaps = new ArrayList<>();
+        numbers.forEachGap(1, 12, (first, last) -> gaps.add(first + "-" + last));
+        assertEquals(List.of("1-4", "7-9", "11-12"), gaps);
+
+        gaps.clear();
+        numbers.forEachGap(6, 6, (first, last) -> gaps.add(first + "-" + last));
+        assertTrue(gaps.isEmpty());
+
+        gaps.clear();
+        numbers.forEachGap(21, 999_999_999, (first, last) -> gaps.add(first + "-" + last));
+        assertEquals(List.of("21-999999999"), gaps);
+
+        assertThrows(IllegalArgumentException.class, () -> numbers.forEachGap(5, 4, (first, last) -> { }));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar o número máximo e manter a série compacta")
+    void shouldHandleLargeSeries() {
+        final NumberGapDetector detector = new NumberGapDetector();
+        final String key = AccessKeyGenerator.generate(key(CNPJ_VALUE, Model.NFE, 1, 999_999_999));
+        detector.add(key);
+        final SeriesNumbers numbers = detector.series(CNPJ_VALUE, Model.NFE, 1);
+        for (int number = 1; number < 2_000_000; number++) {
+            numbers.add(number);
+        }
+        assertEquals(999_999_999, numbers.getLast());
+        assertEquals(List.of("2000000-999999998"), gaps(numbers));
+        assertEquals(999_999_999 - 2_000_000, numbers.getMissingCount());
+        assertTrue(numbers.getSizeInBytes() < 10_000, "bytes: " + numbers.getSizeInBytes());
+    }
+
+    @Test
+    @DisplayName("Deve registrar chaves de várias threads")
+    void shouldBeThreadSafe() throws InterruptedException {
+        final NumberGapDetector detector = new NumberGapDetector();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            final int start = thread;
+            executor.execute(() -> IntStream.iterate(1 + start, n -> n <= 40_000, n -> n + 4)
+                    .forEach(n -> detector.add(PackedAccessKey.of(key(CNPJ_VALUE, Model.NFE, 1, n)))));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        final SeriesNumbers numbers = detector.series(CNPJ_VALUE, Model.NFE, 1);
+        assertNotNull(numbers);
+        assertEquals(40_000, numbers.getCount());
+        assertEquals(0, numbers.getMissingCount());
+        assertEquals(0, numbers.getDuplicateCount());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar chaves inválidas")
+    void shouldRejectInvalidKeys() {
+        final NumberGapDetector detector = new NumberGapDetector();
+        final String key = AccessKeyGenerator.generate(key(CNPJ_VALUE, Model.NFE, 1, 1));
+        assertThrows(AccessKeyException.class, () -> detector.add(key.substring(0, 43) + (char) ('0' + (key.charAt(43) - '0' + 1) % 10)));
+        assertEquals(0, detector.getSeriesCount());
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("Testes da classe Number")
@@ -89,4 +90,15 @@ class NumberTest {
         Number number = new Number(123);
         assertEquals("Number{code=123}", number.toString());
     }
+
+    @Test
+    @DisplayName("of() deve compartilhar instâncias de números pequenos")
+    void testOfReturnsCachedInstancesForSmallNumbers() {
+        assertSame(Number.of(0), Number.of(0));
+        assertSame(Number.of(1_023), Number.of(1_023));
+        assertEquals(new Number(1_024), Number.of(1_024));
+        assertEquals(999_999_999, Number.of(999_999_999).getCode());
+        assertThrows(AccessKeyException.class, () -> Number.of(-1));
+        assertThrows(AccessKeyException.class, () -> Number.of(1_000_000_000));
+    }
 }
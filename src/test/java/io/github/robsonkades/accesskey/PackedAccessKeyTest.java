@@ -0,0 +1,153 @@
+package io.github.robsonkades.accesskey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para PackedAccessKey")
+class PackedAccessKeyTest {
+
+    private static final String ALPHANUMERIC = "352410KSP416L8000109550010000001231999999993";
+
+    @Test
+    @DisplayName("Deve converter sem perda de e para String")
+    void shouldRoundTripString() {
+        assertEquals(ALPHANUMERIC, PackedAccessKey.of(ALPHANUMERIC).generate());
+        String numeric = key("12345678000195", Model.NFE, 1, 1234);
+        assertEquals(numeric, PackedAccessKey.of(numeric).generate());
+    }
+
+    @Test
+    @DisplayName("Deve converter sem perda de e para AccessKey")
+    void shouldRoundTripAccessKey() {
+        AccessKey accessKey = AccessKey.from(ALPHANUMERIC);
+        PackedAccessKey packed = PackedAccessKey.of(accessKey);
+
+        assertEquals(PackedAccessKey.of(ALPHANUMERIC), packed);
+        assertEquals(ALPHANUMERIC, packed.toAccessKey().generate());
+    }
+
+    @Test
+    @DisplayName("Deve expor os campos decodificados")
+    void shouldExposeFields() {
+        PackedAccessKey packed = PackedAccessKey.of(ALPHANUMERIC);
+
+        assertEquals(35, packed.getStateCode());
+        assertEquals(2410, packed.getYearMonthCode());
+        assertEquals("KSP416L8000109", packed.getCnpj());
+        assertEquals(55, packed.getModelCode());
+        assertEquals(1, packed.getSeries());
+        assertEquals(123, packed.getNumber());
+        assertEquals(1, packed.getIssueModeCode());
+        assertEquals(99999999, packed.getCode());
+        assertEquals(3, packed.getCheckDigit());
+    }
+
+    @Test
+    @DisplayName("Deve codificar os extremos de cada campo")
+    void shouldEncodeFieldLimits() {
+        String key = new AccessKeyBuilder()
+                .state(State.DF)
+                .yearMonth(java.time.YearMonth.of(2099, 12))
+                .cnpj("ZZZZZZZZZZZZ" + cnpjCheckDigits("ZZZZZZZZZZZZ"))
+                .model(Model.NFCE)
+                .series(999)
+                .number(999_999_999)
+                .issueMode(IssueMode.SVC_RS)
+                .code(99_999_999)
+                .build()
+                .generate();
+        assertEquals(key, PackedAccessKey.of(key).generate());
+    }
+
+    @Test
+    @DisplayName("equals(), hashCode() e compareTo() devem ser consistentes")
+    void shouldHaveValueSemantics() {
+        PackedAccessKey a = PackedAccessKey.of(ALPHANUMERIC);
+        PackedAccessKey b = PackedAccessKey.of(new StringBuilder(ALPHANUMERIC));
+        PackedAccessKey c = PackedAccessKey.of(key("KSP416L8000109", Model.NFE, 1, 124));
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(0, a.compareTo(b));
+        assertNotEquals(a, c);
+        assertTrue(a.compareTo(c) < 0);
+        assertTrue(c.compareTo(a) > 0);
+    }
+
+    @Test
+    @DisplayName("A ordem natural deve seguir CNPJ, modelo, série e número")
+    void shouldOrderByCnpjModelSeriesNumber() {
+        String[] keys = {
+                key("KSP416L8000109", Model.NFE, 2, 1),
+                key("06546178000119", Model.NFE, 1, 500),
+                key("KSP416L8000109", Model.NFE, 1, 900),
+                key("KSP416L8000109", Model.NFCE, 1, 1),
+                key("06546178000119", Model.NFE, 1, 20),
+        };
+        PackedAccessKey[] packed = Arrays.stream(keys).map(PackedAccessKey::of).sorted().toArray(PackedAccessKey[]::new);
+
+        assertEquals(keys[4], packed[0].generate());
+        assertEquals(keys[1], packed[1].generate());
+        assertEquals(keys[2], packed[2].generate());
+        assertEquals(keys[0], packed[3].generate());
+        assertEquals(keys[3], packed[4].generate());
+    }
+
+    @Test
+    @DisplayName("Deve gravar e ler os três longs de um array")
+    void shouldWriteAndReadLongs() {
+        PackedAccessKey packed = PackedAccessKey.of(ALPHANUMERIC);
+        long[] storage = new long[7];
+
+        assertEquals(4, packed.writeTo(storage, 1));
+        assertArrayEquals(new long[]{packed.getHigh(), packed.getMiddle(), packed.getLow()}, Arrays.copyOfRange(storage, 1, 4));
+        assertEquals(packed, PackedAccessKey.readFrom(storage, 1));
+        assertThrows(IllegalArgumentException.class, () -> PackedAccessKey.readFrom(new long[PackedAccessKey.LONGS], 0));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para chave inválida")
+    void shouldRejectInvalidKey() {
+        AccessKeyException exception = assertThrows(AccessKeyException.class,
+                () -> PackedAccessKey.of("352410KSP416L8000109550010000001231999999990"));
+        assertEquals("Chave de acesso inválida. Esperado DV=3 mas foi encontrado 0.", exception.getMessage());
+    }
+
+    static String key(final String cnpj, final Model model, final int series, final int number) {
+        return new AccessKeyBuilder()
+                .state(State.SP)
+                .yearMonth(java.time.YearMonth.of(2024, 10))
+                .cnpj(cnpj)
+                .model(model)
+                .series(series)
+                .number(number)
+                .issueMode(IssueMode.NORMAL)
+                .code(12345678)
+                .build()
+                .generate();
+    }
+
+    static String cnpjCheckDigits(final String base) {
+        int[] w1 = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+        int[] w2 = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            sum += (base.charAt(i) - '0') * w1[i];
+        }
+        int dv1 = sum % 11 < 2 ? 0 : 11 - sum % 11;
+        sum = dv1 * w2[12];
+        for (int i = 0; i < 12; i++) {
+            sum += (base.charAt(i) - '0') * w2[i];
+        }
+        int dv2 = sum % 11 < 2 ? 0 : 11 - sum % 11;
+        return "" + dv1 + dv2;
+    }
+}
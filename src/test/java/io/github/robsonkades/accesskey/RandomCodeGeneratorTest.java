@@ -0,0 +1,193 @@
+package io.github.robsonkades.accesskey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para RandomCodeGenerator")
+class RandomCodeGeneratorTest {
+
+    private static final String CNPJ = "KSP416L8000109";
+
+    /**
+     * Fonte que devolve sempre os mesmos 4 bytes, seguidos de bytes aleatórios a partir da segunda chamada.
+     */
+    private static Random repeating(final int value) {
+        return new Random(1) {
+            private boolean first = true;
+
+            @Override
+            public void nextBytes(final byte[] bytes) {
+                if (!first) {
+                    super.nextBytes(bytes);
+                    return;
+                }
+                first = false;
+                for (int i = 0; i < bytes.length; i += 4) {
+                    bytes[i] = (byte) (value >>> 24);
+                    bytes[i + 1] = (byte) (value >>> 16);
+                    bytes[i + 2] = (byte) (value >>> 8);
+                    bytes[i + 3] = (byte) value;
+                }
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Deve gerar códigos na faixa permitida")
+    void shouldGenerateCodesInRange() {
+        RandomCodeGenerator generator = new RandomCodeGenerator().source(new Random(7));
+        for (int i = 0; i < 10_000; i++) {
+            int code = generator.next(i);
+            assertTrue(RandomCodeGenerator.isAllowed(code, i), "Código não permitido: " + code);
+        }
+        assertTrue(RandomCodeGenerator.isAllowed(generator.nextCode(5).getCode(), 5));
+    }
+
+    @Test
+    @DisplayName("Não deve gerar código igual ao número")
+    void shouldSkipCodeEqualToNumber() {
+        RandomCodeGenerator generator = new RandomCodeGenerator().source(repeating(4_242));
+
+        assertNotEquals(4_242, generator.next(4_242));
+        assertEquals(4_242, new RandomCodeGenerator().source(repeating(4_242)).next(1));
+    }
+
+    @Test
+    @DisplayName("Deve recusar sequências triviais")
+    void shouldRejectTrivialSequences() {
+        assertFalse(RandomCodeGenerator.isAllowed(0, 1));
+        assertFalse(RandomCodeGenerator.isAllowed(11_111_111, 1));
+        assertFalse(RandomCodeGenerator.isAllowed(12_345_678, 1));
+        assertFalse(RandomCodeGenerator.isAllowed(23_456_789, 1));
+        assertFalse(RandomCodeGenerator.isAllowed(87_654_321, 1));
+        assertFalse(RandomCodeGenerator.isAllowed(1_234_567, 1));
+        assertFalse(RandomCodeGenerator.isAllowed(100_000_000, 1));
+        assertFalse(RandomCodeGenerator.isAllowed(-1, 1));
+        assertTrue(RandomCodeGenerator.isAllowed(12_345_679, 1));
+        assertTrue(RandomCodeGenerator.isAllowed(99_999_998, 1));
+
+        assertNotEquals(12_345_678, new RandomCodeGenerator().source(repeating(12_345_678)).next(1));
+    }
+
+    @Test
+    @DisplayName("Não deve repetir códigos recentes do mesmo emitente")
+    void shouldNotRepeatRecentCodes() {
+        RandomCodeGenerator generator = new RandomCodeGenerator().source(repeating(55_555_554)).recentCodes(1_000);
+
+        Set<Integer> codes = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(codes.add(generator.next(CNPJ, i)));
+        }
+        assertTrue(codes.contains(55_555_554));
+    }
+
+    @Test
+    @DisplayName("Deve controlar os códigos recentes separadamente por emitente")
+    void shouldTrackRecentCodesPerEmitter() {
+        RandomCodeGenerator generator = new RandomCodeGenerator().source(repeating(55_555_554)).recentCodes(10);
+
+        assertEquals(55_555_554, generator.next(CNPJ, 1));
+        assertEquals(55_555_554, generator.next("11222333000181", 1));
+        assertNotEquals(55_555_554, generator.next(CNPJ, 2));
+    }
+
+    @Test
+    @DisplayName("Deve esquecer o emitente usado há mais tempo ao exceder maxEmitters")
+    void shouldEvictLeastRecentlyUsedEmitter() {
+        // sorteia 11.111.112, 22.222.224, 33.333.336, 11.111.112, ...
+        Random cycle = new Random() {
+            private int next;
+
+            @Override
+            public void nextBytes(final byte[] bytes) {
+                for (int i = 0; i < bytes.length; i += 4) {
+                    final int value = 11_111_112 * (1 + next++ % 3);
+                    bytes[i] = (byte) (value >>> 24);
+                    bytes[i + 1] = (byte) (value >>> 16);
+                    bytes[i + 2] = (byte) (value >>> 8);
+                    bytes[i + 3] = (byte) value;
+                }
+            }
+        };
+        RandomCodeGenerator generator = new RandomCodeGenerator().source(cycle).recentCodes(10).maxEmitters(2);
+
+        assertEquals(11_111_112, generator.next(CNPJ, 1));
+        assertEquals(22_222_224, generator.next("11222333000181", 1));
+        assertEquals(33_333_336, generator.next(CNPJ, 2));
+        assertEquals(11_111_112, generator.next("11444777000161", 1));
+
+        // "11222333000181" foi o emitente esquecido: pode receber de novo o mesmo código
+        assertEquals(22_222_224, generator.next("11222333000181", 2));
+    }
+
+    @Test
+    @DisplayName("Deve servir como estratégia de código de AccessKeyRange")
+    void shouldWorkAsCodeStrategy() {
+        RandomCodeGenerator generator = new RandomCodeGenerator().recentCodes(100);
+        List<String> keys = new ArrayList<>();
+        AccessKeyRange.builder()
+                .state(State.SP)
+                .yearMonth(YearMonth.of(2024, 10))
+                .cnpj(CNPJ)
+                .model(Model.NFE)
+                .series(1)
+                .issueMode(IssueMode.NORMAL)
+                .code(generator)
+                .numbers(1, 100)
+                .build()
+                .forEachKey(key -> keys.add(key.toString()));
+
+        Set<String> codes = new HashSet<>();
+        for (String key : keys) {
+            assertTrue(AccessKey.isValid(key));
+            codes.add(key.substring(35, 43));
+        }
+        assertEquals(100, codes.size());
+    }
+
+    @Test
+    @DisplayName("Deve gerar códigos em várias threads")
+    void shouldGenerateConcurrently() throws Exception {
+        RandomCodeGenerator generator = new RandomCodeGenerator().recentCodes(10_000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    if (!RandomCodeGenerator.isAllowed(generator.next(CNPJ, i), i)) {
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        }
+        for (Future<Boolean> future : futures) {
+            assertTrue(future.get());
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve validar a configuração")
+    void shouldValidateConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new RandomCodeGenerator().recentCodes(-1));
+        assertThrows(IllegalArgumentException.class, () -> new RandomCodeGenerator().maxEmitters(0));
+        assertThrows(NullPointerException.class, () -> new RandomCodeGenerator().source(null));
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("Testes da classe Series")
@@ -89,4 +90,15 @@ class SeriesTest {
         Series series = new Series(123);
         assertEquals("Series{code=123}", series.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("of() deve devolver instâncias compartilhadas para todas as séries")
+    void testOfReturnsCachedInstances() {
+        for (int code = 0; code <= 999; code++) {
+            assertSame(Series.of(code), Series.of(code));
+            assertEquals(new Series(code), Series.of(code));
+        }
+        assertThrows(AccessKeyException.class, () -> Series.of(-1));
+        assertThrows(AccessKeyException.class, () -> Series.of(1000));
+    }
+}
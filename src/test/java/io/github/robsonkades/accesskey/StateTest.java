@@ -3,8 +3,11 @@ package io.github.robsonkades.accesskey;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("Testes da Enum State")
@@ -76,4 +79,32 @@ class StateTest {
             assertNotNull(state.toString());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("fromCode(String) deve manter as regras de Integer.parseInt sem depender de exceções")
+    void testFromCodeStringEdgeCases() {
+        assertEquals(State.SP, State.fromCode("+35"));
+        assertEquals(State.SP, State.fromCode("035"));
+        AccessKeyException notNumeric = assertThrows(AccessKeyException.class, () -> State.fromCode("3 5"));
+        assertEquals("Código do estado deve ser numérico: 3 5", notNumeric.getMessage());
+        assertThrows(AccessKeyException.class, () -> State.fromCode((String) null));
+        assertThrows(AccessKeyException.class, () -> State.fromCode(""));
+        assertThrows(AccessKeyException.class, () -> State.fromCode("-"));
+        assertThrows(AccessKeyException.class, () -> State.fromCode("99999999999"));
+        AccessKeyException invalid = assertThrows(AccessKeyException.class, () -> State.fromCode("-35"));
+        assertEquals("Código do estado inválido: -35", invalid.getMessage());
+    }
+
+    @Test
+    @DisplayName("decode() deve ler dois dígitos ASCII no offset sem lançar exceção")
+    void testDecode() {
+        String key = "352410KSP416L8000109550010000001231999999993";
+        assertEquals(State.SP, State.decode(key, 0));
+        assertEquals(State.SP, State.decode(key.getBytes(StandardCharsets.US_ASCII), 0));
+        assertEquals(State.RS, State.decode("xx43", 2));
+        assertNull(State.decode("99", 0));
+        assertNull(State.decode("3A", 0));
+        assertNull(State.decode(new byte[]{'3', (byte) 0xB5}, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> State.decode("3", 0));
+    }
+}